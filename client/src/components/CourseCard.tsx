@@ -10,25 +10,32 @@ import { ReviewService } from '@/services/ReviewService';
 interface CourseCardProps {
   course: CourseDTO;
   showDetails?: boolean;
+  // Rating fetched by the parent for all its cards; null if the course has no reviews.
+  // When omitted, the card fetches its own rating.
+  rating?: number | null;
 }
 
-const CourseCard = ({ course, showDetails = true }: CourseCardProps) => {
-  const [averageRating, setAverageRating] = useState<number | undefined>(undefined);
+const CourseCard = ({ course, showDetails = true, rating }: CourseCardProps) => {
+  const [fetchedRating, setFetchedRating] = useState<number | undefined>(undefined);
+  const averageRating = rating === undefined ? fetchedRating : rating ?? undefined;
   
   useEffect(() => {
+    if (rating !== undefined) {
+      return;
+    }
     const fetchAverageRating = async () => {
       try {
         console.log(`Fetching average rating for course ${course.id}`);
-        const rating = await ReviewService.getAverageRatingByCourseId(course.id);
-        console.log(`Received rating for course ${course.id}:`, rating);
-        setAverageRating(rating);
+        const fetched = await ReviewService.getAverageRatingByCourseId(course.id);
+        console.log(`Received rating for course ${course.id}:`, fetched);
+        setFetchedRating(fetched);
       } catch (error) {
         console.error(`Failed to fetch average rating for course ${course.id}:`, error);
       }
     };
     
     fetchAverageRating();
-  }, [course.id]);
+  }, [course.id, rating]);
   return (
     <Link to={`/courses/${course.id}`}>
       <Card className="h-full card-hover">
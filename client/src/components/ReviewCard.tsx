@@ -10,9 +10,10 @@ import { StudentService } from '@/services/StudentService';
 
 interface ReviewCardProps {
   review: Review;
+  courseTitle?: string; // Known title of the reviewed course; skips the course lookup
 }
 
-const ReviewCard = ({ review }: ReviewCardProps) => {
+const ReviewCard = ({ review, courseTitle }: ReviewCardProps) => {
   const formattedDate = format(new Date(review.createdAt), 'MMM d, yyyy');
   const [courseName, setCourseName] = useState<string | undefined>(undefined);
   const [studentDisplayName, setStudentDisplayName] = useState<string | undefined>(undefined);
@@ -25,7 +26,9 @@ const ReviewCard = ({ review }: ReviewCardProps) => {
       setIsLoading(true);
       try {
         // Fetch course name
-        if (review.courseId) {
+        if (courseTitle) {
+          setCourseName(courseTitle);
+        } else if (review.courseId) {
           const course = await CourseService.getCourseById(review.courseId);
           setCourseName(course?.title);
         }
@@ -53,7 +56,7 @@ const ReviewCard = ({ review }: ReviewCardProps) => {
     };
 
     fetchDetails();
-  }, [review.courseId, review.studentMatrNr, currentUser]);
+  }, [review.courseId, review.studentMatrNr, currentUser, courseTitle]);
 
   if (isLoading) {
     return (
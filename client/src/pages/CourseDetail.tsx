@@ -213,7 +213,7 @@ const CourseDetail = () => {
           ) : (
             <div className="space-y-4">
               {reviews.map(review => (
-                <ReviewCard key={review.reviewId} review={review} />
+                <ReviewCard key={review.reviewId} review={review} courseTitle={course.title} />
               ))}
             </div>
           )}
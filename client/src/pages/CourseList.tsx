@@ -2,6 +2,7 @@ import { useEffect, useState, useCallback } from 'react';
 import { Input } from '@/components/ui/input';
 import { Badge } from '@/components/ui/badge';
 import { CourseService } from '@/services/CourseService';
+import { ReviewService } from '@/services/ReviewService';
 import { CourseDTO } from '@/types';
 import CourseCard from '@/components/CourseCard';
 import Spinner from '@/components/Spinner';
@@ -12,6 +13,7 @@ import { Button } from '@/components/ui/button';
 const CourseList = () => {
 const [courses, setCourses] = useState<CourseDTO[]>([]); // Use CourseDTO
   const [filteredCourses, setFilteredCourses] = useState<CourseDTO[]>([]); // Use CourseDTO
+  const [ratings, setRatings] = useState<Record<string, number | null>>({});
   const [loading, setLoading] = useState(true);
   const [searchQuery, setSearchQuery] = useState('');
   const [selectedCategories, setSelectedCategories] = useState<string[]>([]); // Changed from selectedTags to selectedCategories
@@ -28,6 +30,7 @@ const [courses, setCourses] = useState<CourseDTO[]>([]); // Use CourseDTO
         const coursesData = await CourseService.getAllCourses(); // This is CourseDTO[]
         setCourses(coursesData);
         setFilteredCourses(coursesData);
+        loadRatings(coursesData.map(course => course.id));
       } catch (error) {
         console.error('Failed to load courses:', error);
       } finally {
@@ -35,6 +38,16 @@ const [courses, setCourses] = useState<CourseDTO[]>([]); // Use CourseDTO
       }
     };
     
+    // Ratings of all cards in one request per 100 courses instead of one per card
+    const loadRatings = async (courseIds: string[]) => {
+      try {
+        const stats = await ReviewService.getRatingStatsByCourseIds(courseIds);
+        setRatings(Object.fromEntries(stats.map(s => [s.courseId, s.averageRating])));
+      } catch (error) {
+        console.error('Failed to load course ratings:', error);
+      }
+    };
+    
     loadCourses();
   }, []);
   const filterCourses = useCallback(() => {
@@ -141,7 +154,7 @@ const [courses, setCourses] = useState<CourseDTO[]>([]); // Use CourseDTO
       ) : (
         <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-6">
           {filteredCourses.map(course => (
-            <CourseCard key={course.id} course={course} />
+            <CourseCard key={course.id} course={course} rating={ratings[course.id] ?? null} />
           ))}
         </div>
       )}
@@ -1,4 +1,4 @@
-import { CourseDTO, CategoryDTO } from "../types";
+import { CourseDTO, CategoryDTO, CourseBatchDTO } from "../types";
 import { useAuthStore } from "./AuthService";
 
 const API_BASE_URL = '/api/courses'; 
@@ -47,13 +47,13 @@ export const CourseService = {
     }
   },
   
-  getCoursesByIds: async (ids: string[]): Promise<CourseDTO[]> => {
+  getCoursesByIds: async (ids: string[]): Promise<CourseBatchDTO> => {
     if (ids.length === 0) {
-      return [];
+      return { courses: [], missing: [] };
     }
     const params = new URLSearchParams();
     ids.forEach(id => params.append('ids', id));
-    return fetchApi<CourseDTO[]>(`${API_BASE_URL}?${params.toString()}`);
+    return fetchApi<CourseBatchDTO>(`${API_BASE_URL}?${params.toString()}`);
   },
 
   searchCourses: async (query: string, categoryId?: string): Promise<CourseDTO[]> => {
@@ -1,21 +1,34 @@
-import { Review } from "../types";
+import { RatingStatsDTO, Review } from "../types";
 
-export const ReviewService = {
-  getReviewsByCourseId: async (courseId: string): Promise<Review[]> => {
-    const response = await fetch(`/api/courses/${courseId}/reviews`);
-    if (!response.ok) {
-      throw new Error(`Failed to fetch reviews for course ${courseId}`);
-    }
-    return response.json();
-  },
+// Upper bound of the batch rating endpoint
+const MAX_RATING_BATCH_SIZE = 100;
+// Upper bound of a review list page; lists are paged and the next cursor is in X-Next-Cursor
+const MAX_REVIEW_PAGE_SIZE = 100;
 
-  getReviewsByStudentMatrNr: async (studentMatrNr: string): Promise<Review[]> => {
-    const response = await fetch(`/api/students/${studentMatrNr}/reviews`);
+const fetchAllReviewPages = async (path: string, errorMessage: string): Promise<Review[]> => {
+  const reviews: Review[] = [];
+  let cursor: string | null = null;
+  do {
+    const params = new URLSearchParams({ limit: String(MAX_REVIEW_PAGE_SIZE) });
+    if (cursor) {
+      params.set('after', cursor);
+    }
+    const response = await fetch(`${path}?${params.toString()}`);
     if (!response.ok) {
-      throw new Error(`Failed to fetch reviews for student ${studentMatrNr}`);
+      throw new Error(errorMessage);
     }
-    return response.json();
-  },
+    reviews.push(...await response.json());
+    cursor = response.headers.get('X-Next-Cursor');
+  } while (cursor);
+  return reviews;
+};
+
+export const ReviewService = {
+  getReviewsByCourseId: async (courseId: string): Promise<Review[]> =>
+    fetchAllReviewPages(`/api/courses/${courseId}/reviews`, `Failed to fetch reviews for course ${courseId}`),
+
+  getReviewsByStudentMatrNr: async (studentMatrNr: string): Promise<Review[]> =>
+    fetchAllReviewPages(`/api/students/${studentMatrNr}/reviews`, `Failed to fetch reviews for student ${studentMatrNr}`),
 
   getAverageRatingByCourseId: async (courseId: string): Promise<number | undefined> => {
     const response = await fetch(`/api/courses/${courseId}/average-rating`);
@@ -40,6 +53,20 @@ export const ReviewService = {
     }
   },
 
+  getRatingStatsByCourseIds: async (courseIds: string[]): Promise<RatingStatsDTO[]> => {
+    const stats: RatingStatsDTO[] = [];
+    for (let i = 0; i < courseIds.length; i += MAX_RATING_BATCH_SIZE) {
+      const params = new URLSearchParams();
+      courseIds.slice(i, i + MAX_RATING_BATCH_SIZE).forEach(id => params.append('ids', id));
+      const response = await fetch(`/api/courses/rating-stats?${params.toString()}`);
+      if (!response.ok) {
+        throw new Error('Failed to fetch rating stats');
+      }
+      stats.push(...await response.json());
+    }
+    return stats;
+  },
+
   addReview: async (reviewData: Omit<Review, 'reviewId' | 'createdAt'>): Promise<Review> => {
     const response = await fetch('/api/reviews', {
       method: 'POST',
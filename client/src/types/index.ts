@@ -44,6 +44,18 @@ export interface CourseDTO {
   avgRating?: number;
 }
 
+export interface CourseBatchDTO {
+  courses: CourseDTO[];
+  missing: string[];
+}
+
+export interface RatingStatsDTO {
+  courseId: string;
+  reviewCount: number;
+  averageRating: number | null;
+  histogram: Record<string, number>;
+}
+
 export interface ReviewDTO {
   reviewId: number;
   studentMatrNr: string;
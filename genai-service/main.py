@@ -7,6 +7,7 @@ from langchain_community.vectorstores import FAISS
 from langchain_core.documents import Document
 from ChatWebUI import ChatWebUI
 import requests
+import json
 from dotenv import load_dotenv
 import os
 import logging
@@ -88,13 +89,19 @@ def build_rag_context(question: str) -> str:
     response_courses = requests.get("http://course-service:8080/courses")
     courses = response_courses.json()
 
-    response_reviews = requests.get("http://review-service:8080/reviews")
-    reviews = response_reviews.json()
+    # Stream the reviews as NDJSON and keep only their texts per course instead of one big JSON array
+    review_texts_by_course: Dict[str, list] = {}
+    with requests.get("http://review-service:8080/reviews",
+                      headers={"Accept": "application/x-ndjson"}, stream=True) as response_reviews:
+        response_reviews.raise_for_status()
+        for line in response_reviews.iter_lines():
+            if line:
+                review = json.loads(line)
+                review_texts_by_course.setdefault(review["courseId"], []).append(review["reviewText"] or "")
 
     documents = []
     for course in courses:
-        course_reviews = [r for r in reviews if r["courseId"] == course["id"]]
-        review_texts = " ".join([r["reviewText"] for r in course_reviews])
+        review_texts = " ".join(review_texts_by_course.get(course["id"], []))
         text = f"{course['title']} {course['description']} Credits: {course['credits']} Reviews: {review_texts}"
         documents.append(Document(page_content=text, metadata={"id": course["id"]}))
 
@@ -0,0 +1,96 @@
+package com.team.course_service.catalog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Serializes and parses a synthetic 10k-course catalog as JSON, CBOR and Smile.
+ * The encoded size of each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayloadFormatBenchmark {
+    private static final TypeReference<List<CourseDTO>> COURSE_LIST = new TypeReference<>() { };
+    private static final String[] WORDS = {
+            "algorithms", "graph", "learning", "deep", "vision", "database", "systems", "distributed",
+            "robotics", "security", "cloud", "analysis", "optimization", "networks", "compiler", "theory",
+            "the", "of", "and", "students", "will", "learn", "methods", "for", "in", "practice"};
+    private static final String[] CATEGORIES = {
+            "Algorithms", "Computer Graphics and Vision", "Databases and Information Systems",
+            "Machine Learning and Analytics", "Software Engineering", "Security and Privacy"};
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String format;
+
+    @Param({"10000"})
+    public int courses;
+
+    private ObjectMapper mapper;
+    private List<CourseDTO> catalog;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "CBOR" -> new CBORMapper();
+            case "SMILE" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        Random random = new Random(42);
+        catalog = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            Set<CategoryDTO> categories = new LinkedHashSet<>();
+            for (int c = 0; c < 1 + random.nextInt(3); c++) {
+                categories.add(new CategoryDTO(CATEGORIES[random.nextInt(CATEGORIES.length)]));
+            }
+            catalog.add(new CourseDTO(String.format("IN%05d", i), words(random, 3 + random.nextInt(5)),
+                    words(random, 60 + random.nextInt(120)), 3 + random.nextInt(8), categories));
+        }
+        encoded = mapper.writeValueAsBytes(catalog);
+        System.out.printf("%n%s: %d courses encode to %d bytes%n", format, courses, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public List<CourseDTO> parse() throws IOException {
+        return mapper.readValue(encoded, COURSE_LIST);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.team.course_service.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Evaluates filter expressions against a synthetic catalog of 40 categories, credits from 3 to 15
+ * and three quarters of the courses rated. {@code parseAndEvaluate} includes parsing, the others
+ * measure the bitmap operations alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseFilterBenchmark {
+    private static final String COMPLEX =
+            "category:\"Category 3\" AND (credits:5..8 OR rating:4..) AND NOT category:\"Category 7\"";
+
+    @Param({"10000", "100000"})
+    public int courses;
+
+    private CourseBitmapIndex index;
+    private FilterExpression single;
+    private FilterExpression complex;
+    private FilterExpression wide;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<CourseDTO> catalog = new ArrayList<>(courses);
+        Map<String, Double> ratings = new HashMap<>();
+        for (int i = 0; i < courses; i++) {
+            Set<CategoryDTO> categories = new HashSet<>();
+            for (int c = 1 + random.nextInt(3); c > 0; c--) {
+                categories.add(new CategoryDTO("Category " + random.nextInt(40)));
+            }
+            String id = "C" + i;
+            catalog.add(new CourseDTO(id, "Course " + i, null, 3 + random.nextInt(13), categories));
+            if (random.nextInt(4) > 0) {
+                ratings.put(id, 1 + random.nextInt(41) / 10.0);
+            }
+        }
+        index = CourseBitmapIndex.build(catalog).withRatings(catalog, ratings);
+        single = FilterExpression.parse("category:\"Category 3\"");
+        complex = FilterExpression.parse(COMPLEX);
+        wide = FilterExpression.parse("(credits:5..10 OR rating:3..) AND NOT rating:none");
+    }
+
+    @Benchmark
+    public void singleCategory(Blackhole blackhole) {
+        blackhole.consume(index.evaluate(single).toArray(0, 20));
+    }
+
+    @Benchmark
+    public void complexExpression(Blackhole blackhole) {
+        blackhole.consume(index.evaluate(complex).toArray(0, 20));
+    }
+
+    @Benchmark
+    public void wideExpression(Blackhole blackhole) {
+        blackhole.consume(index.evaluate(wide).toArray(0, 20));
+    }
+
+    @Benchmark
+    public void parseAndEvaluate(Blackhole blackhole) {
+        blackhole.consume(index.evaluate(FilterExpression.parse(COMPLEX)).toArray(0, 20));
+    }
+}
@@ -0,0 +1,134 @@
+package com.team.course_service.search;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the in-memory inverted index with the SQL {@code LIKE '%x%'} path behind
+ * {@code findByTitleContainingIgnoreCase}, on a synthetic catalog held in an in-memory H2 database.
+ * The LIKE variants return unranked matches; the index additionally scores and ranks them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseSearchBenchmark {
+    private static final String[] VOCABULARY = {
+            "algorithms", "graph", "learning", "deep", "vision", "database", "systems", "distributed",
+            "robotics", "security", "cloud", "analysis", "optimization", "networks", "compiler", "theory",
+            "probabilistic", "models", "software", "engineering", "parallel", "computing", "data", "mining",
+            "statistics", "visualization", "reinforcement", "language", "processing", "quantum", "verification",
+            "embedded", "control", "geometry", "rendering", "cryptography", "storage", "query", "transaction"};
+
+    @Param({"1000", "10000"})
+    public int courses;
+
+    private InvertedIndex index;
+    private Connection connection;
+    private PreparedStatement likeTitle;
+    private PreparedStatement likeTitleOrDescription;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        Random random = new Random(42);
+        List<String[]> rows = new ArrayList<>(courses);
+        InvertedIndex.Document[] documents = new InvertedIndex.Document[courses];
+        for (int i = 0; i < courses; i++) {
+            String title = words(random, 3 + random.nextInt(4));
+            String description = words(random, 40 + random.nextInt(80));
+            rows.add(new String[] {"C" + i, title, description});
+            documents[i] = new InvertedIndex.Document(TextAnalyzer.terms(title), TextAnalyzer.terms(description));
+        }
+        index = InvertedIndex.build(documents);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS course");
+            ddl.execute("CREATE TABLE course (id VARCHAR(10) PRIMARY KEY, title VARCHAR(255) NOT NULL, "
+                    + "description TEXT, credits INT NOT NULL)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO course VALUES (?, ?, ?, 5)")) {
+            for (String[] row : rows) {
+                insert.setString(1, row[0]);
+                insert.setString(2, row[1]);
+                insert.setString(3, row[2]);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        likeTitle = connection.prepareStatement("SELECT id FROM course WHERE LOWER(title) LIKE ?");
+        likeTitleOrDescription = connection.prepareStatement(
+                "SELECT id FROM course WHERE LOWER(title) LIKE ? OR LOWER(description) LIKE ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void invertedIndexTerm(Blackhole blackhole) {
+        blackhole.consume(index.search("reinforcement", 20));
+    }
+
+    @Benchmark
+    public void invertedIndexPhrase(Blackhole blackhole) {
+        blackhole.consume(index.search("\"deep learning\" vision", 20));
+    }
+
+    @Benchmark
+    public void invertedIndexPrefix(Blackhole blackhole) {
+        blackhole.consume(index.search("crypt*", 20));
+    }
+
+    @Benchmark
+    public void sqlLikeTitle(Blackhole blackhole) throws SQLException {
+        likeTitle.setString(1, "%reinforcement%");
+        consume(likeTitle, blackhole);
+    }
+
+    @Benchmark
+    public void sqlLikeTitleOrDescription(Blackhole blackhole) throws SQLException {
+        likeTitleOrDescription.setString(1, "%reinforcement%");
+        likeTitleOrDescription.setString(2, "%reinforcement%");
+        consume(likeTitleOrDescription, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getString(1));
+            }
+        }
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.team.course_service.suggest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookup cost of the suggestion trie on a synthetic catalog, for short (broad) and longer (narrow) prefixes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrefixTrieBenchmark {
+    private static final String[] VOCABULARY = {
+            "algorithms", "graph", "learning", "deep", "vision", "database", "systems", "distributed",
+            "robotics", "security", "cloud", "analysis", "optimization", "networks", "compiler", "theory"};
+
+    @Param({"1000", "10000"})
+    public int courses;
+
+    private PrefixTrie trie;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+        List<Integer> ordinals = new ArrayList<>();
+        for (int c = 0; c < courses; c++) {
+            keys.add(String.format("in%05d ", c));
+            ordinals.add(c);
+            List<String> words = new ArrayList<>();
+            for (int w = 0; w < 2 + random.nextInt(4); w++) {
+                words.add(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+            }
+            for (int w = 0; w < words.size(); w++) {
+                keys.add(String.join(" ", words.subList(w, words.size())) + " ");
+                ordinals.add(c);
+            }
+        }
+        int[] rank = new int[courses];
+        for (int c = 0; c < courses; c++) {
+            rank[c] = c;
+        }
+        trie = PrefixTrie.build(keys.toArray(String[]::new), ordinals.stream().mapToInt(Integer::intValue).toArray(),
+                rank, CourseSuggestService.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public int[] shortPrefix() {
+        return trie.lookup("d");
+    }
+
+    @Benchmark
+    public int[] phrasePrefix() {
+        return trie.lookup("deep learning sec");
+    }
+
+    @Benchmark
+    public int[] idPrefix() {
+        return trie.lookup("in012");
+    }
+}
@@ -0,0 +1,14 @@
+package com.team.course_service.bulkimport;
+
+/**
+ * Thrown when a bulk import body cannot be parsed or contains an invalid course. Nothing of the import is written.
+ */
+public class CatalogImportException extends IllegalArgumentException {
+    public CatalogImportException(String message) {
+        super(message);
+    }
+
+    public CatalogImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
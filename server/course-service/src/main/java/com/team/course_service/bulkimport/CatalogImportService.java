@@ -0,0 +1,235 @@
+package com.team.course_service.bulkimport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.team.course_service.catalog.CatalogChangeTracker;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CatalogImportResultDTO;
+import com.team.course_service.dto.CourseImportRecord;
+import com.team.course_service.prerequisite.PrerequisiteCycleException;
+import com.team.course_service.prerequisite.PrerequisiteGraph;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Imports courses with their categories and prerequisites from a streamed NDJSON or CSV body.
+ * Records are parsed one at a time and written in batches of {@code course.import.batch-size} courses,
+ * all in one transaction. Prerequisite links are written last, since they may reference courses further
+ * down the body, and the resulting prerequisite relation, imported and existing links together, must stay
+ * acyclic. Once committed, the second-level cache, which JDBC writes do not invalidate, is cleared
+ * and the catalog snapshot is rebuilt, which bumps the catalog version once.
+ */
+@Service
+public class CatalogImportService {
+    static final int MAX_ID_LENGTH = 10;
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_CATEGORY_LENGTH = 50;
+
+    private final CatalogImportWriter writer;
+    private final CatalogChangeTracker changeTracker;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final TransactionTemplate transactionTemplate;
+    private final SessionFactory sessionFactory;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+    private final int batchSize;
+
+    public CatalogImportService(CatalogImportWriter writer, CatalogChangeTracker changeTracker,
+                                CatalogSnapshotService catalogSnapshotService,
+                                PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory,
+                                ObjectMapper objectMapper, @Value("${course.import.batch-size:500}") int batchSize) {
+        this.writer = writer;
+        this.changeTracker = changeTracker;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.ndjsonReader = objectMapper.readerFor(CourseImportRecord.class);
+        this.csvReader = new CsvMapper().readerFor(CourseImportRecord.class)
+                .with(CsvSchema.emptySchema().withHeader().withArrayElementSeparator(";"));
+        this.batchSize = batchSize;
+    }
+
+    public CatalogImportResultDTO importCourses(InputStream body, ImportFormat format) {
+        int[] counts = transactionTemplate.execute(status -> write(body, format));
+        sessionFactory.getCache().evictAllRegions();
+        long version = catalogSnapshotService.refresh().getVersion();
+        return new CatalogImportResultDTO(counts[0], counts[1], counts[2], version);
+    }
+
+    /** Returns the number of courses, distinct categories and prerequisite links written. */
+    private int[] write(InputStream body, ImportFormat format) {
+        ObjectReader reader = format == ImportFormat.CSV ? csvReader : ndjsonReader;
+        Set<String> categoriesWritten = new HashSet<>();
+        Map<String, Set<String>> prerequisites = new LinkedHashMap<>();
+        List<CourseImportRecord> batch = new ArrayList<>(batchSize);
+        int courses = 0;
+        try (MappingIterator<CourseImportRecord> records = reader.readValues(body)) {
+            while (hasNext(records)) {
+                CourseImportRecord record = next(records);
+                validate(record, courses + 1);
+                batch.add(record);
+                // A course listed again replaces its earlier prerequisites, like any other field
+                prerequisites.put(record.getId(), normalize(record.getPrerequisites()));
+                courses++;
+                if (batch.size() == batchSize) {
+                    flush(batch, categoriesWritten);
+                }
+            }
+            flush(batch, categoriesWritten);
+        } catch (IOException e) {
+            throw new CatalogImportException("Could not read import body: " + e.getMessage(), e);
+        }
+
+        int links = 0;
+        Map<String, Set<String>> chunk = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, Set<String>> entry : prerequisites.entrySet()) {
+                chunk.put(entry.getKey(), entry.getValue());
+                links += entry.getValue().size();
+                if (chunk.size() == batchSize) {
+                    writer.replacePrerequisites(chunk);
+                    chunk.clear();
+                }
+            }
+            writer.replacePrerequisites(chunk);
+        } catch (DataIntegrityViolationException e) {
+            throw new CatalogImportException("A prerequisite references a course that does not exist", e);
+        }
+        if (!prerequisites.isEmpty()) {
+            checkAcyclic(writer.readPrerequisites());
+        }
+        if (courses > 0) {
+            // Bumps the change counter now and again after commit, like a JPA write would
+            changeTracker.markChanged();
+        }
+        return new int[] {courses, categoriesWritten.size(), links};
+    }
+
+    /**
+     * Rejects the import if the prerequisites, as they would be committed, contain a cycle. Single imported
+     * records only rule out self-references; longer cycles can span records or close through existing links.
+     */
+    private static void checkAcyclic(Map<String, List<String>> prerequisites) {
+        Map<String, Integer> ordinals = new LinkedHashMap<>();
+        prerequisites.forEach((course, required) -> {
+            ordinals.putIfAbsent(course, ordinals.size());
+            required.forEach(id -> ordinals.putIfAbsent(id, ordinals.size()));
+        });
+        List<String> ids = List.copyOf(ordinals.keySet());
+        int[][] direct = new int[ids.size()][];
+        for (int c = 0; c < direct.length; c++) {
+            direct[c] = prerequisites.getOrDefault(ids.get(c), List.of()).stream()
+                    .mapToInt(ordinals::get)
+                    .toArray();
+        }
+        try {
+            PrerequisiteGraph.build(direct, ids);
+        } catch (PrerequisiteCycleException e) {
+            throw new CatalogImportException("Import would create a prerequisite cycle: "
+                    + String.join(" requires ", e.getCycle()), e);
+        }
+    }
+
+    private void flush(List<CourseImportRecord> batch, Set<String> categoriesWritten) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> newCategories = new LinkedHashSet<>();
+        Map<String, Set<String>> categoriesByCourse = new LinkedHashMap<>();
+        for (CourseImportRecord record : batch) {
+            Set<String> categories = normalize(record.getCategories());
+            categoriesByCourse.put(record.getId(), categories);
+            for (String category : categories) {
+                if (categoriesWritten.add(category)) {
+                    newCategories.add(category);
+                }
+            }
+        }
+        writer.upsertCategories(newCategories);
+        writer.upsertCourses(batch);
+        writer.replaceCategories(categoriesByCourse);
+        batch.clear();
+    }
+
+    private static boolean hasNext(MappingIterator<CourseImportRecord> records) throws IOException {
+        try {
+            return records.hasNextValue();
+        } catch (JsonProcessingException e) {
+            throw invalid(e);
+        }
+    }
+
+    private static CourseImportRecord next(MappingIterator<CourseImportRecord> records) throws IOException {
+        try {
+            return records.nextValue();
+        } catch (JsonProcessingException e) {
+            throw invalid(e);
+        }
+    }
+
+    private static CatalogImportException invalid(JsonProcessingException e) {
+        JsonLocation location = e.getLocation();
+        String where = location == null ? "" : " at line " + location.getLineNr();
+        return new CatalogImportException("Malformed record" + where + ": " + e.getOriginalMessage(), e);
+    }
+
+    private static void validate(CourseImportRecord record, int number) {
+        if (record.getId() != null) {
+            record.setId(record.getId().trim());
+        }
+        String problem = null;
+        if (isBlank(record.getId()) || record.getId().length() > MAX_ID_LENGTH) {
+            problem = "id must be 1 to " + MAX_ID_LENGTH + " characters";
+        } else if (isBlank(record.getTitle()) || record.getTitle().length() > MAX_TITLE_LENGTH) {
+            problem = "title must be 1 to " + MAX_TITLE_LENGTH + " characters";
+        } else if (record.getCredits() == null || record.getCredits() < 1) {
+            problem = "credits must be a positive number";
+        } else if (normalize(record.getCategories()).stream().anyMatch(name -> name.length() > MAX_CATEGORY_LENGTH)) {
+            problem = "category names must be at most " + MAX_CATEGORY_LENGTH + " characters";
+        } else if (normalize(record.getPrerequisites()).contains(record.getId())) {
+            problem = "a course cannot be its own prerequisite";
+        }
+        if (problem != null) {
+            throw new CatalogImportException("Invalid record " + number + ": " + problem);
+        }
+    }
+
+    /** Trimmed, non-blank, distinct entries. */
+    private static Set<String> normalize(List<String> values) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    normalized.add(value.trim());
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
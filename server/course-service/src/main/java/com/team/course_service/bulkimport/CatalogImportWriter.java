@@ -0,0 +1,122 @@
+package com.team.course_service.bulkimport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.team.course_service.dto.CourseImportRecord;
+
+/**
+ * Writes imported rows with JDBC batch statements, bypassing JPA so that no entity is loaded or managed.
+ * Upserts use the native statement of the database: {@code ON DUPLICATE KEY UPDATE} on MySQL,
+ * {@code MERGE ... KEY} on H2. On MySQL, {@code rewriteBatchedStatements} turns each batch into
+ * multi-row inserts.
+ */
+@Repository
+public class CatalogImportWriter {
+
+    private enum Dialect {
+        MYSQL("INSERT IGNORE INTO category (name) VALUES (?)",
+              "INSERT INTO course (id, title, description, credits) VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE title = VALUES(title), description = VALUES(description), "
+                + "credits = VALUES(credits)"),
+        H2("MERGE INTO category (name) KEY (name) VALUES (?)",
+           "MERGE INTO course (id, title, description, credits) KEY (id) VALUES (?, ?, ?, ?)");
+
+        final String upsertCategory;
+        final String upsertCourse;
+
+        Dialect(String upsertCategory, String upsertCourse) {
+            this.upsertCategory = upsertCategory;
+            this.upsertCourse = upsertCourse;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Dialect dialect;
+
+    public CatalogImportWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertCategories(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[] {name});
+        }
+        jdbcTemplate.batchUpdate(dialect().upsertCategory, rows);
+    }
+
+    public void upsertCourses(List<CourseImportRecord> courses) {
+        List<Object[]> rows = new ArrayList<>(courses.size());
+        for (CourseImportRecord course : courses) {
+            rows.add(new Object[] {course.getId(), course.getTitle(), course.getDescription(), course.getCredits()});
+        }
+        jdbcTemplate.batchUpdate(dialect().upsertCourse, rows);
+    }
+
+    /** Replaces the category links of the given courses. */
+    public void replaceCategories(Map<String, ? extends Collection<String>> categoriesByCourse) {
+        replaceLinks("course_category", "category_name", categoriesByCourse);
+    }
+
+    /** Replaces the prerequisite links of the given courses; all referenced courses must exist by now. */
+    public void replacePrerequisites(Map<String, ? extends Collection<String>> prerequisitesByCourse) {
+        replaceLinks("course_prerequisite", "prerequisite_id", prerequisitesByCourse);
+    }
+
+    /** All prerequisite links as stored now, including those written earlier in the current transaction. */
+    public Map<String, List<String>> readPrerequisites() {
+        Map<String, List<String>> prerequisites = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT course_id, prerequisite_id FROM course_prerequisite", rs -> {
+            prerequisites.computeIfAbsent(rs.getString(1), id -> new ArrayList<>()).add(rs.getString(2));
+        });
+        return prerequisites;
+    }
+
+    private void replaceLinks(String table, String column, Map<String, ? extends Collection<String>> linksByCourse) {
+        if (linksByCourse.isEmpty()) {
+            return;
+        }
+        List<Object[]> courses = new ArrayList<>(linksByCourse.size());
+        List<Object[]> links = new ArrayList<>();
+        linksByCourse.forEach((course, targets) -> {
+            courses.add(new Object[] {course});
+            for (String target : targets) {
+                links.add(new Object[] {course, target});
+            }
+        });
+        jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE course_id = ?", courses);
+        if (!links.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (course_id, " + column + ") VALUES (?, ?)", links);
+        }
+    }
+
+    private Dialect dialect() {
+        Dialect current = dialect;
+        if (current == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            if (normalized.contains("mysql") || normalized.contains("mariadb")) {
+                current = Dialect.MYSQL;
+            } else if (normalized.contains("h2")) {
+                current = Dialect.H2;
+            } else {
+                throw new IllegalStateException("Bulk import does not support " + product);
+            }
+            dialect = current;
+        }
+        return current;
+    }
+}
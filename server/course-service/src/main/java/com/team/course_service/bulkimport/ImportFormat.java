@@ -0,0 +1,30 @@
+package com.team.course_service.bulkimport;
+
+import java.util.Optional;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Body formats accepted by the bulk import.
+ */
+public enum ImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final MediaType mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public MediaType getMediaType() { return mediaType; }
+
+    public static Optional<ImportFormat> of(MediaType contentType) {
+        for (ImportFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(contentType)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.team.course_service.catalog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Binary encodings a {@link SerializedPayload} can be transcoded to, for consumers that would rather
+ * not parse JSON text. Both carry exactly the JSON data model, so the JSON payload is their single source.
+ */
+public enum BinaryFormat {
+    CBOR("application/cbor", "cbor", new CBORFactory()),
+    SMILE("application/x-jackson-smile", "smile", new SmileFactory());
+
+    private final String contentType;
+    private final String etagSuffix;
+    private final JsonFactory factory;
+
+    BinaryFormat(String contentType, String etagSuffix, JsonFactory factory) {
+        this.contentType = contentType;
+        this.etagSuffix = etagSuffix;
+        this.factory = factory;
+    }
+
+    public String getContentType() { return contentType; }
+
+    String getEtagSuffix() { return etagSuffix; }
+
+    JsonFactory getFactory() { return factory; }
+}
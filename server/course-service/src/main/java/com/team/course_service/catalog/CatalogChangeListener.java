@@ -0,0 +1,28 @@
+package com.team.course_service.catalog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+
+/**
+ * JPA entity listener attached to {@code Course} and {@code Category}.
+ * Instantiated by Hibernate through Spring's bean container, so the tracker is injected.
+ */
+public class CatalogChangeListener {
+    private final CatalogChangeTracker tracker;
+
+    public CatalogChangeListener(CatalogChangeTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @PrePersist
+    @PostPersist
+    @PostUpdate
+    @PreRemove
+    @PostRemove
+    void onChange(Object entity) {
+        tracker.markChanged();
+    }
+}
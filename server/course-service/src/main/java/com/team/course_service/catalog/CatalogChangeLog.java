@@ -0,0 +1,75 @@
+package com.team.course_service.catalog;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded history of which courses each catalog version added, modified or removed.
+ * Only the most recent {@value #MAX_VERSIONS} versions are kept; older deltas can no longer be served.
+ * <p>
+ * Versions are only meaningful within one history: a restarted instance counts from 1 again, or from the version
+ * in its snapshot file, and replicas count independently. Every {@link #reset} therefore starts a new random
+ * epoch, and a version is only valid together with the epoch it was issued in.
+ */
+public final class CatalogChangeLog {
+    static final int MAX_VERSIONS = 1024;
+
+    /** The courses whose content differs between {@code version - 1} and {@code version}. */
+    public record Entry(long version, Set<String> upserted, Set<String> deleted, boolean categoriesChanged) { }
+
+    /** Union of several consecutive entries: IDs that were touched at all, and whether categories changed. */
+    public record Delta(Set<String> touched, boolean categoriesChanged) { }
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    /** Oldest version a delta can start from. */
+    private long baseVersion;
+    private volatile String epoch = newEpoch();
+
+    /** Starts a new history, and with it a new epoch, at {@code version}, the first snapshot ever built. */
+    synchronized void reset(long version) {
+        entries.clear();
+        baseVersion = version;
+        epoch = newEpoch();
+    }
+
+    /** Identifies the history the versions belong to; clients send it back alongside a version. */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    synchronized void append(Entry entry) {
+        entries.addLast(entry);
+        if (entries.size() > MAX_VERSIONS) {
+            baseVersion = entries.removeFirst().version();
+        }
+    }
+
+    /**
+     * Changes between {@code since} and {@code until}, both inclusive bounds of versions that existed.
+     *
+     * @return the delta, or {@code null} if {@code since} is older than the retained history
+     */
+    public synchronized Delta between(long since, long until) {
+        if (since < baseVersion) {
+            return null;
+        }
+        Set<String> touched = new LinkedHashSet<>();
+        boolean categoriesChanged = false;
+        for (Entry entry : entries) {
+            if (entry.version() > since && entry.version() <= until) {
+                touched.addAll(entry.upserted());
+                touched.addAll(entry.deleted());
+                categoriesChanged |= entry.categoriesChanged();
+            }
+        }
+        return new Delta(touched, categoriesChanged);
+    }
+
+    private static String newEpoch() {
+        return HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+}
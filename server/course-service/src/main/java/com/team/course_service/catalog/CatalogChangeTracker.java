@@ -0,0 +1,38 @@
+package com.team.course_service.catalog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts modifications of catalog entities so the snapshot can tell cheaply whether it is stale.
+ * A change made inside a transaction bumps the counter again once the transaction completes,
+ * so a snapshot built from not yet committed (or later rolled back) data is never considered current.
+ */
+@Component
+public class CatalogChangeTracker {
+    private static final Object SYNC_KEY = new Object();
+
+    private final AtomicLong modCount = new AtomicLong();
+
+    public long current() {
+        return modCount.get();
+    }
+
+    public void markChanged() {
+        modCount.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(SYNC_KEY)) {
+            TransactionSynchronizationManager.bindResource(SYNC_KEY, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SYNC_KEY);
+                    modCount.incrementAndGet();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.team.course_service.catalog;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Immutable, versioned view of the whole catalog.
+ * The DTOs held here are shared between requests and must be treated as read-only.
+ * A snapshot is either built from the database or opened from a {@link SnapshotFile}; in the latter case
+ * courses and payloads are read from the mapped file on access.
+ */
+public final class CatalogSnapshot {
+    private final long version;
+    private final long sourceStamp;
+    private final List<CourseDTO> courses;
+    private final ToIntFunction<String> ordinals;
+    private final List<CategoryDTO> categories;
+    private final Map<String, List<String>> prerequisites;
+    private final SerializedPayload coursesPayload;
+    private final IntFunction<SerializedPayload> coursePayloads;
+    private final SerializedPayload categoriesPayload;
+
+    CatalogSnapshot(long version, long sourceStamp, List<CourseDTO> courses, Map<String, Integer> ordinals,
+                    List<CategoryDTO> categories, Map<String, List<String>> prerequisites,
+                    SerializedPayload coursesPayload,
+                    SerializedPayload[] coursePayloads, SerializedPayload categoriesPayload) {
+        this(version, sourceStamp, courses, id -> ordinals.getOrDefault(id, -1), categories, prerequisites,
+                coursesPayload, ordinal -> coursePayloads[ordinal], categoriesPayload);
+    }
+
+    CatalogSnapshot(long version, long sourceStamp, List<CourseDTO> courses, ToIntFunction<String> ordinals,
+                    List<CategoryDTO> categories, Map<String, List<String>> prerequisites,
+                    SerializedPayload coursesPayload,
+                    IntFunction<SerializedPayload> coursePayloads, SerializedPayload categoriesPayload) {
+        this.version = version;
+        this.sourceStamp = sourceStamp;
+        this.courses = Collections.unmodifiableList(courses);
+        this.ordinals = ordinals;
+        this.categories = Collections.unmodifiableList(categories);
+        this.prerequisites = Collections.unmodifiableMap(prerequisites);
+        this.coursesPayload = coursesPayload;
+        this.coursePayloads = coursePayloads;
+        this.categoriesPayload = categoriesPayload;
+    }
+
+    /** Monotonically increasing; only bumped when the content actually changed. */
+    public long getVersion() { return version; }
+
+    long getSourceStamp() { return sourceStamp; }
+
+    /** Courses in catalog order; the position of a course is its ordinal. */
+    public List<CourseDTO> getCourses() { return courses; }
+
+    public List<CategoryDTO> getCategories() { return categories; }
+
+    /** Direct prerequisite IDs of a course, sorted; empty if it has none. */
+    public List<String> getPrerequisites(String id) {
+        return prerequisites.getOrDefault(id, List.of());
+    }
+
+    Map<String, List<String>> getPrerequisites() { return prerequisites; }
+
+    /** Ordinal of the course with the given ID, or -1 if it is not part of the catalog. */
+    public int ordinalOf(String id) {
+        return id == null ? -1 : ordinals.applyAsInt(id);
+    }
+
+    public CourseDTO getCourse(String id) {
+        int ordinal = ordinalOf(id);
+        return ordinal < 0 ? null : courses.get(ordinal);
+    }
+
+    public SerializedPayload getCoursesPayload() { return coursesPayload; }
+
+    public SerializedPayload getCoursePayload(String id) {
+        int ordinal = ordinalOf(id);
+        return ordinal < 0 ? null : coursePayloads.apply(ordinal);
+    }
+
+    public SerializedPayload getCategoriesPayload() { return categoriesPayload; }
+
+    /** Whether the course with the given ID is new or different compared to {@code previous}. */
+    public boolean isChangedSince(CatalogSnapshot previous, String id) {
+        SerializedPayload now = getCoursePayload(id);
+        SerializedPayload before = previous == null ? null : previous.getCoursePayload(id);
+        return now != null && (before == null || !before.getEtag().equals(now.getEtag()));
+    }
+}
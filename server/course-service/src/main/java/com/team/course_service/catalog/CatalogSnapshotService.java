@@ -0,0 +1,284 @@
+package com.team.course_service.catalog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.mapper.CategoryMapper;
+import com.team.course_service.service.CategoryService;
+import com.team.course_service.service.CourseService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Holds the current {@link CatalogSnapshot} and rebuilds it when the catalog changes.
+ * Readers only pay for a volatile read and a counter comparison; JPA and Jackson are
+ * touched exclusively while a new snapshot is being built.
+ * Every version bump is recorded in a {@link CatalogChangeLog} and announced with a {@link CatalogVersionEvent};
+ * events for versions that follow each other quickly may be coalesced into one for the latest version.
+ * <p>
+ * When a snapshot file is configured, every new version is written to it. On startup the file is mapped and
+ * served right away while the first snapshot is built from the database in the background, retried until the
+ * database can be read.
+ */
+@Service
+public class CatalogSnapshotService {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final Duration CONFIRM_BACKOFF_MIN = Duration.ofSeconds(1);
+    private static final Duration CONFIRM_BACKOFF_MAX = Duration.ofSeconds(30);
+
+    private final CourseService courseService;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
+    private final CatalogChangeTracker changeTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final CatalogChangeLog changeLog = new CatalogChangeLog();
+    private final AtomicReference<CatalogChangeLog.Entry> unpublished = new AtomicReference<>();
+
+    private final Path snapshotFile;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean confirming;
+
+    public CatalogSnapshotService(CourseService courseService, CategoryService categoryService,
+                                  ObjectMapper objectMapper, CatalogChangeTracker changeTracker,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${course.catalog.snapshot-file:}") String snapshotFile) {
+        this.courseService = courseService;
+        this.categoryService = categoryService;
+        this.objectMapper = objectMapper;
+        this.changeTracker = changeTracker;
+        this.eventPublisher = eventPublisher;
+        this.snapshotFile = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    /**
+     * Serves the catalog from the snapshot file, if there is one, until the database has been read.
+     * The file may lag behind the database; the background rebuild replaces it with the current content.
+     */
+    @PostConstruct
+    public void warmStart() {
+        if (snapshotFile == null) {
+            return;
+        }
+        CatalogSnapshot mapped;
+        try {
+            mapped = SnapshotFile.open(snapshotFile);
+        } catch (IOException e) {
+            logger.info("No usable catalog snapshot file at {}: {}", snapshotFile, e.getMessage());
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (snapshot != null) {
+                return;
+            }
+            changeLog.reset(mapped.getVersion());
+            confirming = true;
+            snapshot = mapped;
+        } finally {
+            rebuildLock.unlock();
+        }
+        logger.info("Catalog snapshot v{} mapped from {}: {} courses", mapped.getVersion(), snapshotFile,
+                mapped.getCourses().size());
+        Thread.ofPlatform().daemon().name("catalog-warm-start").start(this::confirm);
+    }
+
+    /**
+     * Replaces the mapped snapshot with one read from the database. Until that succeeds, e.g. while the database
+     * is not reachable yet, the mapped snapshot keeps being served and the read is retried with backoff.
+     */
+    private void confirm() {
+        Duration backoff = CONFIRM_BACKOFF_MIN;
+        while (true) {
+            try {
+                refresh();
+                confirming = false;
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Could not confirm the mapped catalog snapshot; retrying in {}", backoff, e);
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                confirming = false;
+                return;
+            }
+            backoff = backoff.multipliedBy(2);
+            if (backoff.compareTo(CONFIRM_BACKOFF_MAX) > 0) {
+                backoff = CONFIRM_BACKOFF_MAX;
+            }
+        }
+    }
+
+    /** Which courses each retained version changed. */
+    public CatalogChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Returns the current snapshot, rebuilding it first if a catalog entity changed since it was built.
+     * While another thread is rebuilding, the previous snapshot is served instead of waiting;
+     * the same holds for a mapped snapshot while its replacement is built on startup.
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current != null && (confirming || current.getSourceStamp() == changeTracker.current())) {
+            return current;
+        }
+        if (current != null && !rebuildLock.tryLock()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        }
+        try {
+            current = snapshot;
+            if (current == null || current.getSourceStamp() != changeTracker.current()) {
+                current = rebuild(current);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+        publishChange();
+        return current;
+    }
+
+    /**
+     * Unconditionally reloads the catalog, e.g. after a write that bypassed JPA or made by another instance.
+     * The version only changes if the reloaded content differs.
+     */
+    @Scheduled(fixedDelayString = "${course.catalog.refresh-interval:PT5M}",
+               initialDelayString = "${course.catalog.refresh-interval:PT5M}")
+    public CatalogSnapshot refresh() {
+        CatalogSnapshot rebuilt;
+        rebuildLock.lock();
+        try {
+            rebuilt = rebuild(snapshot);
+        } finally {
+            rebuildLock.unlock();
+        }
+        publishChange();
+        return rebuilt;
+    }
+
+    private void publishChange() {
+        CatalogChangeLog.Entry change = unpublished.getAndSet(null);
+        if (change != null) {
+            eventPublisher.publishEvent(new CatalogVersionEvent(change));
+        }
+    }
+
+    private CatalogSnapshot rebuild(CatalogSnapshot previous) {
+        long stamp = changeTracker.current();
+        List<CourseDTO> courses = new ArrayList<>(courseService.getAllCourseDtos());
+        List<CategoryDTO> categories = categoryService.getAllCategories().stream()
+                .map(CategoryMapper::toDto)
+                .sorted(Comparator.comparing(CategoryDTO::getName))
+                .toList();
+        Map<String, List<String>> prerequisites = new HashMap<>();
+        courseService.getAllPrerequisites().forEach((id, direct) ->
+                prerequisites.put(id, direct.stream().sorted().distinct().toList()));
+
+        Map<String, Integer> ordinals = new HashMap<>(courses.size() * 2);
+        SerializedPayload[] coursePayloads = new SerializedPayload[courses.size()];
+        for (int i = 0; i < courses.size(); i++) {
+            CourseDTO course = courses.get(i);
+            course.setCategories(sortedCategories(course));
+            ordinals.put(course.getId(), i);
+            coursePayloads[i] = serialize(course);
+        }
+        SerializedPayload coursesPayload = serialize(courses);
+        SerializedPayload categoriesPayload = serialize(categories);
+
+        boolean unchanged = previous != null
+                && previous.getCoursesPayload().getEtag().equals(coursesPayload.getEtag())
+                && previous.getCategoriesPayload().getEtag().equals(categoriesPayload.getEtag())
+                && previous.getPrerequisites().equals(prerequisites);
+        long version = previous == null ? 1 : unchanged ? previous.getVersion() : previous.getVersion() + 1;
+
+        CatalogSnapshot rebuilt = new CatalogSnapshot(version, stamp, courses, ordinals, categories, prerequisites,
+                coursesPayload, coursePayloads, categoriesPayload);
+        if (previous == null) {
+            changeLog.reset(version);
+        } else if (!unchanged) {
+            CatalogChangeLog.Entry change = diff(previous, rebuilt);
+            changeLog.append(change);
+            unpublished.set(change);
+        }
+        snapshot = rebuilt;
+        if (!unchanged) {
+            logger.info("Catalog snapshot v{} built: {} courses, {} categories", version, courses.size(), categories.size());
+            persist(rebuilt);
+        }
+        return rebuilt;
+    }
+
+    private void persist(CatalogSnapshot rebuilt) {
+        if (snapshotFile == null) {
+            return;
+        }
+        try {
+            SnapshotFile.write(rebuilt, snapshotFile);
+        } catch (IOException e) {
+            logger.warn("Could not write catalog snapshot file {}", snapshotFile, e);
+        }
+    }
+
+    private static CatalogChangeLog.Entry diff(CatalogSnapshot previous, CatalogSnapshot current) {
+        Set<String> upserted = new LinkedHashSet<>();
+        for (CourseDTO course : current.getCourses()) {
+            if (current.isChangedSince(previous, course.getId())) {
+                upserted.add(course.getId());
+            }
+        }
+        Set<String> deleted = new LinkedHashSet<>();
+        for (CourseDTO course : previous.getCourses()) {
+            if (current.ordinalOf(course.getId()) < 0) {
+                deleted.add(course.getId());
+            }
+        }
+        boolean categoriesChanged = !previous.getCategoriesPayload().getEtag().equals(current.getCategoriesPayload().getEtag());
+        return new CatalogChangeLog.Entry(current.getVersion(), Set.copyOf(upserted), Set.copyOf(deleted), categoriesChanged);
+    }
+
+    private static LinkedHashSet<CategoryDTO> sortedCategories(CourseDTO course) {
+        LinkedHashSet<CategoryDTO> sorted = new LinkedHashSet<>();
+        if (course.getCategories() != null) {
+            course.getCategories().stream()
+                    .sorted(Comparator.comparing(CategoryDTO::getName))
+                    .forEach(sorted::add);
+        }
+        return sorted;
+    }
+
+    private SerializedPayload serialize(Object value) {
+        try {
+            return SerializedPayload.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize catalog snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.team.course_service.catalog;
+
+/**
+ * Published after a new catalog version became current. Listeners run on the thread that rebuilt
+ * the snapshot, after the rebuild lock was released.
+ */
+public final class CatalogVersionEvent {
+    private final CatalogChangeLog.Entry change;
+
+    public CatalogVersionEvent(CatalogChangeLog.Entry change) {
+        this.change = change;
+    }
+
+    public long getVersion() { return change.version(); }
+
+    public CatalogChangeLog.Entry getChange() { return change; }
+}
@@ -0,0 +1,116 @@
+package com.team.course_service.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * A response body that has been serialized once and can be written many times.
+ * Holds the identity and gzip encodings together with a strong ETag derived from the content.
+ * Binary encodings are transcoded from the JSON bytes on first request and kept from then on.
+ * A payload may also be backed by a memory-mapped {@link SnapshotFile}; responses then stream its
+ * buffers straight from the mapping, and only {@link #getJson()} and {@link #getGzip()} copy them.
+ */
+public final class SerializedPayload {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final ByteBuffer json;
+    private final ByteBuffer gzip;
+    private final String etag;
+    private final AtomicReferenceArray<byte[]> binary = new AtomicReferenceArray<>(BinaryFormat.values().length);
+
+    private SerializedPayload(ByteBuffer json, ByteBuffer gzip, String etag) {
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+    }
+
+    public static SerializedPayload of(byte[] json) {
+        return new SerializedPayload(ByteBuffer.wrap(json), ByteBuffer.wrap(gzip(json)), "\"" + digest(json) + "\"");
+    }
+
+    /** A payload whose encodings stay in the given (typically mapped) buffers. */
+    static SerializedPayload mapped(ByteBuffer json, ByteBuffer gzip, String etag) {
+        return new SerializedPayload(json, gzip, etag);
+    }
+
+    public byte[] getJson() { return bytes(json); }
+    public byte[] getGzip() { return bytes(gzip); }
+
+    /** Read-only view of the identity encoding, to write it without a copy of the whole payload. */
+    public ByteBuffer getJsonBuffer() { return json.asReadOnlyBuffer(); }
+    public ByteBuffer getGzipBuffer() { return gzip.asReadOnlyBuffer(); }
+
+    /** Strong ETag of the identity encoding. */
+    public String getEtag() { return etag; }
+
+    /** Strong ETag of the gzip encoding; a different content-coding needs its own validator. */
+    public String getGzipEtag() { return variantEtag("gz"); }
+
+    /** The payload in the given binary format; transcoding races are harmless since the result is deterministic. */
+    public byte[] getBinary(BinaryFormat format) {
+        byte[] encoded = binary.get(format.ordinal());
+        if (encoded == null) {
+            encoded = transcode(getJson(), format.getFactory());
+            binary.set(format.ordinal(), encoded);
+        }
+        return encoded;
+    }
+
+    /** Strong ETag of the given binary format. */
+    public String getBinaryEtag(BinaryFormat format) { return variantEtag(format.getEtagSuffix()); }
+
+    private String variantEtag(String suffix) {
+        return etag.substring(0, etag.length() - 1) + "-" + suffix + "\"";
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), copy);
+        return copy;
+    }
+
+    private static byte[] transcode(byte[] json, JsonFactory target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length * 3 / 4));
+        try (JsonParser parser = JSON.createParser(json); JsonGenerator generator = target.createGenerator(out)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
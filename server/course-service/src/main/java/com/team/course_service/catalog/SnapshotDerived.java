@@ -0,0 +1,56 @@
+package com.team.course_service.catalog;
+
+/**
+ * A value derived from a {@link CatalogSnapshot}, such as an index, that is rebuilt lazily
+ * the first time it is requested for a newer catalog version. The builder receives the
+ * previous snapshot and value so it can update only what changed.
+ *
+ * @param <T> the derived, immutable value
+ */
+public final class SnapshotDerived<T> {
+
+    @FunctionalInterface
+    public interface Builder<T> {
+        /**
+         * @param previousSnapshot snapshot the previous value was built from, or {@code null} on the first build
+         * @param previous         the previous value, or {@code null} on the first build
+         * @param current          snapshot to build the new value from
+         */
+        T build(CatalogSnapshot previousSnapshot, T previous, CatalogSnapshot current);
+    }
+
+    private static final class Entry<T> {
+        final CatalogSnapshot snapshot;
+        final T value;
+
+        Entry(CatalogSnapshot snapshot, T value) {
+            this.snapshot = snapshot;
+            this.value = value;
+        }
+    }
+
+    private final Builder<T> builder;
+    private volatile Entry<T> entry;
+
+    public SnapshotDerived(Builder<T> builder) {
+        this.builder = builder;
+    }
+
+    public T get(CatalogSnapshot snapshot) {
+        Entry<T> current = entry;
+        if (current != null && current.snapshot.getVersion() == snapshot.getVersion()) {
+            return current.value;
+        }
+        synchronized (this) {
+            current = entry;
+            if (current != null && current.snapshot.getVersion() == snapshot.getVersion()) {
+                return current.value;
+            }
+            T value = current == null
+                    ? builder.build(null, null, snapshot)
+                    : builder.build(current.snapshot, current.value, snapshot);
+            entry = new Entry<>(snapshot, value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.team.course_service.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Binary image of a {@link CatalogSnapshot}, written after each build and memory-mapped on startup so the
+ * service can answer from the last known catalog before the database has been read.
+ * <p>
+ * Layout (big-endian): a fixed header followed by
+ * <ul>
+ *   <li>course records: fixed-size rows of string references, credits, list ranges and payload locations,
+ *       in catalog order</li>
+ *   <li>ID index: course ordinals sorted by ID, searched with a binary search</li>
+ *   <li>lists: string references for course categories, prerequisites and the category list</li>
+ *   <li>strings: length-prefixed UTF-8, deduplicated, decoded only when read</li>
+ *   <li>blobs: the serialized JSON and gzip payloads, served straight from the mapping</li>
+ * </ul>
+ * Files are replaced atomically, so a reader either sees the previous complete file or the new one.
+ */
+final class SnapshotFile {
+    private static final int MAGIC = 0x43534E50; // "CSNP"
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 96;
+    private static final int COURSES_PAYLOAD = 56;
+    private static final int CATEGORIES_PAYLOAD = 76;
+
+    // Course record fields, in ints
+    private static final int ID = 0;
+    private static final int TITLE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int CREDITS = 3;
+    private static final int CATEGORIES = 4;
+    private static final int PREREQUISITES = 6;
+    private static final int PAYLOAD = 8;
+    private static final int RECORD_SIZE = 13 * Integer.BYTES;
+
+    /** Source stamp of an opened snapshot; never equal to a tracker count, so it is always considered stale. */
+    static final long UNCONFIRMED = -1;
+
+    private SnapshotFile() {
+        // Private constructor to prevent instantiation
+    }
+
+    static void write(CatalogSnapshot snapshot, Path path) throws IOException {
+        List<CourseDTO> courses = snapshot.getCourses();
+        Strings strings = new Strings();
+        Section records = new Section();
+        Section lists = new Section();
+        Section blobs = new Section();
+
+        for (CourseDTO course : courses) {
+            records.writeInt(strings.ref(course.getId()));
+            records.writeInt(strings.ref(course.getTitle()));
+            records.writeInt(strings.ref(course.getDescription()));
+            records.writeInt(course.getCredits());
+            List<String> categories = course.getCategories() == null ? List.of()
+                    : course.getCategories().stream().map(CategoryDTO::getName).toList();
+            writeList(records, lists, strings, categories);
+            writeList(records, lists, strings, snapshot.getPrerequisites(course.getId()));
+            writePayload(records, blobs, strings, snapshot.getCoursePayload(course.getId()));
+        }
+
+        Integer[] byId = new Integer[courses.size()];
+        Arrays.setAll(byId, i -> i);
+        Arrays.sort(byId, Comparator.comparing(ordinal -> courses.get(ordinal).getId()));
+        Section index = new Section();
+        for (int ordinal : byId) {
+            index.writeInt(ordinal);
+        }
+
+        List<String> categoryNames = snapshot.getCategories().stream().map(CategoryDTO::getName).toList();
+        int categoryList = lists.size() / Integer.BYTES;
+        for (String name : categoryNames) {
+            lists.writeInt(strings.ref(name));
+        }
+        Section header = new Section();
+        Section payloads = new Section();
+        writePayload(payloads, blobs, strings, snapshot.getCoursesPayload());
+        writePayload(payloads, blobs, strings, snapshot.getCategoriesPayload());
+
+        long recordsOffset = HEADER_SIZE;
+        long indexOffset = recordsOffset + records.size();
+        long listsOffset = indexOffset + index.size();
+        long stringsOffset = listsOffset + lists.size();
+        long blobsOffset = stringsOffset + strings.section.size();
+        long fileLength = blobsOffset + blobs.size();
+        if (fileLength > Integer.MAX_VALUE) {
+            throw new IOException("Catalog snapshot too large for a snapshot file: " + fileLength + " bytes");
+        }
+        header.writeInt(MAGIC);
+        header.writeInt(FORMAT);
+        header.writeLong(snapshot.getVersion());
+        header.writeInt(courses.size());
+        header.writeInt(categoryNames.size());
+        header.writeInt(categoryList);
+        header.writeInt((int) recordsOffset);
+        header.writeInt((int) indexOffset);
+        header.writeInt((int) listsOffset);
+        header.writeInt((int) stringsOffset);
+        header.writeInt((int) blobsOffset);
+        header.writeLong(fileLength);
+        payloads.bytes.writeTo(header.bytes);
+
+        Path target = path.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                for (Section section : List.of(header, records, index, lists, strings.section, blobs)) {
+                    section.bytes.writeTo(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /** Maps the file and returns a snapshot that reads from it; the snapshot's source stamp is {@link #UNCONFIRMED}. */
+    static CatalogSnapshot open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a catalog snapshot file: " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        Mapping mapping = new Mapping(buffer, path);
+
+        List<CategoryDTO> categories = new ArrayList<>(mapping.categoryCount);
+        for (int i = 0; i < mapping.categoryCount; i++) {
+            categories.add(new CategoryDTO(mapping.listString(mapping.categoryList + i)));
+        }
+        Map<String, List<String>> prerequisites = new HashMap<>();
+        for (int ordinal = 0; ordinal < mapping.courseCount; ordinal++) {
+            List<String> direct = mapping.list(ordinal, PREREQUISITES);
+            if (!direct.isEmpty()) {
+                prerequisites.put(mapping.string(mapping.field(ordinal, ID)), direct);
+            }
+        }
+        return new CatalogSnapshot(mapping.version, UNCONFIRMED, new MappedCourses(mapping), mapping::ordinalOf,
+                categories, prerequisites, mapping.payload(COURSES_PAYLOAD), mapping::coursePayload,
+                mapping.payload(CATEGORIES_PAYLOAD));
+    }
+
+    private static void writeList(Section records, Section lists, Strings strings, List<String> values)
+            throws IOException {
+        records.writeInt(lists.size() / Integer.BYTES);
+        records.writeInt(values.size());
+        for (String value : values) {
+            lists.writeInt(strings.ref(value));
+        }
+    }
+
+    private static void writePayload(Section target, Section blobs, Strings strings, SerializedPayload payload)
+            throws IOException {
+        byte[] json = payload.getJson();
+        byte[] gzip = payload.getGzip();
+        target.writeInt(blobs.size());
+        target.writeInt(json.length);
+        blobs.bytes.write(json);
+        target.writeInt(blobs.size());
+        target.writeInt(gzip.length);
+        blobs.bytes.write(gzip);
+        target.writeInt(strings.ref(payload.getEtag()));
+    }
+
+    private static final class Section {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        int size() { return bytes.size(); }
+
+        void writeInt(int value) throws IOException { out.writeInt(value); }
+
+        void writeLong(long value) throws IOException { out.writeLong(value); }
+    }
+
+    /** String table; each distinct string is stored once and referenced by its offset, -1 meaning null. */
+    private static final class Strings {
+        private final Section section = new Section();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        int ref(String value) throws IOException {
+            if (value == null) {
+                return -1;
+            }
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = section.size();
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                section.writeInt(utf8.length);
+                section.bytes.write(utf8);
+                offsets.put(value, offset);
+            }
+            return offset;
+        }
+    }
+
+    /** Read access to a mapped file; all reads are absolute, so one mapping is safely shared between threads. */
+    private static final class Mapping {
+        private final ByteBuffer buffer;
+        private final long version;
+        private final int courseCount;
+        private final int categoryCount;
+        private final int categoryList;
+        private final int records;
+        private final int index;
+        private final int lists;
+        private final int strings;
+        private final int blobs;
+
+        Mapping(ByteBuffer buffer, Path path) throws IOException {
+            this.buffer = buffer;
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT || buffer.getLong(48) != buffer.capacity()) {
+                throw new IOException("Not a catalog snapshot file or incomplete: " + path);
+            }
+            version = buffer.getLong(8);
+            courseCount = buffer.getInt(16);
+            categoryCount = buffer.getInt(20);
+            categoryList = buffer.getInt(24);
+            records = buffer.getInt(28);
+            index = buffer.getInt(32);
+            lists = buffer.getInt(36);
+            strings = buffer.getInt(40);
+            blobs = buffer.getInt(44);
+            if (index - records != courseCount * RECORD_SIZE || lists - index != courseCount * Integer.BYTES) {
+                throw new IOException("Corrupt catalog snapshot file: " + path);
+            }
+        }
+
+        int field(int ordinal, int field) {
+            return buffer.getInt(records + ordinal * RECORD_SIZE + field * Integer.BYTES);
+        }
+
+        String string(int ref) {
+            if (ref < 0) {
+                return null;
+            }
+            int at = strings + ref;
+            byte[] utf8 = new byte[buffer.getInt(at)];
+            buffer.get(at + Integer.BYTES, utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        String listString(int position) {
+            return string(buffer.getInt(lists + position * Integer.BYTES));
+        }
+
+        List<String> list(int ordinal, int field) {
+            int start = field(ordinal, field);
+            int count = field(ordinal, field + 1);
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(listString(start + i));
+            }
+            return values;
+        }
+
+        int ordinalOf(String id) {
+            int low = 0;
+            int high = courseCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int ordinal = buffer.getInt(index + mid * Integer.BYTES);
+                int cmp = string(field(ordinal, ID)).compareTo(id);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return ordinal;
+                }
+            }
+            return -1;
+        }
+
+        SerializedPayload coursePayload(int ordinal) {
+            return payload(records + ordinal * RECORD_SIZE + PAYLOAD * Integer.BYTES);
+        }
+
+        /** Reads a payload location (JSON offset and length, gzip offset and length, ETag) stored at {@code at}. */
+        SerializedPayload payload(int at) {
+            ByteBuffer json = buffer.slice(blobs + buffer.getInt(at), buffer.getInt(at + 4));
+            ByteBuffer gzip = buffer.slice(blobs + buffer.getInt(at + 8), buffer.getInt(at + 12));
+            return SerializedPayload.mapped(json, gzip, string(buffer.getInt(at + 16)));
+        }
+    }
+
+    private static final class MappedCourses extends AbstractList<CourseDTO> implements RandomAccess {
+        private final Mapping mapping;
+
+        MappedCourses(Mapping mapping) {
+            this.mapping = mapping;
+        }
+
+        @Override
+        public CourseDTO get(int ordinal) {
+            Objects.checkIndex(ordinal, mapping.courseCount);
+            return new MappedCourse(mapping, ordinal);
+        }
+
+        @Override
+        public int size() {
+            return mapping.courseCount;
+        }
+    }
+
+    /** A course whose fields are decoded from the mapping each time they are read. */
+    static final class MappedCourse extends CourseDTO {
+        private final Mapping mapping;
+        private final int ordinal;
+
+        private MappedCourse(Mapping mapping, int ordinal) {
+            this.mapping = mapping;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getId() { return mapping.string(mapping.field(ordinal, ID)); }
+
+        @Override
+        public String getTitle() { return mapping.string(mapping.field(ordinal, TITLE)); }
+
+        @Override
+        public String getDescription() { return mapping.string(mapping.field(ordinal, DESCRIPTION)); }
+
+        @Override
+        public int getCredits() { return mapping.field(ordinal, CREDITS); }
+
+        @Override
+        public Set<CategoryDTO> getCategories() {
+            Set<CategoryDTO> categories = new LinkedHashSet<>();
+            for (String name : mapping.list(ordinal, CATEGORIES)) {
+                categories.add(new CategoryDTO(name));
+            }
+            return categories;
+        }
+
+        @Override
+        public void setId(String id) { throw readOnly(); }
+
+        @Override
+        public void setTitle(String title) { throw readOnly(); }
+
+        @Override
+        public void setDescription(String description) { throw readOnly(); }
+
+        @Override
+        public void setCredits(int credits) { throw readOnly(); }
+
+        @Override
+        public void setCategories(Set<CategoryDTO> categories) { throw readOnly(); }
+
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Courses of a mapped catalog snapshot are read-only");
+        }
+    }
+}
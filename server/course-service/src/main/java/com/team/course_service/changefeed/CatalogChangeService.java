@@ -0,0 +1,59 @@
+package com.team.course_service.changefeed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogChangeLog;
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CatalogChangesDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Answers "what changed since version N" from the snapshot's change log.
+ */
+@Service
+public class CatalogChangeService {
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    public CatalogChangeService(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    /**
+     * @param epoch the epoch {@code since} was issued in; ignored when {@code since} is 0
+     * @param since a version the caller has seen, or 0 to receive the whole catalog
+     * @return the changes up to the current version, or empty if {@code since} is no longer retained
+     *         or belongs to another history, e.g. from before a restart; the caller has to reload the full catalog then
+     */
+    public Optional<CatalogChangesDTO> getChangesSince(String epoch, long since) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        CatalogChangeLog changeLog = catalogSnapshotService.getChangeLog();
+        String currentEpoch = changeLog.getEpoch();
+        long version = snapshot.getVersion();
+        if (since == 0) {
+            return Optional.of(new CatalogChangesDTO(currentEpoch, 0, version, true, snapshot.getCourses(), List.of()));
+        }
+        if (!currentEpoch.equals(epoch) || since < 0 || since > version) {
+            return Optional.empty();
+        }
+        CatalogChangeLog.Delta delta = changeLog.between(since, version);
+        if (delta == null) {
+            return Optional.empty();
+        }
+        List<CourseDTO> upserted = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        for (String id : delta.touched()) {
+            CourseDTO course = snapshot.getCourse(id);
+            if (course != null) {
+                upserted.add(course);
+            } else {
+                deleted.add(id);
+            }
+        }
+        return Optional.of(new CatalogChangesDTO(currentEpoch, since, version, delta.categoriesChanged(), upserted, deleted));
+    }
+}
@@ -0,0 +1,77 @@
+package com.team.course_service.changefeed;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.CatalogVersionEvent;
+
+/**
+ * Pushes catalog version bumps to Server-Sent Events subscribers. Each event only carries the new
+ * version and its epoch; subscribers fetch the delta from {@code /courses/changes?since=}. Snapshots are rebuilt
+ * lazily, so while anyone is subscribed the catalog is polled for pending changes.
+ */
+@Component
+public class CatalogChangeStream {
+    static final String EVENT_NAME = "catalog-version";
+    private static final Logger logger = LoggerFactory.getLogger(CatalogChangeStream.class);
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final Duration timeout;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    public CatalogChangeStream(CatalogSnapshotService catalogSnapshotService,
+                               @Value("${course.catalog.change-stream-timeout:PT30M}") Duration timeout) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.timeout = timeout;
+    }
+
+    /** Registers a subscriber and immediately sends it the current version. */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        send(emitter, catalogSnapshotService.current().getVersion());
+        return emitter;
+    }
+
+    @EventListener
+    public void onCatalogVersion(CatalogVersionEvent event) {
+        for (SseEmitter emitter : emitters) {
+            send(emitter, event.getVersion());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${course.catalog.change-poll-interval:PT1S}")
+    public void pollForChanges() {
+        if (!emitters.isEmpty()) {
+            catalogSnapshotService.current();
+        }
+    }
+
+    private void send(SseEmitter emitter, long version) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(version))
+                    .name(EVENT_NAME)
+                    .data(Map.of("version", version, "epoch", catalogSnapshotService.getChangeLog().getEpoch())));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping catalog change subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.team.course_service.config;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.team.course_service.model.CacheRegions;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Exports hits, misses, puts and evictions of every second-level cache region to Micrometer, tagged with
+ * the region name ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, ...). The counters come
+ * from the JCache statistics, which {@code application.conf} enables for all regions.
+ */
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getCache().getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jcache)) {
+                return;
+            }
+            CacheManager cacheManager = jcache.getCacheManager();
+            for (String region : CacheRegions.ALL) {
+                // Regions used only by queries are created on first use; looking them up creates them now
+                Cache<Object, Object> cache = cacheManager.getCache(region);
+                if (cache != null) {
+                    JCacheMetrics.monitor(registry, cache);
+                }
+            }
+        };
+    }
+}
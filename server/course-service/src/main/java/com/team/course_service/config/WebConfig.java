@@ -24,6 +24,7 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:3000") // Allow your frontend origin
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // Allowed HTTP methods
                         .allowedHeaders("*") // Allow all headers
+                        .exposedHeaders("ETag", "X-Catalog-Version", "X-Catalog-Epoch", "X-Next-Cursor") // Readable by the frontend
                         .allowCredentials(true); // Allow credentials
             }
         };
@@ -0,0 +1,65 @@
+package com.team.course_service.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.team.course_service.changefeed.CatalogChangeService;
+import com.team.course_service.changefeed.CatalogChangeStream;
+import com.team.course_service.dto.CatalogChangesDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses/changes")
+public class CatalogChangeController {
+    private final CatalogChangeService catalogChangeService;
+    private final CatalogChangeStream catalogChangeStream;
+
+    public CatalogChangeController(CatalogChangeService catalogChangeService, CatalogChangeStream catalogChangeStream) {
+        this.catalogChangeService = catalogChangeService;
+        this.catalogChangeStream = catalogChangeStream;
+    }
+
+    @Operation(
+        summary = "Catalog changes since a version",
+        description = "Returns the courses added, modified or removed after the given catalog version "
+                    + "(as sent in the X-Catalog-Version header) of the given epoch (X-Catalog-Epoch header). "
+                    + "Version 0 returns the whole catalog.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Changes up to the current version",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CatalogChangesDTO.class)
+                 )),
+            @ApiResponse(responseCode = "410", description = "Version no longer retained, unknown or from another epoch; reload the full catalog")
+  })
+    @GetMapping
+    public ResponseEntity<CatalogChangesDTO> getChanges(
+        @Parameter(description = "last catalog version the client has seen") 
+        @RequestParam long since,
+        @Parameter(description = "epoch the version was issued in; required unless since is 0")
+        @RequestParam(required = false) String epoch) {
+        return catalogChangeService.getChangesSince(epoch, since)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.GONE).build());
+    }
+
+    @Operation(
+        summary = "Stream of catalog versions",
+        description = "Server-Sent Events stream that sends the current catalog version on connect "
+                    + "and every later version as it becomes current.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamVersions() {
+        return catalogChangeStream.subscribe();
+    }
+}
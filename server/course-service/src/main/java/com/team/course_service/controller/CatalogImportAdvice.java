@@ -0,0 +1,21 @@
+package com.team.course_service.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.team.course_service.bulkimport.CatalogImportException;
+
+/**
+ * Answers bulk imports that were rolled back because of their content with 400 and the reason.
+ */
+@RestControllerAdvice
+public class CatalogImportAdvice {
+
+    @ExceptionHandler(CatalogImportException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidImport(CatalogImportException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.team.course_service.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.bulkimport.CatalogImportService;
+import com.team.course_service.bulkimport.ImportFormat;
+import com.team.course_service.dto.CatalogImportResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/admin/courses")
+public class CatalogImportController {
+    private final CatalogImportService catalogImportService;
+
+    public CatalogImportController(CatalogImportService catalogImportService) {
+        this.catalogImportService = catalogImportService;
+    }
+
+    @Operation(
+        summary = "Bulk import courses",
+        description = "Creates or updates the courses in the body, one per NDJSON line or CSV row "
+                    + "(header id,title,description,credits,categories,prerequisites; list columns separated by ';'). "
+                    + "Categories are created as needed; the categories and prerequisites of each imported course "
+                    + "are replaced. Either the whole body is imported or nothing.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Import committed",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CatalogImportResultDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Malformed or invalid record, unknown prerequisite or prerequisite cycle"),
+            @ApiResponse(responseCode = "415", description = "Body is neither NDJSON nor CSV")
+  })
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<CatalogImportResultDTO> importCourses(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream body) {
+        return ImportFormat.of(MediaType.parseMediaType(contentType))
+                .map(format -> ResponseEntity.ok(catalogImportService.importCourses(body, format)))
+                .orElse(ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build());
+    }
+}
@@ -0,0 +1,193 @@
+package com.team.course_service.controller;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.team.course_service.catalog.BinaryFormat;
+import com.team.course_service.catalog.SerializedPayload;
+
+/**
+ * Writes pre-serialized catalog payloads, honouring {@code If-None-Match}, {@code Accept-Encoding}
+ * and {@code Accept}. JSON is the default; CBOR and Smile are served to clients that prefer them.
+ * JSON and gzip bodies are streamed from the payload's buffers, so a payload mapped from the snapshot
+ * file is written from the page cache instead of being copied onto the heap per request.
+ */
+final class CatalogResponses {
+    static final String CATALOG_VERSION_HEADER = "X-Catalog-Version";
+    static final String CATALOG_EPOCH_HEADER = "X-Catalog-Epoch";
+
+    private CatalogResponses() {
+        // Private constructor to prevent instantiation
+    }
+
+    static ResponseEntity<Resource> of(SerializedPayload payload, long version, String epoch, String accept,
+                                     String ifNoneMatch, String acceptEncoding) {
+        List<MediaType> accepted = parseAccept(accept);
+        double jsonQuality = quality(accepted, MediaType.APPLICATION_JSON);
+        BinaryFormat binary = null;
+        double binaryQuality = 0;
+        for (BinaryFormat format : BinaryFormat.values()) {
+            double q = quality(accepted, MediaType.parseMediaType(format.getContentType()));
+            if (q > binaryQuality) {
+                binary = format;
+                binaryQuality = q;
+            }
+        }
+        // JSON wins ties, e.g. for */*, and is also sent when nothing offered is acceptable
+        if (binaryQuality <= jsonQuality) {
+            binary = null;
+        }
+
+        boolean gzip = binary == null && acceptsGzip(acceptEncoding);
+        String etag = binary != null ? payload.getBinaryEtag(binary) : gzip ? payload.getGzipEtag() : payload.getEtag();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setVary(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING));
+        headers.setCacheControl(CacheControl.maxAge(0, TimeUnit.SECONDS).mustRevalidate());
+        headers.set(CATALOG_VERSION_HEADER, Long.toString(version));
+        headers.set(CATALOG_EPOCH_HEADER, epoch);
+
+        if (matches(ifNoneMatch, etag)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        if (binary != null) {
+            headers.setContentType(MediaType.parseMediaType(binary.getContentType()));
+            return new ResponseEntity<>(new ByteArrayResource(payload.getBinary(binary)), headers, HttpStatus.OK);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return new ResponseEntity<>(new BufferResource(payload.getGzipBuffer()), headers, HttpStatus.OK);
+        }
+        return new ResponseEntity<>(new BufferResource(payload.getJsonBuffer()), headers, HttpStatus.OK);
+    }
+
+    /** Whether {@code If-None-Match} lists {@code etag}, the tag of the representation negotiated for this request. */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison function
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<MediaType> parseAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return List.of();
+        }
+        try {
+            return MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return List.of();
+        }
+    }
+
+    /** Quality the client assigns to {@code type}, taken from the most specific matching media range. */
+    private static double quality(List<MediaType> accepted, MediaType type) {
+        double quality = 0;
+        int specificity = -1;
+        for (MediaType range : accepted) {
+            if (!range.includes(type)) {
+                continue;
+            }
+            int rangeSpecificity = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+            if (rangeSpecificity > specificity) {
+                specificity = rangeSpecificity;
+                quality = range.getQualityValue();
+            }
+        }
+        return quality;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || qualityOf(parts[1]) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double qualityOf(String parameter) {
+        String[] kv = parameter.trim().split("=");
+        if (kv.length != 2 || !kv[0].trim().equalsIgnoreCase("q")) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(kv[1].trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** A buffer as a response body; each reader gets its own position, so it can be written more than once. */
+    private static final class BufferResource extends AbstractResource {
+        private final ByteBuffer buffer;
+
+        BufferResource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer source = buffer.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return source.hasRemaining() ? source.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    if (!source.hasRemaining()) {
+                        return -1;
+                    }
+                    int count = Math.min(length, source.remaining());
+                    source.get(target, offset, count);
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public String getDescription() {
+            return "catalog payload";
+        }
+    }
+}
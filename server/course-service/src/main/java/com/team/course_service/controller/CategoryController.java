@@ -1,15 +1,18 @@
 package com.team.course_service.controller;
 
-import java.util.List;
-
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
 import com.team.course_service.dto.CategoryDTO;
-import com.team.course_service.mapper.CategoryMapper;
-import com.team.course_service.service.CategoryService;
+import com.team.course_service.dto.CategoryFacetsDTO;
+import com.team.course_service.facet.CategoryFacetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,9 +21,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @RestController
 @RequestMapping("/categories")
 public class CategoryController {
-    private final CategoryService categoryService;
-    public CategoryController(CategoryService categoryService) {
-        this.categoryService = categoryService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CategoryFacetService categoryFacetService;
+    public CategoryController(CatalogSnapshotService catalogSnapshotService, CategoryFacetService categoryFacetService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.categoryFacetService = categoryFacetService;
     }
     
     
@@ -35,14 +40,42 @@ public class CategoryController {
                     mediaType = "application/json",
                     schema    = @Schema(implementation = CategoryDTO.class)
                 )
-            )
+            ),
+            @ApiResponse(responseCode = "304", description = "Categories unchanged since the given ETag")
         }
     )
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<CategoryDTO> result = categoryService.getAllCategories().stream()
-            .map(CategoryMapper::toDto)
-            .toList();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<Resource> getAllCategories(
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        return CatalogResponses.of(snapshot.getCategoriesPayload(), snapshot.getVersion(),
+                catalogSnapshotService.getChangeLog().getEpoch(), accept, ifNoneMatch, acceptEncoding);
+    }
+
+    @Operation(
+        summary     = "Category facets",
+        description = "Returns the number of courses per category, per credit value and per pair of categories.",
+        responses   = {
+            @ApiResponse(
+                responseCode = "200",
+                description  = "Facet counts",
+                content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CategoryFacetsDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "304", description = "Facets unchanged since the given ETag")
+        }
+    )
+    @GetMapping("/facets")
+    public ResponseEntity<Resource> getFacets(
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        return CatalogResponses.of(categoryFacetService.getFacets(snapshot), snapshot.getVersion(),
+                catalogSnapshotService.getChangeLog().getEpoch(), accept, ifNoneMatch, acceptEncoding);
     }
 }
@@ -1,16 +1,38 @@
 package com.team.course_service.controller;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.SerializedPayload;
+import com.team.course_service.dto.CourseBatchDTO;
 import com.team.course_service.dto.CourseDTO;
-import com.team.course_service.mapper.CourseMapper;
+import com.team.course_service.dto.CoursePage;
+import com.team.course_service.dto.CourseQuery;
+import com.team.course_service.dto.CourseSearchHitDTO;
+import com.team.course_service.dto.CourseSuggestionDTO;
+import com.team.course_service.fieldset.CourseField;
+import com.team.course_service.fieldset.SparseCourseService;
+import com.team.course_service.popularity.CourseViewCounter;
+import com.team.course_service.search.CourseSearchService;
 import com.team.course_service.service.CourseService;
+import com.team.course_service.suggest.CourseSuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,15 +42,35 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @RestController
 @RequestMapping("/courses")
 public class CourseController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 100;
+
+    private final CatalogSnapshotService catalogSnapshotService;
     private final CourseService courseService;
+    private final CourseSearchService courseSearchService;
+    private final CourseSuggestService courseSuggestService;
+    private final SparseCourseService sparseCourseService;
+    private final CourseViewCounter courseViewCounter;
     
-    public CourseController(CourseService courseService) {
+    public CourseController(CatalogSnapshotService catalogSnapshotService, CourseService courseService,
+                            CourseSearchService courseSearchService, CourseSuggestService courseSuggestService,
+                            SparseCourseService sparseCourseService, CourseViewCounter courseViewCounter) {
+        this.catalogSnapshotService = catalogSnapshotService;
         this.courseService = courseService;
+        this.courseSearchService = courseSearchService;
+        this.courseSuggestService = courseSuggestService;
+        this.sparseCourseService = sparseCourseService;
+        this.courseViewCounter = courseViewCounter;
     }
 
     @Operation(
         summary = "Browse all courses", 
-        description = "Returns a list of every Informatics course offered in the Master’s programme.",
+        description = "Returns a list of every Informatics course offered in the Master’s programme. "
+                    + "When any filter, 'after' or 'limit' is given, returns one page ordered by course ID instead; "
+                    + "the cursor for the next page is sent in the X-Next-Cursor header. "
+                    + "'fields' restricts each course to the listed properties; the ID is always included.",
         responses = {
         @ApiResponse(responseCode = "200",
                      description  = "Page of Master’s Informatics courses",
@@ -36,11 +78,159 @@ public class CourseController {
                          mediaType = "application/json",
                          schema    = @Schema(implementation = CourseDTO.class)
                      )
-        )})
+        ),
+        @ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Invalid filter, page size or field")})
     @GetMapping
-    public ResponseEntity<List<CourseDTO>> getAllCourses() {
-        List<CourseDTO> result = courseService.getAllCourses().stream().map(CourseMapper::toDto).toList();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<?> getAllCourses(
+        @Parameter(description = "only courses in any of these categories") 
+        @RequestParam(required = false) List<String> category,
+        @Parameter(description = "minimum credits (inclusive)") 
+        @RequestParam(required = false) Integer minCredits,
+        @Parameter(description = "maximum credits (inclusive)") 
+        @RequestParam(required = false) Integer maxCredits,
+        @Parameter(description = "case-insensitive title substring") 
+        @RequestParam(required = false) String title,
+        @Parameter(description = "cursor: return courses with an ID after this one") 
+        @RequestParam(required = false) String after,
+        @Parameter(description = "page size, capped at " + MAX_PAGE_SIZE) 
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "properties to return: id, title, description, credits, categories") 
+        @RequestParam(required = false) List<String> fields,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<Set<CourseField>> fieldset = CourseField.parse(fields);
+        if (fieldset.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean sparse = !CourseField.isComplete(fieldset.get());
+        boolean paged = category != null || minCredits != null || maxCredits != null
+                || title != null || after != null || limit != null;
+        if (!paged) {
+            CatalogSnapshot snapshot = catalogSnapshotService.current();
+            SerializedPayload payload = sparse
+                    ? sparseCourseService.getCoursesPayload(snapshot, fieldset.get())
+                    : snapshot.getCoursesPayload();
+            return CatalogResponses.of(payload, snapshot.getVersion(),
+                catalogSnapshotService.getChangeLog().getEpoch(), accept, ifNoneMatch, acceptEncoding);
+        }
+        if ((limit != null && limit < 1)
+                || (minCredits != null && maxCredits != null && minCredits > maxCredits)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        CourseQuery query = new CourseQuery(category, minCredits, maxCredits, title, after, pageSize);
+        CoursePage page = sparse
+                ? courseService.getCoursePage(query, fieldset.get())
+                : courseService.getCoursePage(query);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return sparse
+                ? response.body(CourseField.project(page.getItems(), fieldset.get()))
+                : response.body(page.getItems());
+    }
+
+    @Operation(
+        summary = "Look up several courses at once",
+        description = "Resolves up to " + MAX_BATCH_SIZE + " course IDs in one request. "
+                    + "Courses are returned in the order of the requested IDs, duplicates collapsed; "
+                    + "IDs without a course are listed under 'missing'.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Found courses and missing IDs",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CourseBatchDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "No IDs, more than " + MAX_BATCH_SIZE + " IDs or an invalid field")
+  })
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getCoursesByIds(
+        @Parameter(description = "course IDs, comma-separated or repeated") 
+        @RequestParam List<String> ids,
+        @Parameter(description = "properties to return: id, title, description, credits, categories") 
+        @RequestParam(required = false) List<String> fields) {
+        Optional<Set<CourseField>> fieldset = CourseField.parse(fields);
+        Set<String> requested = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (!id.isBlank()) {
+                requested.add(id.trim());
+            }
+        }
+        if (fieldset.isEmpty() || requested.isEmpty() || requested.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        List<CourseDTO> courses = new ArrayList<>(requested.size());
+        List<String> missing = new ArrayList<>();
+        for (String id : requested) {
+            CourseDTO course = snapshot.getCourse(id);
+            if (course != null) {
+                courses.add(course);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!CourseField.isComplete(fieldset.get())) {
+            // Same shape as CourseBatchDTO, with each course reduced to the fieldset
+            Map<String, Object> batch = new LinkedHashMap<>();
+            batch.put("courses", CourseField.project(courses, fieldset.get()));
+            batch.put("missing", missing);
+            return ResponseEntity.ok(batch);
+        }
+        return ResponseEntity.ok(new CourseBatchDTO(courses, missing));
+    }
+
+    @Operation(
+        summary = "Search courses",
+        description = "Ranks courses by relevance of title and description to the query. "
+                    + "Quoted phrases must match, a trailing * matches any word with that prefix.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Matching courses, best first",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CourseSearchHitDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid limit")
+  })
+    @GetMapping("/search")
+    public ResponseEntity<List<CourseSearchHitDTO>> searchCourses(
+        @Parameter(description = "search query") 
+        @RequestParam String q,
+        @Parameter(description = "maximum number of hits, capped at " + MAX_PAGE_SIZE) 
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (q.isBlank() || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(courseSearchService.search(q, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @Operation(
+        summary = "Suggest courses for a prefix",
+        description = "Type-ahead lookup by course ID or by the beginning of any word in the title.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Matching courses, best first",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CourseSuggestionDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Empty prefix or invalid limit")
+  })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CourseSuggestionDTO>> suggestCourses(
+        @Parameter(description = "what the user typed so far") 
+        @RequestParam String prefix,
+        @Parameter(description = "maximum number of suggestions, capped at " + CourseSuggestService.MAX_SUGGESTIONS) 
+        @RequestParam(defaultValue = "" + CourseSuggestService.MAX_SUGGESTIONS) int limit) {
+        if (prefix.isBlank() || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(courseSuggestService.suggest(prefix, Math.min(limit, CourseSuggestService.MAX_SUGGESTIONS)));
     }
 
     @Operation(
@@ -53,15 +243,33 @@ public class CourseController {
                     mediaType = "application/json",
                     schema    = @Schema(implementation = CourseDTO.class)
                  )),
+            @ApiResponse(responseCode = "304", description = "Course unchanged since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid field"),
             @ApiResponse(responseCode = "404", description = "Course not found")
   })
     @GetMapping("/{id}")
-    public ResponseEntity<CourseDTO> getCourseById(
+    public ResponseEntity<Resource> getCourseById(
         @Parameter(description = "the course ID") 
-        @PathVariable String id) {
-        return courseService.getCourseById(id)
-                .map(CourseMapper::toDto)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        @PathVariable String id,
+        @Parameter(description = "properties to return: id, title, description, credits, categories") 
+        @RequestParam(required = false) List<String> fields,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Optional<Set<CourseField>> fieldset = CourseField.parse(fields);
+        if (fieldset.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean sparse = !CourseField.isComplete(fieldset.get());
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        SerializedPayload payload = sparse
+                ? sparseCourseService.getCoursePayload(snapshot, id, fieldset.get())
+                : snapshot.getCoursePayload(id);
+        if (payload == null) {
+            return ResponseEntity.notFound().build();
+        }
+        courseViewCounter.record(id);
+        return CatalogResponses.of(payload, snapshot.getVersion(),
+                catalogSnapshotService.getChangeLog().getEpoch(), accept, ifNoneMatch, acceptEncoding);
     }
 }
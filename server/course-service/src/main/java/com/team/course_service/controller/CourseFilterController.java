@@ -0,0 +1,64 @@
+package com.team.course_service.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.dto.CourseFilterResultDTO;
+import com.team.course_service.filter.CourseFilterService;
+import com.team.course_service.filter.InvalidFilterException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses")
+public class CourseFilterController {
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final CourseFilterService courseFilterService;
+
+    public CourseFilterController(CourseFilterService courseFilterService) {
+        this.courseFilterService = courseFilterService;
+    }
+
+    @Operation(
+        summary = "Filter courses by category, credits and rating",
+        description = "Evaluates a boolean expression of category:<name>, credits:<n> and rating:<stars> terms, "
+                    + "e.g. category:Algorithms AND (credits:5..8 OR rating:4..) AND NOT category:\"Computer Graphics and Vision\". "
+                    + "Credits and ratings take ranges min..max with either end open, ratings in steps of 0.5; "
+                    + "rating:none matches unrated courses. Matches are returned in catalog order.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Total matches and one page of them",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CourseFilterResultDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Malformed expression, offset or limit")
+  })
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterCourses(
+        @Parameter(description = "filter expression") 
+        @RequestParam String q,
+        @Parameter(description = "number of matches to skip") 
+        @RequestParam(defaultValue = "0") int offset,
+        @Parameter(description = "page size, capped at " + MAX_PAGE_SIZE) 
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        if (offset < 0 || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(courseFilterService.filter(q, offset, Math.min(limit, MAX_PAGE_SIZE)));
+        } catch (InvalidFilterException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
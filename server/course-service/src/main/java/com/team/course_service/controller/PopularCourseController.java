@@ -0,0 +1,50 @@
+package com.team.course_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.dto.PopularCourseDTO;
+import com.team.course_service.popularity.CoursePopularityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses")
+public class PopularCourseController {
+    private final CoursePopularityService coursePopularityService;
+
+    public PopularCourseController(CoursePopularityService coursePopularityService) {
+        this.coursePopularityService = coursePopularityService;
+    }
+
+    @Operation(
+        summary = "Most viewed courses",
+        description = "Returns the courses with the highest time-decayed view counts, most popular first. "
+                    + "Views are counted when a course is fetched by ID and become visible here after the next flush.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Popular courses",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = PopularCourseDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+  })
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularCourseDTO>> getPopularCourses(
+        @Parameter(description = "maximum number of courses, capped at " + CoursePopularityService.MAX_POPULAR) 
+        @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(coursePopularityService.getPopular(Math.min(limit, CoursePopularityService.MAX_POPULAR)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.team.course_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.PrerequisiteChainDTO;
+import com.team.course_service.prerequisite.PrerequisiteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses")
+public class PrerequisiteController {
+    private final PrerequisiteService prerequisiteService;
+
+    public PrerequisiteController(PrerequisiteService prerequisiteService) {
+        this.prerequisiteService = prerequisiteService;
+    }
+
+    @Operation(
+        summary = "Prerequisite chain of a course",
+        description = "Returns the direct prerequisites of a course and every transitive prerequisite, "
+                    + "ordered so that each course appears after its own prerequisites.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Prerequisite chain",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = PrerequisiteChainDTO.class)
+                 )),
+            @ApiResponse(responseCode = "404", description = "Course not found"),
+            @ApiResponse(responseCode = "409", description = "The catalog's prerequisites contain a cycle")
+  })
+    @GetMapping("/{id}/prerequisites")
+    public ResponseEntity<PrerequisiteChainDTO> getPrerequisiteChain(
+        @Parameter(description = "the course ID") 
+        @PathVariable String id) {
+        return prerequisiteService.getChain(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+        summary = "Courses unlocked by completed courses",
+        description = "Returns every course that is not completed yet and whose whole prerequisite chain "
+                    + "is among the given completed course IDs.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Unlocked courses",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = CourseDTO.class)
+                 )),
+            @ApiResponse(responseCode = "409", description = "The catalog's prerequisites contain a cycle")
+  })
+    @GetMapping("/unlocked")
+    public ResponseEntity<List<CourseDTO>> getUnlockedCourses(
+        @Parameter(description = "IDs of completed courses") 
+        @RequestParam(name = "completed", required = false, defaultValue = "") List<String> completed) {
+        return ResponseEntity.ok(prerequisiteService.getUnlocked(completed));
+    }
+}
@@ -0,0 +1,23 @@
+package com.team.course_service.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.team.course_service.prerequisite.PrerequisiteCycleException;
+
+/**
+ * Answers requests that need the prerequisite graph with 409 while the catalog contains a prerequisite cycle.
+ */
+@RestControllerAdvice
+public class PrerequisiteCycleAdvice {
+
+    @ExceptionHandler(PrerequisiteCycleException.class)
+    public ResponseEntity<Map<String, Object>> handleCycle(PrerequisiteCycleException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", e.getMessage(), "cycle", e.getCycle()));
+    }
+}
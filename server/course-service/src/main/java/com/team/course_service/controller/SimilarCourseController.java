@@ -0,0 +1,56 @@
+package com.team.course_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.dto.SimilarCourseDTO;
+import com.team.course_service.similar.SimilarCourseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses")
+public class SimilarCourseController {
+    private final SimilarCourseService similarCourseService;
+
+    public SimilarCourseController(SimilarCourseService similarCourseService) {
+        this.similarCourseService = similarCourseService;
+    }
+
+    @Operation(
+        summary = "Courses similar to a course",
+        description = "Returns the courses whose title, description and categories are most similar "
+                    + "to the given course, most similar first.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Similar courses",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = SimilarCourseDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Course not found")
+  })
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarCourseDTO>> getSimilarCourses(
+        @Parameter(description = "the course ID") 
+        @PathVariable String id,
+        @Parameter(description = "maximum number of courses, capped at " + SimilarCourseService.MAX_NEIGHBORS) 
+        @RequestParam(defaultValue = "" + SimilarCourseService.MAX_NEIGHBORS) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return similarCourseService.getSimilarCourses(id, Math.min(limit, SimilarCourseService.MAX_NEIGHBORS))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
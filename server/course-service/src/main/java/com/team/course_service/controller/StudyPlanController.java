@@ -0,0 +1,60 @@
+package com.team.course_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.course_service.dto.StudyPlanDTO;
+import com.team.course_service.dto.StudyPlanRequest;
+import com.team.course_service.planner.StudyPlanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@RestController
+@RequestMapping("/courses")
+public class StudyPlanController {
+    static final int MAX_TARGET_CREDITS = 300;
+    static final int MAX_SEMESTERS = 12;
+    static final int MAX_ALTERNATIVES = 5;
+
+    private final StudyPlanService studyPlanService;
+
+    public StudyPlanController(StudyPlanService studyPlanService) {
+        this.studyPlanService = studyPlanService;
+    }
+
+    @Operation(
+        summary = "Plan courses for a credit target",
+        description = "Selects courses whose credits add up to the target, or as close below it as possible, "
+                    + "maximizing credits in the preferred categories. Completed and excluded courses are not planned, "
+                    + "and each course is placed in a semester after all of its prerequisites.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                 description  = "Plans, best first; empty if no course is available",
+                 content      = @Content(
+                    mediaType = "application/json",
+                    schema    = @Schema(implementation = StudyPlanDTO.class)
+                 )),
+            @ApiResponse(responseCode = "400", description = "Credit target, semesters or alternatives out of range"),
+            @ApiResponse(responseCode = "409", description = "The catalog's prerequisites contain a cycle")
+  })
+    @PostMapping("/plan")
+    public ResponseEntity<List<StudyPlanDTO>> planCourses(@RequestBody StudyPlanRequest request) {
+        if (request.getTargetCredits() < 1 || request.getTargetCredits() > MAX_TARGET_CREDITS
+                || !inRange(request.getSemesters(), MAX_SEMESTERS)
+                || !inRange(request.getAlternatives(), MAX_ALTERNATIVES)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(studyPlanService.plan(request));
+    }
+
+    private static boolean inRange(Integer value, int max) {
+        return value == null || (value >= 1 && value <= max);
+    }
+}
@@ -0,0 +1,50 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * Courses that changed between two catalog versions. Applying {@code upserted} and {@code deleted}
+ * to a copy of the catalog at {@code fromVersion} yields the catalog at {@code toVersion}.
+ */
+public class CatalogChangesDTO {
+    private String epoch;
+    private long fromVersion;
+    private long toVersion;
+    private boolean categoriesChanged;
+    private List<CourseDTO> upserted;
+    private List<String> deleted;
+
+    public CatalogChangesDTO() { }
+
+    public CatalogChangesDTO(String epoch, long fromVersion, long toVersion, boolean categoriesChanged,
+                             List<CourseDTO> upserted, List<String> deleted) {
+        this.epoch = epoch;
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.categoriesChanged = categoriesChanged;
+        this.upserted = upserted;
+        this.deleted = deleted;
+    }
+
+    /** History both versions belong to; must be sent back with the next {@code since}. */
+    public String getEpoch() { return epoch; }
+    public void setEpoch(String epoch) { this.epoch = epoch; }
+
+    public long getFromVersion() { return fromVersion; }
+    public void setFromVersion(long fromVersion) { this.fromVersion = fromVersion; }
+
+    public long getToVersion() { return toVersion; }
+    public void setToVersion(long toVersion) { this.toVersion = toVersion; }
+
+    /** Whether the category list must be refetched as well. */
+    public boolean isCategoriesChanged() { return categoriesChanged; }
+    public void setCategoriesChanged(boolean categoriesChanged) { this.categoriesChanged = categoriesChanged; }
+
+    /** Added or modified courses, in their current state. */
+    public List<CourseDTO> getUpserted() { return upserted; }
+    public void setUpserted(List<CourseDTO> upserted) { this.upserted = upserted; }
+
+    /** IDs of removed courses. */
+    public List<String> getDeleted() { return deleted; }
+    public void setDeleted(List<String> deleted) { this.deleted = deleted; }
+}
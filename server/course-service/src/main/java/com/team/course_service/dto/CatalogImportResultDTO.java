@@ -0,0 +1,33 @@
+package com.team.course_service.dto;
+
+/**
+ * Outcome of a bulk import: how many courses, categories and prerequisite links were written,
+ * and the catalog version that includes them.
+ */
+public class CatalogImportResultDTO {
+    private int courses;
+    private int categories;
+    private int prerequisites;
+    private long catalogVersion;
+
+    public CatalogImportResultDTO() { }
+
+    public CatalogImportResultDTO(int courses, int categories, int prerequisites, long catalogVersion) {
+        this.courses = courses;
+        this.categories = categories;
+        this.prerequisites = prerequisites;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public int getCourses() { return courses; }
+    public void setCourses(int courses) { this.courses = courses; }
+
+    public int getCategories() { return categories; }
+    public void setCategories(int categories) { this.categories = categories; }
+
+    public int getPrerequisites() { return prerequisites; }
+    public void setPrerequisites(int prerequisites) { this.prerequisites = prerequisites; }
+
+    public long getCatalogVersion() { return catalogVersion; }
+    public void setCatalogVersion(long catalogVersion) { this.catalogVersion = catalogVersion; }
+}
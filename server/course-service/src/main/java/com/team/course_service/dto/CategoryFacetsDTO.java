@@ -0,0 +1,39 @@
+package com.team.course_service.dto;
+
+import java.util.Map;
+
+/**
+ * Facet counts over the whole catalog. Maps are keyed in ascending order; {@code coOccurrence}
+ * is symmetric and only contains pairs of distinct categories that share at least one course.
+ */
+public class CategoryFacetsDTO {
+    private int totalCourses;
+    private Map<String, Integer> categories;
+    private Map<Integer, Integer> credits;
+    private Map<String, Map<String, Integer>> coOccurrence;
+
+    public CategoryFacetsDTO() { }
+
+    public CategoryFacetsDTO(int totalCourses, Map<String, Integer> categories, Map<Integer, Integer> credits,
+                             Map<String, Map<String, Integer>> coOccurrence) {
+        this.totalCourses = totalCourses;
+        this.categories = categories;
+        this.credits = credits;
+        this.coOccurrence = coOccurrence;
+    }
+
+    public int getTotalCourses() { return totalCourses; }
+    public void setTotalCourses(int totalCourses) { this.totalCourses = totalCourses; }
+
+    /** Number of courses per category name, including categories without courses. */
+    public Map<String, Integer> getCategories() { return categories; }
+    public void setCategories(Map<String, Integer> categories) { this.categories = categories; }
+
+    /** Number of courses per credit value. */
+    public Map<Integer, Integer> getCredits() { return credits; }
+    public void setCredits(Map<Integer, Integer> credits) { this.credits = credits; }
+
+    /** Number of courses that belong to both categories. */
+    public Map<String, Map<String, Integer>> getCoOccurrence() { return coOccurrence; }
+    public void setCoOccurrence(Map<String, Map<String, Integer>> coOccurrence) { this.coOccurrence = coOccurrence; }
+}
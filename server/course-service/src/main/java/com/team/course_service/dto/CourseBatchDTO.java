@@ -0,0 +1,25 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * Result of a multi-get. {@code courses} follows the order of the requested IDs;
+ * IDs that matched no course are listed in {@code missing}, also in request order.
+ */
+public class CourseBatchDTO {
+    private List<CourseDTO> courses;
+    private List<String> missing;
+
+    public CourseBatchDTO() { }
+
+    public CourseBatchDTO(List<CourseDTO> courses, List<String> missing) {
+        this.courses = courses;
+        this.missing = missing;
+    }
+
+    public List<CourseDTO> getCourses() { return courses; }
+    public void setCourses(List<CourseDTO> courses) { this.courses = courses; }
+
+    public List<String> getMissing() { return missing; }
+    public void setMissing(List<String> missing) { this.missing = missing; }
+}
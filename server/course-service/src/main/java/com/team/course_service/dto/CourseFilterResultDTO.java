@@ -0,0 +1,24 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * One page of the courses matching a filter expression, with the total number of matches.
+ */
+public class CourseFilterResultDTO {
+    private int total;
+    private List<CourseDTO> courses;
+
+    public CourseFilterResultDTO() { }
+
+    public CourseFilterResultDTO(int total, List<CourseDTO> courses) {
+        this.total = total;
+        this.courses = courses;
+    }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    public List<CourseDTO> getCourses() { return courses; }
+    public void setCourses(List<CourseDTO> courses) { this.courses = courses; }
+}
@@ -0,0 +1,46 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * One course of a bulk import, as a line of NDJSON or a row of CSV. In CSV, categories and
+ * prerequisites are single columns whose entries are separated by {@code ;}.
+ */
+public class CourseImportRecord {
+    private String id;
+    private String title;
+    private String description;
+    private Integer credits;
+    private List<String> categories;
+    private List<String> prerequisites;
+
+    public CourseImportRecord() { }
+
+    public CourseImportRecord(String id, String title, String description, Integer credits,
+                              List<String> categories, List<String> prerequisites) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.credits = credits;
+        this.categories = categories;
+        this.prerequisites = prerequisites;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Integer getCredits() { return credits; }
+    public void setCredits(Integer credits) { this.credits = credits; }
+
+    public List<String> getCategories() { return categories; }
+    public void setCategories(List<String> categories) { this.categories = categories; }
+
+    public List<String> getPrerequisites() { return prerequisites; }
+    public void setPrerequisites(List<String> prerequisites) { this.prerequisites = prerequisites; }
+}
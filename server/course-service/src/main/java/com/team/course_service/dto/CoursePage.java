@@ -0,0 +1,25 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of courses. {@code nextCursor} is the ID to pass as {@code after}
+ * for the following page, or {@code null} on the last page.
+ */
+public class CoursePage {
+    private List<CourseDTO> items;
+    private String nextCursor;
+
+    public CoursePage() { }
+
+    public CoursePage(List<CourseDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CourseDTO> getItems() { return items; }
+    public void setItems(List<CourseDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,44 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * Filter and keyset position for a paged course listing. Absent fields do not filter.
+ */
+public class CourseQuery {
+    private List<String> categories;
+    private Integer minCredits;
+    private Integer maxCredits;
+    private String title;
+    private String after;
+    private int limit;
+
+    public CourseQuery() { }
+
+    public CourseQuery(List<String> categories, Integer minCredits, Integer maxCredits, String title, String after, int limit) {
+        this.categories = categories;
+        this.minCredits = minCredits;
+        this.maxCredits = maxCredits;
+        this.title = title;
+        this.after = after;
+        this.limit = limit;
+    }
+
+    public List<String> getCategories() { return categories; }
+    public void setCategories(List<String> categories) { this.categories = categories; }
+
+    public Integer getMinCredits() { return minCredits; }
+    public void setMinCredits(Integer minCredits) { this.minCredits = minCredits; }
+
+    public Integer getMaxCredits() { return maxCredits; }
+    public void setMaxCredits(Integer maxCredits) { this.maxCredits = maxCredits; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getAfter() { return after; }
+    public void setAfter(String after) { this.after = after; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
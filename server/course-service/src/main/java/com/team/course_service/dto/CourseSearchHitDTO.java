@@ -0,0 +1,19 @@
+package com.team.course_service.dto;
+
+public class CourseSearchHitDTO {
+    private CourseDTO course;
+    private double score;
+
+    public CourseSearchHitDTO() { }
+
+    public CourseSearchHitDTO(CourseDTO course, double score) {
+        this.course = course;
+        this.score = score;
+    }
+
+    public CourseDTO getCourse() { return course; }
+    public void setCourse(CourseDTO course) { this.course = course; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
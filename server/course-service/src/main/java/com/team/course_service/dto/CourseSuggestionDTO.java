@@ -0,0 +1,24 @@
+package com.team.course_service.dto;
+
+public class CourseSuggestionDTO {
+    private String id;
+    private String title;
+    private int credits;
+
+    public CourseSuggestionDTO() { }
+
+    public CourseSuggestionDTO(String id, String title, int credits) {
+        this.id = id;
+        this.title = title;
+        this.credits = credits;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public int getCredits() { return credits; }
+    public void setCredits(int credits) { this.credits = credits; }
+}
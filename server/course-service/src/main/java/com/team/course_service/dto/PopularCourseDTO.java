@@ -0,0 +1,31 @@
+package com.team.course_service.dto;
+
+public class PopularCourseDTO {
+    private String id;
+    private String title;
+    private long views;
+    private double score;
+
+    public PopularCourseDTO() { }
+
+    public PopularCourseDTO(String id, String title, long views, double score) {
+        this.id = id;
+        this.title = title;
+        this.views = views;
+        this.score = score;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    /** All recorded views of the course. */
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+
+    /** Views decayed to the time of the request; a view counts half after each half-life. */
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
@@ -0,0 +1,27 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+public class PrerequisiteChainDTO {
+    private String courseId;
+    private List<String> directPrerequisites;
+    private List<String> chain;
+
+    public PrerequisiteChainDTO() { }
+
+    public PrerequisiteChainDTO(String courseId, List<String> directPrerequisites, List<String> chain) {
+        this.courseId = courseId;
+        this.directPrerequisites = directPrerequisites;
+        this.chain = chain;
+    }
+
+    public String getCourseId() { return courseId; }
+    public void setCourseId(String courseId) { this.courseId = courseId; }
+
+    public List<String> getDirectPrerequisites() { return directPrerequisites; }
+    public void setDirectPrerequisites(List<String> directPrerequisites) { this.directPrerequisites = directPrerequisites; }
+
+    /** Every transitive prerequisite, ordered so that each appears after its own prerequisites. */
+    public List<String> getChain() { return chain; }
+    public void setChain(List<String> chain) { this.chain = chain; }
+}
@@ -0,0 +1,20 @@
+package com.team.course_service.dto;
+
+public class SimilarCourseDTO {
+    private CourseDTO course;
+    private double similarity;
+
+    public SimilarCourseDTO() { }
+
+    public SimilarCourseDTO(CourseDTO course, double similarity) {
+        this.course = course;
+        this.similarity = similarity;
+    }
+
+    public CourseDTO getCourse() { return course; }
+    public void setCourse(CourseDTO course) { this.course = course; }
+
+    /** Cosine similarity of the TF-IDF vectors, between 0 and 1. */
+    public double getSimilarity() { return similarity; }
+    public void setSimilarity(double similarity) { this.similarity = similarity; }
+}
@@ -0,0 +1,28 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+public class StudyPlanDTO {
+    private int totalCredits;
+    private int preferredCredits;
+    private List<List<CourseDTO>> semesters;
+
+    public StudyPlanDTO() { }
+
+    public StudyPlanDTO(int totalCredits, int preferredCredits, List<List<CourseDTO>> semesters) {
+        this.totalCredits = totalCredits;
+        this.preferredCredits = preferredCredits;
+        this.semesters = semesters;
+    }
+
+    public int getTotalCredits() { return totalCredits; }
+    public void setTotalCredits(int totalCredits) { this.totalCredits = totalCredits; }
+
+    /** Credits of planned courses that belong to at least one preferred category. */
+    public int getPreferredCredits() { return preferredCredits; }
+    public void setPreferredCredits(int preferredCredits) { this.preferredCredits = preferredCredits; }
+
+    /** Courses per semester; every course comes after all of its prerequisites. */
+    public List<List<CourseDTO>> getSemesters() { return semesters; }
+    public void setSemesters(List<List<CourseDTO>> semesters) { this.semesters = semesters; }
+}
@@ -0,0 +1,51 @@
+package com.team.course_service.dto;
+
+import java.util.List;
+
+/**
+ * Input of the study-plan optimizer. Only {@code targetCredits} is required.
+ */
+public class StudyPlanRequest {
+    private int targetCredits;
+    private List<String> preferredCategories;
+    private List<String> excludedCourseIds;
+    private List<String> completedCourseIds;
+    private Integer semesters;
+    private Integer alternatives;
+
+    public StudyPlanRequest() { }
+
+    public StudyPlanRequest(int targetCredits, List<String> preferredCategories, List<String> excludedCourseIds,
+                            List<String> completedCourseIds, Integer semesters, Integer alternatives) {
+        this.targetCredits = targetCredits;
+        this.preferredCategories = preferredCategories;
+        this.excludedCourseIds = excludedCourseIds;
+        this.completedCourseIds = completedCourseIds;
+        this.semesters = semesters;
+        this.alternatives = alternatives;
+    }
+
+    /** Credit sum the plan should reach exactly, or come as close to as possible from below. */
+    public int getTargetCredits() { return targetCredits; }
+    public void setTargetCredits(int targetCredits) { this.targetCredits = targetCredits; }
+
+    /** Categories whose credits the plan should maximize. */
+    public List<String> getPreferredCategories() { return preferredCategories; }
+    public void setPreferredCategories(List<String> preferredCategories) { this.preferredCategories = preferredCategories; }
+
+    /** Courses never to include in a plan. */
+    public List<String> getExcludedCourseIds() { return excludedCourseIds; }
+    public void setExcludedCourseIds(List<String> excludedCourseIds) { this.excludedCourseIds = excludedCourseIds; }
+
+    /** Courses already passed; they count towards prerequisites and are not planned again. */
+    public List<String> getCompletedCourseIds() { return completedCourseIds; }
+    public void setCompletedCourseIds(List<String> completedCourseIds) { this.completedCourseIds = completedCourseIds; }
+
+    /** Number of semesters to spread the plan over; defaults to one. */
+    public Integer getSemesters() { return semesters; }
+    public void setSemesters(Integer semesters) { this.semesters = semesters; }
+
+    /** Maximum number of plans to return, best first; defaults to one. */
+    public Integer getAlternatives() { return alternatives; }
+    public void setAlternatives(Integer alternatives) { this.alternatives = alternatives; }
+}
@@ -0,0 +1,77 @@
+package com.team.course_service.facet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.SerializedPayload;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Course counts per category, per credit value and per pair of categories, kept in memory and
+ * pre-serialized. When the catalog changes only the contributions of added, modified and removed
+ * courses are retracted and re-applied.
+ */
+@Service
+public class CategoryFacetService {
+    private static final Logger logger = LoggerFactory.getLogger(CategoryFacetService.class);
+
+    private static final class State {
+        final FacetCounts counts;
+        final SerializedPayload payload;
+
+        State(FacetCounts counts, SerializedPayload payload) {
+            this.counts = counts;
+            this.payload = payload;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final SnapshotDerived<State> state = new SnapshotDerived<>(this::build);
+
+    public CategoryFacetService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /** Facets of the given snapshot, serialized as JSON. */
+    public SerializedPayload getFacets(CatalogSnapshot snapshot) {
+        return state.get(snapshot).payload;
+    }
+
+    private State build(CatalogSnapshot previousSnapshot, State previous, CatalogSnapshot current) {
+        FacetCounts counts;
+        int applied = 0;
+        if (previous == null) {
+            counts = new FacetCounts();
+            for (CourseDTO course : current.getCourses()) {
+                counts.add(course);
+            }
+            applied = current.getCourses().size();
+        } else {
+            counts = previous.counts.copy();
+            for (CourseDTO before : previousSnapshot.getCourses()) {
+                String id = before.getId();
+                if (current.ordinalOf(id) < 0 || current.isChangedSince(previousSnapshot, id)) {
+                    counts.remove(before);
+                    applied++;
+                }
+            }
+            for (CourseDTO course : current.getCourses()) {
+                if (current.isChangedSince(previousSnapshot, course.getId())) {
+                    counts.add(course);
+                    applied++;
+                }
+            }
+        }
+        logger.debug("Facets for catalog v{} updated with {} course changes", current.getVersion(), applied);
+        try {
+            return new State(counts, SerializedPayload.of(objectMapper.writeValueAsBytes(counts.toDto(current.getCategories()))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize category facets", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.team.course_service.facet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CategoryFacetsDTO;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Mutable facet counters that can add or retract the contribution of a single course.
+ * Counters that drop to zero are removed, so counts built incrementally equal counts built from scratch.
+ */
+final class FacetCounts {
+    private int totalCourses;
+    private final TreeMap<String, Integer> categories;
+    private final TreeMap<Integer, Integer> credits;
+    private final TreeMap<String, TreeMap<String, Integer>> coOccurrence;
+
+    FacetCounts() {
+        this.categories = new TreeMap<>();
+        this.credits = new TreeMap<>();
+        this.coOccurrence = new TreeMap<>();
+    }
+
+    private FacetCounts(FacetCounts other) {
+        this.totalCourses = other.totalCourses;
+        this.categories = new TreeMap<>(other.categories);
+        this.credits = new TreeMap<>(other.credits);
+        this.coOccurrence = new TreeMap<>();
+        other.coOccurrence.forEach((name, row) -> coOccurrence.put(name, new TreeMap<>(row)));
+    }
+
+    FacetCounts copy() {
+        return new FacetCounts(this);
+    }
+
+    void add(CourseDTO course) {
+        apply(course, 1);
+    }
+
+    void remove(CourseDTO course) {
+        apply(course, -1);
+    }
+
+    private void apply(CourseDTO course, int delta) {
+        totalCourses += delta;
+        increment(credits, course.getCredits(), delta);
+        List<String> names = categoryNames(course);
+        for (int i = 0; i < names.size(); i++) {
+            increment(categories, names.get(i), delta);
+            for (int j = i + 1; j < names.size(); j++) {
+                incrementPair(names.get(i), names.get(j), delta);
+                incrementPair(names.get(j), names.get(i), delta);
+            }
+        }
+    }
+
+    private void incrementPair(String first, String second, int delta) {
+        TreeMap<String, Integer> row = coOccurrence.computeIfAbsent(first, k -> new TreeMap<>());
+        increment(row, second, delta);
+        if (row.isEmpty()) {
+            coOccurrence.remove(first);
+        }
+    }
+
+    private static <K> void increment(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static List<String> categoryNames(CourseDTO course) {
+        if (course.getCategories() == null) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>(course.getCategories().size());
+        for (CategoryDTO category : course.getCategories()) {
+            if (!names.contains(category.getName())) {
+                names.add(category.getName());
+            }
+        }
+        return names;
+    }
+
+    /** @param allCategories categories to report even when no course uses them */
+    CategoryFacetsDTO toDto(List<CategoryDTO> allCategories) {
+        TreeMap<String, Integer> perCategory = new TreeMap<>();
+        for (CategoryDTO category : allCategories) {
+            perCategory.put(category.getName(), 0);
+        }
+        perCategory.putAll(categories);
+        TreeMap<String, Map<String, Integer>> pairs = new TreeMap<>();
+        coOccurrence.forEach((name, row) -> pairs.put(name, Collections.unmodifiableMap(new TreeMap<>(row))));
+        return new CategoryFacetsDTO(totalCourses, Collections.unmodifiableMap(perCategory),
+                Collections.unmodifiableMap(new TreeMap<>(credits)), Collections.unmodifiableMap(pairs));
+    }
+}
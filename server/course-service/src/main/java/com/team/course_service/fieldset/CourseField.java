@@ -0,0 +1,88 @@
+package com.team.course_service.fieldset;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * The properties of a {@link CourseDTO} a client can select with {@code fields=}.
+ * The ID is always part of a fieldset, since it identifies the course and serves as the paging cursor.
+ */
+public enum CourseField {
+    ID("id", CourseDTO::getId),
+    TITLE("title", CourseDTO::getTitle),
+    DESCRIPTION("description", CourseDTO::getDescription),
+    CREDITS("credits", CourseDTO::getCredits),
+    CATEGORIES("categories", CourseDTO::getCategories);
+
+    private final String name;
+    private final Function<CourseDTO, Object> accessor;
+
+    CourseField(String name, Function<CourseDTO, Object> accessor) {
+        this.name = name;
+        this.accessor = accessor;
+    }
+
+    /** JSON property and entity attribute name. */
+    public String getName() { return name; }
+
+    /** Whether the field is a column of the course table rather than an association. */
+    public boolean isColumn() { return this != CATEGORIES; }
+
+    /**
+     * Parses the names of a {@code fields=} parameter, ignoring case and blank entries.
+     * Without a parameter every field is selected. Returns empty if any name is unknown.
+     */
+    public static Optional<Set<CourseField>> parse(List<String> names) {
+        if (names == null) {
+            return Optional.of(EnumSet.allOf(CourseField.class));
+        }
+        Set<CourseField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            String normalized = name.trim().toLowerCase(Locale.ROOT);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            CourseField field = byName(normalized);
+            if (field == null) {
+                return Optional.empty();
+            }
+            fields.add(field);
+        }
+        return Optional.of(fields);
+    }
+
+    /** Whether the fieldset selects every field, i.e. is the same as no fieldset at all. */
+    public static boolean isComplete(Set<CourseField> fields) {
+        return fields.size() == values().length;
+    }
+
+    /** The selected properties of a course, in declaration order. */
+    public static Map<String, Object> project(CourseDTO course, Set<CourseField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (CourseField field : fields) {
+            projected.put(field.name, field.accessor.apply(course));
+        }
+        return projected;
+    }
+
+    public static List<Map<String, Object>> project(List<CourseDTO> courses, Set<CourseField> fields) {
+        return courses.stream().map(course -> project(course, fields)).toList();
+    }
+
+    private static CourseField byName(String name) {
+        for (CourseField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
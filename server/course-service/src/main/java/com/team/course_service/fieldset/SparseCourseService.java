@@ -0,0 +1,49 @@
+package com.team.course_service.fieldset;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.SerializedPayload;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CourseDTO;
+
+/**
+ * Serves catalog payloads restricted to a fieldset. The whole-catalog payload of each fieldset is
+ * serialized once per catalog version; there are at most 16 fieldsets, since the ID is always included.
+ */
+@Service
+public class SparseCourseService {
+    private final ObjectMapper objectMapper;
+    private final SnapshotDerived<Map<Set<CourseField>, SerializedPayload>> coursesPayloads =
+            new SnapshotDerived<>((previousSnapshot, previous, current) -> new ConcurrentHashMap<>());
+
+    public SparseCourseService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public SerializedPayload getCoursesPayload(CatalogSnapshot snapshot, Set<CourseField> fields) {
+        return coursesPayloads.get(snapshot).computeIfAbsent(EnumSet.copyOf(fields),
+                key -> serialize(CourseField.project(snapshot.getCourses(), key)));
+    }
+
+    /** The fieldset of one course, or {@code null} if there is no such course. */
+    public SerializedPayload getCoursePayload(CatalogSnapshot snapshot, String id, Set<CourseField> fields) {
+        CourseDTO course = snapshot.getCourse(id);
+        return course == null ? null : serialize(CourseField.project(course, fields));
+    }
+
+    private SerializedPayload serialize(Object value) {
+        try {
+            return SerializedPayload.of(objectMapper.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize course fieldset", e);
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.team.course_service.filter;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable set of non-negative ints in the layout of a Roaring bitmap: values are grouped by their
+ * upper 16 bits, and each group is stored either as a sorted array of its lower 16 bits (sparse groups)
+ * or as a 65536-bit bitset (dense groups, more than {@value #ARRAY_MAX} values). Set operations work
+ * group by group and pick the cheapest algorithm for each pair of container kinds.
+ */
+public final class CompressedBitmap {
+    static final int ARRAY_MAX = 4096;
+    /** Up to this size, two arrays are intersected or subtracted by merging rather than through a bitset. */
+    private static final int MERGE_MAX = 64;
+    private static final int WORDS = 1 << 10;
+
+    public static final CompressedBitmap EMPTY = new CompressedBitmap(new char[0], new Object[0], 0);
+
+    /** Upper 16 bits of each group, ascending. */
+    private final char[] keys;
+    /** Per group either a {@code char[]} of sorted lower bits or a {@link Bits} bitset. */
+    private final Object[] containers;
+    private final int cardinality;
+
+    private CompressedBitmap(char[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    /** All values in {@code [0, size)}. */
+    public static CompressedBitmap range(int size) {
+        Builder builder = new Builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        return builder.build();
+    }
+
+    public static CompressedBitmap of(int... values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        Builder builder = new Builder();
+        for (int value : sorted) {
+            builder.add(value);
+        }
+        return builder.build();
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        char low = (char) value;
+        Object container = containers[index];
+        if (container instanceof char[] array) {
+            return Arrays.binarySearch(array, low) >= 0;
+        }
+        return (((Bits) container).words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    /** Calls {@code action} for every value in ascending order. */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            int high = keys[i] << 16;
+            Object container = containers[i];
+            if (container instanceof char[] array) {
+                for (char low : array) {
+                    action.accept(high | low);
+                }
+            } else {
+                long[] words = ((Bits) container).words;
+                for (int w = 0; w < WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        action.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Up to {@code limit} values in ascending order, skipping the first {@code offset}. */
+    public int[] toArray(int offset, int limit) {
+        int count = Math.max(0, Math.min(limit, cardinality - offset));
+        int[] result = new int[count];
+        if (count == 0) {
+            return result;
+        }
+        int skip = offset;
+        int n = 0;
+        for (int i = 0; i < keys.length && n < count; i++) {
+            int size = containerCardinality(containers[i]);
+            if (skip >= size) {
+                // Whole groups before the offset are skipped without visiting their values
+                skip -= size;
+                continue;
+            }
+            int high = keys[i] << 16;
+            Object container = containers[i];
+            if (container instanceof char[] array) {
+                for (int j = skip; j < array.length && n < count; j++) {
+                    result[n++] = high | array[j];
+                }
+            } else {
+                long[] words = ((Bits) container).words;
+                for (int w = 0; w < WORDS && n < count; w++) {
+                    long word = words[w];
+                    while (word != 0 && n < count) {
+                        if (skip > 0) {
+                            skip--;
+                        } else {
+                            result[n++] = high | (w << 6) | Long.numberOfTrailingZeros(word);
+                        }
+                        word &= word - 1;
+                    }
+                }
+            }
+            skip = 0;
+        }
+        return result;
+    }
+
+    public int[] toArray() {
+        return toArray(0, cardinality);
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        Merger result = new Merger(Math.min(keys.length, other.keys.length));
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.add(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    public CompressedBitmap or(CompressedBitmap other) {
+        Merger result = new Merger(keys.length + other.keys.length);
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if (j == other.keys.length || (i < keys.length && keys[i] < other.keys[j])) {
+                result.add(keys[i], containers[i]);
+                i++;
+            } else if (i == keys.length || keys[i] > other.keys[j]) {
+                result.add(other.keys[j], other.containers[j]);
+                j++;
+            } else {
+                result.add(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result.build();
+    }
+
+    /** Values of this bitmap that are not in {@code other}. */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        Merger result = new Merger(keys.length);
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                result.add(keys[i], andNot(containers[i], other.containers[j]));
+            } else {
+                result.add(keys[i], containers[i]);
+            }
+        }
+        return result.build();
+    }
+
+    /** Union of many bitmaps, merging into one bitset per group instead of allocating a result per pair. */
+    public static CompressedBitmap or(Iterable<CompressedBitmap> bitmaps) {
+        int maxKey = -1;
+        int count = 0;
+        CompressedBitmap single = EMPTY;
+        for (CompressedBitmap bitmap : bitmaps) {
+            count++;
+            single = bitmap;
+            if (bitmap.keys.length > 0) {
+                maxKey = Math.max(maxKey, bitmap.keys[bitmap.keys.length - 1]);
+            }
+        }
+        if (count < 2) {
+            return single;
+        }
+        long[][] groups = new long[maxKey + 1][];
+        for (CompressedBitmap bitmap : bitmaps) {
+            for (int i = 0; i < bitmap.keys.length; i++) {
+                long[] words = groups[bitmap.keys[i]];
+                if (words == null) {
+                    words = groups[bitmap.keys[i]] = new long[WORDS];
+                }
+                orInto(words, bitmap.containers[i]);
+            }
+        }
+        Merger result = new Merger(groups.length);
+        for (int key = 0; key < groups.length; key++) {
+            if (groups[key] != null) {
+                result.add((char) key, compact(groups[key]));
+            }
+        }
+        return result.build();
+    }
+
+    // Container operations; a container is either a char[] array or a Bits bitset, never empty
+
+    /** A dense container: a bitset of {@value #WORDS} words with its cardinality. */
+    private static final class Bits {
+        final long[] words;
+        final int cardinality;
+
+        Bits(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+    }
+
+    private static Object and(Object a, Object b) {
+        if (a instanceof char[] x && b instanceof char[] y) {
+            if (Math.min(x.length, y.length) > MERGE_MAX) {
+                return x.length <= y.length ? filter(x, bitsOf(y), 1) : filter(y, bitsOf(x), 1);
+            }
+            char[] out = new char[Math.min(x.length, y.length)];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < x.length && j < y.length) {
+                if (x[i] < y[j]) {
+                    i++;
+                } else if (x[i] > y[j]) {
+                    j++;
+                } else {
+                    out[n++] = x[i];
+                    i++;
+                    j++;
+                }
+            }
+            return trim(out, n);
+        }
+        if (a instanceof Bits x && b instanceof Bits y) {
+            long[] out = new long[WORDS];
+            for (int w = 0; w < WORDS; w++) {
+                out[w] = x.words[w] & y.words[w];
+            }
+            return compact(out);
+        }
+        char[] array = a instanceof char[] x ? x : (char[]) b;
+        long[] bits = a instanceof Bits x ? x.words : ((Bits) b).words;
+        return filter(array, bits, 1);
+    }
+
+    private static Object or(Object a, Object b) {
+        if (a instanceof char[] x && b instanceof char[] y && x.length + y.length <= ARRAY_MAX) {
+            char[] out = new char[x.length + y.length];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+            while (i < x.length || j < y.length) {
+                if (j == y.length || (i < x.length && x[i] < y[j])) {
+                    out[n++] = x[i++];
+                } else if (i == x.length || x[i] > y[j]) {
+                    out[n++] = y[j++];
+                } else {
+                    out[n++] = x[i];
+                    i++;
+                    j++;
+                }
+            }
+            return trim(out, n);
+        }
+        long[] out = new long[WORDS];
+        orInto(out, a);
+        orInto(out, b);
+        return compact(out);
+    }
+
+    private static Object andNot(Object a, Object b) {
+        if (a instanceof char[] x) {
+            if (b instanceof char[] y && Math.min(x.length, y.length) <= MERGE_MAX) {
+                char[] out = new char[x.length];
+                int n = 0;
+                int j = 0;
+                for (char value : x) {
+                    while (j < y.length && y[j] < value) {
+                        j++;
+                    }
+                    if (j == y.length || y[j] != value) {
+                        out[n++] = value;
+                    }
+                }
+                return trim(out, n);
+            }
+            return filter(x, b instanceof Bits y ? y.words : bitsOf((char[]) b), 0);
+        }
+        long[] out = ((Bits) a).words.clone();
+        if (b instanceof char[] y) {
+            for (char value : y) {
+                out[value >>> 6] &= ~(1L << value);
+            }
+        } else {
+            long[] bits = ((Bits) b).words;
+            for (int w = 0; w < WORDS; w++) {
+                out[w] &= ~bits[w];
+            }
+        }
+        return compact(out);
+    }
+
+    /**
+     * The values of {@code array} whose bit in {@code bits} equals {@code keep}. Branch-free, since whether
+     * a value survives is unpredictable; this beats a merge once both sides have more than a few values.
+     */
+    private static Object filter(char[] array, long[] bits, int keep) {
+        char[] out = new char[array.length];
+        int n = 0;
+        for (char value : array) {
+            out[n] = value;
+            n += (int) ((bits[value >>> 6] >>> value) & 1) ^ keep ^ 1;
+        }
+        return trim(out, n);
+    }
+
+    private static long[] bitsOf(char[] array) {
+        long[] words = new long[WORDS];
+        orInto(words, array);
+        return words;
+    }
+
+    private static void orInto(long[] words, Object container) {
+        if (container instanceof char[] array) {
+            for (char value : array) {
+                words[value >>> 6] |= 1L << value;
+            }
+        } else {
+            long[] bits = ((Bits) container).words;
+            for (int w = 0; w < WORDS; w++) {
+                words[w] |= bits[w];
+            }
+        }
+    }
+
+    /** The bitset as a container: kept as is above {@value #ARRAY_MAX} values, an array below; {@code null} if empty. */
+    private static Object compact(long[] words) {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        if (cardinality == 0) {
+            return null;
+        }
+        if (cardinality > ARRAY_MAX) {
+            return new Bits(words, cardinality);
+        }
+        char[] out = new char[cardinality];
+        int n = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                out[n++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return out;
+    }
+
+    private static Object trim(char[] values, int size) {
+        if (size == 0) {
+            return null;
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    private static int containerCardinality(Object container) {
+        return container instanceof char[] array ? array.length : ((Bits) container).cardinality;
+    }
+
+    /** Collects result groups in key order, dropping empty ones. */
+    private static final class Merger {
+        private char[] keys;
+        private Object[] containers;
+        private int size;
+        private int cardinality;
+
+        Merger(int capacity) {
+            keys = new char[capacity];
+            containers = new Object[capacity];
+        }
+
+        void add(char key, Object container) {
+            if (container == null) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+                containers = Arrays.copyOf(containers, keys.length);
+            }
+            keys[size] = key;
+            containers[size] = container;
+            size++;
+            cardinality += containerCardinality(container);
+        }
+
+        CompressedBitmap build() {
+            return size == 0 ? EMPTY : new CompressedBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size), cardinality);
+        }
+    }
+
+    /** Builds a bitmap from values added in strictly ascending order. */
+    public static final class Builder {
+        private final Merger groups = new Merger(4);
+        private final long[] words = new long[WORDS];
+        private int currentKey = -1;
+        private int currentSize;
+        private int last = -1;
+
+        public Builder add(int value) {
+            if (value <= last) {
+                throw new IllegalArgumentException("Values must be added in ascending order: " + value + " after " + last);
+            }
+            last = value;
+            int key = value >>> 16;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            words[(value & 0xFFFF) >>> 6] |= 1L << value;
+            currentSize++;
+            return this;
+        }
+
+        public CompressedBitmap build() {
+            flush();
+            return groups.build();
+        }
+
+        private void flush() {
+            if (currentSize > 0) {
+                groups.add((char) currentKey, compact(words.clone()));
+                Arrays.fill(words, 0);
+                currentSize = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.team.course_service.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.filter.FilterExpression.And;
+import com.team.course_service.filter.FilterExpression.Not;
+import com.team.course_service.filter.FilterExpression.Or;
+import com.team.course_service.filter.FilterExpression.Term;
+
+/**
+ * Bitmaps over the ordinals of a catalog snapshot: one per category, per credit value and per rating bucket.
+ * Rating buckets are half stars, so bucket {@code b} holds the courses whose average rating is in
+ * {@code [b / 2, (b + 1) / 2)}, and the last bucket those rated exactly 5. Since range ends are multiples of
+ * 0.5 and inclusive, a range also needs the courses rated exactly at its upper end, which are kept separately.
+ */
+final class CourseBitmapIndex {
+    static final int RATING_BUCKETS = 11;
+
+    private final CompressedBitmap all;
+    /** Keyed by lower-case category name. */
+    private final Map<String, CompressedBitmap> categories;
+    private final NavigableMap<Integer, CompressedBitmap> credits;
+    private final CompressedBitmap[] ratingBuckets;
+    /** {@code exactRatings[b]} holds the courses of bucket {@code b} rated exactly {@code b / 2}. */
+    private final CompressedBitmap[] exactRatings;
+    private final CompressedBitmap unrated;
+
+    private CourseBitmapIndex(CompressedBitmap all, Map<String, CompressedBitmap> categories,
+                              NavigableMap<Integer, CompressedBitmap> credits,
+                              CompressedBitmap[] ratingBuckets, CompressedBitmap[] exactRatings,
+                              CompressedBitmap unrated) {
+        this.all = all;
+        this.categories = categories;
+        this.credits = credits;
+        this.ratingBuckets = ratingBuckets;
+        this.exactRatings = exactRatings;
+        this.unrated = unrated;
+    }
+
+    /** Indexes categories and credits; every course starts out unrated. */
+    static CourseBitmapIndex build(List<CourseDTO> courses) {
+        Map<String, CompressedBitmap.Builder> categoryBuilders = new HashMap<>();
+        Map<Integer, CompressedBitmap.Builder> creditBuilders = new HashMap<>();
+        for (int ordinal = 0; ordinal < courses.size(); ordinal++) {
+            CourseDTO course = courses.get(ordinal);
+            creditBuilders.computeIfAbsent(course.getCredits(), c -> new CompressedBitmap.Builder()).add(ordinal);
+            if (course.getCategories() == null) {
+                continue;
+            }
+            // Two category names may only differ in case; each course is added once per key
+            List<String> keys = new ArrayList<>();
+            for (CategoryDTO category : course.getCategories()) {
+                String key = category.getName().toLowerCase(Locale.ROOT);
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                    categoryBuilders.computeIfAbsent(key, k -> new CompressedBitmap.Builder()).add(ordinal);
+                }
+            }
+        }
+        Map<String, CompressedBitmap> categories = new HashMap<>();
+        categoryBuilders.forEach((key, builder) -> categories.put(key, builder.build()));
+        NavigableMap<Integer, CompressedBitmap> credits = new TreeMap<>();
+        creditBuilders.forEach((value, builder) -> credits.put(value, builder.build()));
+        CompressedBitmap all = CompressedBitmap.range(courses.size());
+        CompressedBitmap[] ratingBuckets = new CompressedBitmap[RATING_BUCKETS];
+        Arrays.fill(ratingBuckets, CompressedBitmap.EMPTY);
+        return new CourseBitmapIndex(all, categories, credits, ratingBuckets, ratingBuckets, all);
+    }
+
+    /** The same index with rating buckets built from average ratings by course ID. */
+    CourseBitmapIndex withRatings(List<CourseDTO> courses, Map<String, Double> averages) {
+        CompressedBitmap.Builder[] buckets = new CompressedBitmap.Builder[RATING_BUCKETS];
+        CompressedBitmap.Builder[] exact = new CompressedBitmap.Builder[RATING_BUCKETS];
+        for (int b = 0; b < RATING_BUCKETS; b++) {
+            buckets[b] = new CompressedBitmap.Builder();
+            exact[b] = new CompressedBitmap.Builder();
+        }
+        CompressedBitmap.Builder unratedBuilder = new CompressedBitmap.Builder();
+        for (int ordinal = 0; ordinal < courses.size(); ordinal++) {
+            Double average = averages.get(courses.get(ordinal).getId());
+            if (average == null || average.isNaN()) {
+                unratedBuilder.add(ordinal);
+            } else {
+                int bucket = bucketOf(average);
+                buckets[bucket].add(ordinal);
+                if (average == bucket / 2.0) {
+                    exact[bucket].add(ordinal);
+                }
+            }
+        }
+        CompressedBitmap[] ratingBuckets = new CompressedBitmap[RATING_BUCKETS];
+        CompressedBitmap[] exactRatings = new CompressedBitmap[RATING_BUCKETS];
+        for (int b = 0; b < RATING_BUCKETS; b++) {
+            ratingBuckets[b] = buckets[b].build();
+            exactRatings[b] = exact[b].build();
+        }
+        return new CourseBitmapIndex(all, categories, credits, ratingBuckets, exactRatings, unratedBuilder.build());
+    }
+
+    static int bucketOf(double average) {
+        return (int) Math.max(0, Math.min(RATING_BUCKETS - 1, Math.floor(average * 2)));
+    }
+
+    /** Ordinals of the courses matching the expression. */
+    CompressedBitmap evaluate(FilterExpression expression) {
+        return switch (expression) {
+            case Term term -> term(term);
+            case Not not -> all.andNot(evaluate(not.operand()));
+            case Or or -> CompressedBitmap.or(or.operands().stream().map(this::evaluate).toList());
+            case And and -> and(and.operands());
+        };
+    }
+
+    /**
+     * Intersects the positive operands smallest first, then subtracts the negated ones,
+     * so {@code NOT} inside {@code AND} never materializes a complement.
+     */
+    private CompressedBitmap and(List<FilterExpression> operands) {
+        List<CompressedBitmap> included = new ArrayList<>(operands.size());
+        List<CompressedBitmap> excluded = new ArrayList<>();
+        for (FilterExpression operand : operands) {
+            if (operand instanceof Not not) {
+                excluded.add(evaluate(not.operand()));
+            } else {
+                included.add(evaluate(operand));
+            }
+        }
+        included.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+        CompressedBitmap result = included.isEmpty() ? all : included.get(0);
+        for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+            result = result.and(included.get(i));
+        }
+        for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+            result = result.andNot(excluded.get(i));
+        }
+        return result;
+    }
+
+    private CompressedBitmap term(Term term) {
+        return switch (term.field()) {
+            case CATEGORY -> categories.getOrDefault(term.value().toLowerCase(Locale.ROOT), CompressedBitmap.EMPTY);
+            case CREDITS -> {
+                double[] range = range(term, 0, Integer.MAX_VALUE);
+                if (range[0] != Math.rint(range[0]) || range[1] != Math.rint(range[1])) {
+                    throw new InvalidFilterException("Credits must be whole numbers: " + term.value());
+                }
+                yield CompressedBitmap.or(credits.subMap((int) range[0], true, (int) range[1], true).values());
+            }
+            case RATING -> {
+                if (term.value().equalsIgnoreCase("none")) {
+                    yield unrated;
+                }
+                double[] range = range(term, 0, 5);
+                if (range[0] * 2 != Math.rint(range[0] * 2) || range[1] * 2 != Math.rint(range[1] * 2)) {
+                    throw new InvalidFilterException("Ratings must be multiples of 0.5: " + term.value());
+                }
+                // Whole buckets from min up to max, then only the courses rated exactly max
+                int upper = (int) (range[1] * 2);
+                List<CompressedBitmap> selected = new ArrayList<>();
+                for (int b = (int) (range[0] * 2); b < upper; b++) {
+                    selected.add(ratingBuckets[b]);
+                }
+                selected.add(exactRatings[upper]);
+                yield CompressedBitmap.or(selected);
+            }
+        };
+    }
+
+    /** Parses {@code v}, {@code min..max}, {@code min..} or {@code ..max}, clamped to {@code [lowest, highest]}. */
+    private static double[] range(Term term, double lowest, double highest) {
+        String value = term.value();
+        int dots = value.indexOf("..");
+        try {
+            double min = dots < 0 ? Double.parseDouble(value)
+                    : dots == 0 ? lowest : Double.parseDouble(value.substring(0, dots));
+            double max = dots < 0 ? min
+                    : dots + 2 == value.length() ? highest : Double.parseDouble(value.substring(dots + 2));
+            if (min > max || min < lowest || max > highest) {
+                throw new InvalidFilterException("Invalid range '" + value + "'");
+            }
+            return new double[] {min, max};
+        } catch (NumberFormatException e) {
+            throw new InvalidFilterException("Invalid number in '" + value + "'");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.team.course_service.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.CourseFilterResultDTO;
+
+/**
+ * Evaluates filter expressions as bitmap operations over the current catalog snapshot. The category and
+ * credit bitmaps are rebuilt per catalog version, the rating bitmaps whenever catalog or ratings change.
+ */
+@Service
+public class CourseFilterService {
+    private record Indexed(long catalogVersion, long ratingsVersion, CourseBitmapIndex index) { }
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CourseRatings courseRatings;
+    private final SnapshotDerived<CourseBitmapIndex> catalogIndex =
+            new SnapshotDerived<>((previousSnapshot, previous, current) -> CourseBitmapIndex.build(current.getCourses()));
+    private volatile Indexed indexed;
+
+    public CourseFilterService(CatalogSnapshotService catalogSnapshotService, CourseRatings courseRatings) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.courseRatings = courseRatings;
+    }
+
+    /**
+     * Courses matching the expression, in catalog order, skipping {@code offset} matches.
+     *
+     * @throws InvalidFilterException if the expression is malformed
+     */
+    public CourseFilterResultDTO filter(String expression, int offset, int limit) {
+        FilterExpression parsed = FilterExpression.parse(expression);
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        CompressedBitmap matches = index(snapshot).evaluate(parsed);
+        List<CourseDTO> courses = new ArrayList<>();
+        for (int ordinal : matches.toArray(offset, limit)) {
+            courses.add(snapshot.getCourses().get(ordinal));
+        }
+        return new CourseFilterResultDTO(matches.cardinality(), courses);
+    }
+
+    private CourseBitmapIndex index(CatalogSnapshot snapshot) {
+        CourseRatings.Ratings ratings = courseRatings.current();
+        Indexed current = indexed;
+        if (current != null && current.catalogVersion() == snapshot.getVersion()
+                && current.ratingsVersion() == ratings.version()) {
+            return current.index();
+        }
+        // Concurrent rebuilds produce equal indexes, so the last one written wins harmlessly
+        CourseBitmapIndex index = catalogIndex.get(snapshot).withRatings(snapshot.getCourses(), ratings.averages());
+        indexed = new Indexed(snapshot.getVersion(), ratings.version(), index);
+        return index;
+    }
+}
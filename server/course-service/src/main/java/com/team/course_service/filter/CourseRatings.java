@@ -0,0 +1,62 @@
+package com.team.course_service.filter;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Average rating per course, polled from review-service, which owns the reviews. Until the first
+ * successful poll, or when {@code course.ratings.base-url} is empty, every course counts as unrated.
+ */
+@Component
+public class CourseRatings {
+    private static final Logger logger = LoggerFactory.getLogger(CourseRatings.class);
+
+    /** The averages of one poll; the version changes whenever the averages do. */
+    public record Ratings(long version, Map<String, Double> averages) { }
+
+    private final RestClient restClient;
+    private volatile Ratings ratings = new Ratings(0, Map.of());
+
+    public CourseRatings(RestClient.Builder restClientBuilder,
+                         @Value("${course.ratings.base-url:http://review-service:8080}") String baseUrl) {
+        this.restClient = baseUrl.isBlank() ? null : restClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    public Ratings current() {
+        return ratings;
+    }
+
+    @Scheduled(fixedDelayString = "${course.ratings.refresh-interval:PT1M}")
+    public void refresh() {
+        if (restClient == null) {
+            return;
+        }
+        try {
+            Map<String, Double> averages = restClient.get()
+                    .uri("/courses/average-ratings")
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<Map<String, Double>>() { });
+            if (averages != null) {
+                update(averages);
+            }
+        } catch (RestClientException e) {
+            logger.warn("Could not fetch course ratings, keeping the previous ones: {}", e.getMessage());
+        }
+    }
+
+    /** Replaces the known averages, e.g. after a poll. */
+    public synchronized void update(Map<String, Double> averages) {
+        Ratings current = ratings;
+        if (!current.averages().equals(averages)) {
+            ratings = new Ratings(current.version() + 1, Map.copyOf(averages));
+        }
+    }
+}
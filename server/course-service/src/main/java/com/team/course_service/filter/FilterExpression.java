@@ -0,0 +1,35 @@
+package com.team.course_service.filter;
+
+import java.util.List;
+
+/**
+ * A boolean filter over courses, parsed from expressions such as
+ * {@code category:"Computer Graphics and Vision" AND credits:5..8 AND NOT rating:..2.5}.
+ *
+ * <p>Terms are {@code category:<name>}, {@code credits:<value>} and {@code rating:<value>}, where values
+ * of credits and rating may be ranges {@code min..max} with either end open. Both ends are inclusive, so
+ * {@code rating:..4} includes an average of exactly 4 but not 4.2, and {@code rating:4} only matches exactly 4;
+ * rating ends must be multiples of 0.5. {@code rating:none} matches unrated courses.
+ *
+ * <p>Terms combine with {@code AND}, {@code OR}, {@code NOT} and parentheses; adjacent terms without an
+ * operator are ANDed, and {@code AND} binds tighter than {@code OR}. Expressions are limited to 2000
+ * characters and 32 nested parentheses or {@code NOT}s.
+ */
+public sealed interface FilterExpression {
+
+    enum Field { CATEGORY, CREDITS, RATING }
+
+    /** A single field condition; {@code value} is the raw, unquoted text after the colon. */
+    record Term(Field field, String value) implements FilterExpression { }
+
+    record And(List<FilterExpression> operands) implements FilterExpression { }
+
+    record Or(List<FilterExpression> operands) implements FilterExpression { }
+
+    record Not(FilterExpression operand) implements FilterExpression { }
+
+    /** @throws InvalidFilterException if the expression is malformed, too long or nested too deeply */
+    static FilterExpression parse(String expression) {
+        return FilterParser.parse(expression);
+    }
+}
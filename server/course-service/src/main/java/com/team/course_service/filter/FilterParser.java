@@ -0,0 +1,166 @@
+package com.team.course_service.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.team.course_service.filter.FilterExpression.And;
+import com.team.course_service.filter.FilterExpression.Field;
+import com.team.course_service.filter.FilterExpression.Not;
+import com.team.course_service.filter.FilterExpression.Or;
+import com.team.course_service.filter.FilterExpression.Term;
+
+/**
+ * Recursive-descent parser over whitespace and parenthesis separated tokens. Expressions come straight from the
+ * query string, so their length and nesting are capped to bound the work and the stack depth per request.
+ */
+final class FilterParser {
+    static final int MAX_LENGTH = 2000;
+    static final int MAX_DEPTH = 32;
+
+    private record Token(String text, boolean quoted) { }
+
+    private final List<Token> tokens;
+    private int position;
+    /** parentheses and NOTs currently open */
+    private int depth;
+
+    static FilterExpression parse(String expression) {
+        if (expression.length() > MAX_LENGTH) {
+            throw new InvalidFilterException("Filter longer than " + MAX_LENGTH + " characters");
+        }
+        FilterParser parser = new FilterParser(tokenize(expression));
+        FilterExpression parsed = parser.or();
+        if (parser.position < parser.tokens.size()) {
+            throw new InvalidFilterException("Unexpected '" + parser.tokens.get(parser.position).text + "'");
+        }
+        return parsed;
+    }
+
+    private FilterParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    private FilterExpression or() {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(and());
+        while (peekKeyword("OR")) {
+            position++;
+            operands.add(and());
+        }
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    private FilterExpression and() {
+        List<FilterExpression> operands = new ArrayList<>();
+        operands.add(unary());
+        while (position < tokens.size() && !peekKeyword("OR") && !peek(")")) {
+            if (peekKeyword("AND")) {
+                position++;
+            }
+            operands.add(unary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    private FilterExpression unary() {
+        if (position == tokens.size()) {
+            throw new InvalidFilterException("Unexpected end of filter");
+        }
+        if (peekKeyword("NOT")) {
+            position++;
+            enter();
+            FilterExpression operand = unary();
+            depth--;
+            return new Not(operand);
+        }
+        if (peek("(")) {
+            position++;
+            enter();
+            FilterExpression inner = or();
+            if (!peek(")")) {
+                throw new InvalidFilterException("Missing ')'");
+            }
+            position++;
+            depth--;
+            return inner;
+        }
+        Token token = tokens.get(position++);
+        if (token.quoted || token.text.equals(")")) {
+            throw new InvalidFilterException("Expected a term but found '" + token.text + "'");
+        }
+        int colon = token.text.indexOf(':');
+        if (colon < 0) {
+            throw new InvalidFilterException("Expected field:value but found '" + token.text + "'");
+        }
+        Field field;
+        try {
+            field = Field.valueOf(token.text.substring(0, colon).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException("Unknown filter field '" + token.text.substring(0, colon) + "'");
+        }
+        String value = token.text.substring(colon + 1);
+        if (value.isEmpty() && position < tokens.size() && tokens.get(position).quoted) {
+            value = tokens.get(position++).text;
+        }
+        if (value.isEmpty()) {
+            throw new InvalidFilterException("Missing value for '" + field.name().toLowerCase(Locale.ROOT) + "'");
+        }
+        return new Term(field, value);
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw new InvalidFilterException("Filter nested deeper than " + MAX_DEPTH + " levels");
+        }
+    }
+
+    private boolean peek(String text) {
+        return position < tokens.size() && !tokens.get(position).quoted && tokens.get(position).text.equals(text);
+    }
+
+    private boolean peekKeyword(String keyword) {
+        return position < tokens.size() && !tokens.get(position).quoted
+                && tokens.get(position).text.equalsIgnoreCase(keyword);
+    }
+
+    /** Splits into words, parentheses and double-quoted strings; a quote may directly follow {@code field:}. */
+    private static List<Token> tokenize(String expression) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (c == '"') {
+                StringBuilder text = new StringBuilder();
+                i++;
+                while (i < expression.length() && expression.charAt(i) != '"') {
+                    if (expression.charAt(i) == '\\' && i + 1 < expression.length()) {
+                        i++;
+                    }
+                    text.append(expression.charAt(i++));
+                }
+                if (i == expression.length()) {
+                    throw new InvalidFilterException("Unterminated quote");
+                }
+                i++;
+                tokens.add(new Token(text.toString(), true));
+            } else {
+                int start = i;
+                while (i < expression.length() && !Character.isWhitespace(expression.charAt(i))
+                        && "()\"".indexOf(expression.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(new Token(expression.substring(start, i), false));
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new InvalidFilterException("Empty filter");
+        }
+        return tokens;
+    }
+}
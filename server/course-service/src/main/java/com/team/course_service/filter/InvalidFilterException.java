@@ -0,0 +1,10 @@
+package com.team.course_service.filter;
+
+/**
+ * Thrown when a filter expression cannot be parsed or names an unknown field or invalid value.
+ */
+public class InvalidFilterException extends IllegalArgumentException {
+    public InvalidFilterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.team.course_service.model;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions. Each region is a Caffeine JCache cache configured
+ * in {@code application.conf}; a region missing there fails startup.
+ */
+public final class CacheRegions {
+    public static final String COURSE = "course";
+    public static final String COURSE_CATEGORIES = "course-categories";
+    public static final String CATEGORY = "category";
+    /** Results of the cacheable repository queries. */
+    public static final String CATALOG_QUERIES = "catalog-queries";
+    // Hibernate's own regions for query results without an explicit region and for table modification times
+    public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ALL = List.of(COURSE, COURSE_CATEGORIES, CATEGORY, CATALOG_QUERIES,
+            DEFAULT_QUERY_RESULTS, UPDATE_TIMESTAMPS);
+
+    private CacheRegions() {
+        // Private constructor to prevent instantiation
+    }
+}
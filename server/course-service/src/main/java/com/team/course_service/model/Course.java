@@ -1,12 +1,20 @@
 package com.team.course_service.model;
 
 
+import java.util.HashSet;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import com.team.course_service.catalog.CatalogChangeListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinTable;
@@ -14,7 +22,10 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 
 @Entity
+@EntityListeners(CatalogChangeListener.class)
 @Table(name = "course")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
 public class Course {
     @Id
     private String id;
@@ -29,9 +40,17 @@ public class Course {
     @JoinTable(name = "course_category",
             joinColumns = @jakarta.persistence.JoinColumn(name = "course_id"),
             inverseJoinColumns = @jakarta.persistence.JoinColumn(name = "category_name"))
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE_CATEGORIES)
     @JsonManagedReference
     private Set<Category> categories;
 
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "course_prerequisite",
+            joinColumns = @jakarta.persistence.JoinColumn(name = "course_id"),
+            inverseJoinColumns = @jakarta.persistence.JoinColumn(name = "prerequisite_id"))
+    @JsonIgnore
+    private Set<Course> prerequisites = new HashSet<>();
+
     public Course() {
     }
     public Course(String id, String title, String description, int credits, Set<Category> categories) {
@@ -58,6 +77,9 @@ public class Course {
     public Set<Category> getCategories() { return categories; }
     public void setCategories(Set<Category> categories) { this.categories = categories; }
 
+    public Set<Course> getPrerequisites() { return prerequisites; }
+    public void setPrerequisites(Set<Course> prerequisites) { this.prerequisites = prerequisites; }
+
     @Override
     public String toString() {
         return "Course{" +
@@ -0,0 +1,43 @@
+package com.team.course_service.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Accumulated views of a course. Rows are written by batched upserts from the view counters, never through JPA;
+ * {@code popularity} is log2 of the sum of all views, each weighted by when it was flushed (see {@code CoursePopularityService}).
+ */
+@Entity
+@Table(name = "course_stats")
+public class CourseStats {
+    @Id
+    @Column(name = "course_id", length = 10)
+    private String courseId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private double popularity;
+
+    @Column(name = "last_viewed_at", nullable = false)
+    private Instant lastViewedAt;
+
+    public CourseStats() { }
+
+    public CourseStats(String courseId, long viewCount, double popularity, Instant lastViewedAt) {
+        this.courseId = courseId;
+        this.viewCount = viewCount;
+        this.popularity = popularity;
+        this.lastViewedAt = lastViewedAt;
+    }
+
+    public String getCourseId() { return courseId; }
+    public long getViewCount() { return viewCount; }
+    public double getPopularity() { return popularity; }
+    public Instant getLastViewedAt() { return lastViewedAt; }
+}
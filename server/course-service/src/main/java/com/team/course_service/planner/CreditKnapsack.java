@@ -0,0 +1,65 @@
+package com.team.course_service.planner;
+
+import java.util.Arrays;
+
+/**
+ * 0/1 knapsack over course credits. Among all subsets whose credit sum is as close as possible to
+ * the target without exceeding it, finds one with the highest total value. Runs in
+ * O(items * target) time over primitive arrays; the choices are kept as one bitset row per item.
+ */
+final class CreditKnapsack {
+    private static final long UNREACHABLE = Long.MIN_VALUE;
+
+    private CreditKnapsack() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param credits credits of each item; items with non-positive credits or more than {@code target} are never chosen
+     * @param values  value of each item
+     * @param target  maximum credit sum
+     * @return indexes of the chosen items in ascending order, possibly empty
+     */
+    static int[] solve(int[] credits, long[] values, int target) {
+        int n = credits.length;
+        long[] best = new long[target + 1];
+        Arrays.fill(best, UNREACHABLE);
+        best[0] = 0;
+        int words = (target >>> 6) + 1;
+        long[] taken = new long[n * words];
+
+        for (int i = 0; i < n; i++) {
+            int weight = credits[i];
+            if (weight <= 0 || weight > target) {
+                continue;
+            }
+            long value = values[i];
+            int row = i * words;
+            for (int c = target; c >= weight; c--) {
+                long from = best[c - weight];
+                if (from != UNREACHABLE && from + value > best[c]) {
+                    best[c] = from + value;
+                    taken[row + (c >>> 6)] |= 1L << c;
+                }
+            }
+        }
+
+        int sum = target;
+        while (best[sum] == UNREACHABLE) {
+            sum--;
+        }
+        int[] chosen = new int[n];
+        int count = 0;
+        for (int i = n - 1; i >= 0 && sum > 0; i--) {
+            if ((taken[i * words + (sum >>> 6)] & (1L << sum)) != 0) {
+                chosen[count++] = i;
+                sum -= credits[i];
+            }
+        }
+        int[] result = new int[count];
+        for (int k = 0; k < count; k++) {
+            result[k] = chosen[count - 1 - k];
+        }
+        return result;
+    }
+}
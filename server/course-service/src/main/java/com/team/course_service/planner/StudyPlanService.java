@@ -0,0 +1,247 @@
+package com.team.course_service.planner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.StudyPlanDTO;
+import com.team.course_service.dto.StudyPlanRequest;
+import com.team.course_service.prerequisite.PrerequisiteGraph;
+import com.team.course_service.prerequisite.PrerequisiteService;
+
+/**
+ * Deterministic study-plan optimizer. Each semester is solved exactly with {@link CreditKnapsack} over the
+ * courses whose prerequisites are completed or planned in an earlier semester, maximizing credits, then credits
+ * in preferred categories, then using the fewest courses. Filling semesters one after another is a heuristic:
+ * with a single semester the plan is optimal, with several it is not guaranteed to be, since a semester cannot
+ * see what its choices unlock later. Two fillings are therefore tried and the better plan is kept: one giving
+ * every semester an equal share of the remaining credits, and one letting each semester take up to all of
+ * them, which reaches courses behind large prerequisites, spread out over the semesters afterwards.
+ * Alternatives are found by re-planning with one course of the best plan excluded at a time.
+ */
+@Service
+public class StudyPlanService {
+    /** Weight of a preferred credit relative to the per-course penalty that favours fewer courses. */
+    private static final long PREFERRED_CREDIT_VALUE = 1_000;
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final PrerequisiteService prerequisiteService;
+
+    public StudyPlanService(CatalogSnapshotService catalogSnapshotService, PrerequisiteService prerequisiteService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.prerequisiteService = prerequisiteService;
+    }
+
+    /** Planned course ordinals per semester. */
+    private record Plan(int[][] semesters, int totalCredits, int preferredCredits, int courseCount) {
+        Set<Integer> courses() {
+            Set<Integer> all = new HashSet<>();
+            for (int[] semester : semesters) {
+                for (int c : semester) {
+                    all.add(c);
+                }
+            }
+            return all;
+        }
+    }
+
+    private static final Comparator<Plan> BEST_FIRST = Comparator.comparingInt(Plan::totalCredits).reversed()
+            .thenComparing(Comparator.comparingInt(Plan::preferredCredits).reversed())
+            .thenComparingInt(Plan::courseCount);
+
+    /**
+     * @return up to {@code request.getAlternatives()} distinct plans, best first
+     * @throws com.team.course_service.prerequisite.PrerequisiteCycleException if the catalog's prerequisites contain a cycle
+     */
+    public List<StudyPlanDTO> plan(StudyPlanRequest request) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        PrerequisiteGraph graph = prerequisiteService.graph(snapshot);
+        List<CourseDTO> courses = snapshot.getCourses();
+        int n = courses.size();
+
+        Set<String> preferred = request.getPreferredCategories() == null
+                ? Set.of() : new HashSet<>(request.getPreferredCategories());
+        int[] credits = new int[n];
+        boolean[] isPreferred = new boolean[n];
+        long[] values = new long[n];
+        for (int c = 0; c < n; c++) {
+            CourseDTO course = courses.get(c);
+            credits[c] = course.getCredits();
+            isPreferred[c] = isPreferred(course, preferred);
+            values[c] = (isPreferred[c] ? credits[c] * PREFERRED_CREDIT_VALUE : 0) - 1;
+        }
+        long[] completed = graph.newBitset();
+        set(completed, ordinals(snapshot, request.getCompletedCourseIds()));
+        boolean[] excluded = new boolean[n];
+        for (int c : ordinals(snapshot, request.getExcludedCourseIds())) {
+            excluded[c] = true;
+        }
+        int semesters = request.getSemesters() == null ? 1 : request.getSemesters();
+        int alternatives = request.getAlternatives() == null ? 1 : request.getAlternatives();
+
+        Plan best = planHeuristically(graph, completed, excluded, credits, values, isPreferred,
+                request.getTargetCredits(), semesters);
+        Map<Set<Integer>, Plan> plans = new LinkedHashMap<>();
+        plans.put(best.courses(), best);
+        if (alternatives > 1) {
+            for (int c : best.courses()) {
+                excluded[c] = true;
+                Plan alternative = planHeuristically(graph, completed, excluded, credits, values, isPreferred,
+                        request.getTargetCredits(), semesters);
+                excluded[c] = false;
+                plans.putIfAbsent(alternative.courses(), alternative);
+            }
+        }
+        return plans.values().stream()
+                .filter(plan -> plan.courseCount() > 0)
+                .sorted(BEST_FIRST)
+                .limit(alternatives)
+                .map(plan -> toDto(plan, courses))
+                .toList();
+    }
+
+    /** The better of the balanced and the front-loaded semester-by-semester filling. */
+    private static Plan planHeuristically(PrerequisiteGraph graph, long[] completed, boolean[] excluded, int[] credits,
+                                          long[] values, boolean[] isPreferred, int targetCredits, int semesters) {
+        Plan balanced = fillSemesters(graph, completed, excluded, credits, values, isPreferred,
+                targetCredits, semesters, true);
+        if (semesters == 1 || balanced.totalCredits() == targetCredits) {
+            return balanced;
+        }
+        Plan frontLoaded = spreadOut(graph, fillSemesters(graph, completed, excluded, credits, values, isPreferred,
+                targetCredits, semesters, false), credits);
+        return BEST_FIRST.compare(frontLoaded, balanced) < 0 ? frontLoaded : balanced;
+    }
+
+    /**
+     * Fills the semesters in order, each with an optimal knapsack over the courses unlocked by then.
+     * A balanced filling caps each semester at an equal share of the remaining credits, otherwise at all of them.
+     */
+    private static Plan fillSemesters(PrerequisiteGraph graph, long[] completed, boolean[] excluded, int[] credits,
+                                      long[] values, boolean[] isPreferred, int targetCredits, int semesters,
+                                      boolean balanced) {
+        long[] done = completed.clone();
+        int[][] planned = new int[semesters][];
+        int remaining = targetCredits;
+        int preferredCredits = 0;
+        int courseCount = 0;
+        for (int s = 0; s < semesters; s++) {
+            int share = balanced ? (remaining + (semesters - s) - 1) / (semesters - s) : remaining;
+            int[] candidates = Arrays.stream(graph.unlocked(done)).filter(c -> !excluded[c]).toArray();
+            int[] candidateCredits = new int[candidates.length];
+            long[] candidateValues = new long[candidates.length];
+            for (int i = 0; i < candidates.length; i++) {
+                candidateCredits[i] = credits[candidates[i]];
+                candidateValues[i] = values[candidates[i]];
+            }
+            int[] chosen = CreditKnapsack.solve(candidateCredits, candidateValues, share);
+            planned[s] = new int[chosen.length];
+            for (int i = 0; i < chosen.length; i++) {
+                int c = candidates[chosen[i]];
+                planned[s][i] = c;
+                done[c >>> 6] |= 1L << c;
+                remaining -= credits[c];
+                preferredCredits += isPreferred[c] ? credits[c] : 0;
+            }
+            courseCount += chosen.length;
+        }
+        return new Plan(planned, targetCredits - remaining, preferredCredits, courseCount);
+    }
+
+    /**
+     * Moves courses of a front-loaded plan to later semesters while that makes the semesters more even. A course
+     * may move up to the semester before its earliest planned dependent, so prerequisites stay in order.
+     */
+    private static Plan spreadOut(PrerequisiteGraph graph, Plan plan, int[] credits) {
+        int semesters = plan.semesters().length;
+        int[] semesterOf = new int[credits.length];
+        Arrays.fill(semesterOf, -1);
+        int[] load = new int[semesters];
+        for (int s = 0; s < semesters; s++) {
+            for (int c : plan.semesters()[s]) {
+                semesterOf[c] = s;
+                load[s] += credits[c];
+            }
+        }
+        Map<Integer, List<Integer>> dependents = new HashMap<>();
+        for (int c : plan.courses()) {
+            for (int p : graph.directPrerequisites(c)) {
+                if (semesterOf[p] >= 0) {
+                    dependents.computeIfAbsent(p, k -> new ArrayList<>()).add(c);
+                }
+            }
+        }
+        // Later semesters first, so the dependents of the courses being moved are already in place
+        for (int s = semesters - 2; s >= 0; s--) {
+            for (int c : plan.semesters()[s]) {
+                int latest = semesters - 1;
+                for (int d : dependents.getOrDefault(c, List.of())) {
+                    latest = Math.min(latest, semesterOf[d] - 1);
+                }
+                int target = -1;
+                for (int t = s + 1; t <= latest; t++) {
+                    if (target < 0 || load[t] < load[target]) {
+                        target = t;
+                    }
+                }
+                if (target >= 0 && load[target] + credits[c] < load[s]) {
+                    load[s] -= credits[c];
+                    load[target] += credits[c];
+                    semesterOf[c] = target;
+                }
+            }
+        }
+        int[][] spread = new int[semesters][];
+        for (int s = 0; s < semesters; s++) {
+            int semester = s;
+            spread[s] = plan.courses().stream().mapToInt(Integer::intValue)
+                    .filter(c -> semesterOf[c] == semester).sorted().toArray();
+        }
+        return new Plan(spread, plan.totalCredits(), plan.preferredCredits(), plan.courseCount());
+    }
+
+    private static StudyPlanDTO toDto(Plan plan, List<CourseDTO> courses) {
+        List<List<CourseDTO>> semesters = new ArrayList<>(plan.semesters().length);
+        for (int[] semester : plan.semesters()) {
+            semesters.add(Arrays.stream(semester).mapToObj(courses::get).toList());
+        }
+        return new StudyPlanDTO(plan.totalCredits(), plan.preferredCredits(), semesters);
+    }
+
+    private static boolean isPreferred(CourseDTO course, Set<String> preferred) {
+        if (preferred.isEmpty() || course.getCategories() == null) {
+            return false;
+        }
+        for (CategoryDTO category : course.getCategories()) {
+            if (preferred.contains(category.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] ordinals(CatalogSnapshot snapshot, List<String> ids) {
+        if (ids == null) {
+            return new int[0];
+        }
+        return ids.stream().mapToInt(snapshot::ordinalOf).filter(c -> c >= 0).toArray();
+    }
+
+    private static void set(long[] bitset, int[] ordinals) {
+        for (int c : ordinals) {
+            bitset[c >>> 6] |= 1L << c;
+        }
+    }
+}
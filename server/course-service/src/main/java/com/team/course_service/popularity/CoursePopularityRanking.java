@@ -0,0 +1,58 @@
+package com.team.course_service.popularity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.team.course_service.model.CourseStats;
+import com.team.course_service.repository.CourseStatsRepository;
+
+/**
+ * A periodically refreshed copy of the stored popularity of every viewed course, for in-memory rankings that
+ * cannot query {@code course_stats} per request. Stored values all decay alike, so comparing them ranks courses
+ * like their current scores; courses never viewed have no entry.
+ */
+@Component
+public class CoursePopularityRanking {
+    private static final Logger logger = LoggerFactory.getLogger(CoursePopularityRanking.class);
+
+    /** The popularity of one refresh; the version changes whenever the values do. */
+    public record Ranking(long version, Map<String, Double> popularity) { }
+
+    private final CourseStatsRepository statsRepository;
+    private volatile Ranking ranking = new Ranking(0, Map.of());
+
+    public CoursePopularityRanking(CourseStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    public Ranking current() {
+        return ranking;
+    }
+
+    @Scheduled(fixedDelayString = "${course.popularity.ranking-refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            Map<String, Double> popularity = new HashMap<>();
+            for (CourseStats stats : statsRepository.findAll()) {
+                popularity.put(stats.getCourseId(), stats.getPopularity());
+            }
+            update(popularity);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read course popularity, keeping the previous ranking: {}", e.getMessage());
+        }
+    }
+
+    /** Replaces the known popularity, e.g. after a refresh. */
+    public synchronized void update(Map<String, Double> popularity) {
+        Ranking current = ranking;
+        if (!current.popularity().equals(popularity)) {
+            ranking = new Ranking(current.version() + 1, Map.copyOf(popularity));
+        }
+    }
+}
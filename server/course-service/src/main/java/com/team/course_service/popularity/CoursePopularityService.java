@@ -0,0 +1,98 @@
+package com.team.course_service.popularity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.PopularCourseDTO;
+import com.team.course_service.model.CourseStats;
+import com.team.course_service.repository.CourseStatsRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Flushes the in-memory view counters to {@code course_stats} and ranks courses by time-decayed popularity.
+ * <p>
+ * A view counts half after each half-life. Instead of decaying every stored score on each flush, a view flushed
+ * at time t gets weight 2^((t - EPOCH) / half-life); the sums of these weights rank courses exactly like the
+ * decayed scores, and a score is decayed to the present only when it is returned. The weights themselves outgrow
+ * a double after about a thousand half-lives, so {@code course_stats} keeps the base-2 logarithm of each sum,
+ * which only grows linearly with time (see {@link CourseStatsWriter}).
+ */
+@Service
+public class CoursePopularityService {
+    public static final int MAX_POPULAR = 100;
+    static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Logger logger = LoggerFactory.getLogger(CoursePopularityService.class);
+
+    private final CourseViewCounter viewCounter;
+    private final CourseStatsWriter statsWriter;
+    private final CourseStatsRepository statsRepository;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final double halfLifeSeconds;
+
+    public CoursePopularityService(CourseViewCounter viewCounter, CourseStatsWriter statsWriter,
+                                   CourseStatsRepository statsRepository,
+                                   CatalogSnapshotService catalogSnapshotService,
+                                   @Value("${course.popularity.half-life:P7D}") Duration halfLife) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("course.popularity.half-life must be positive");
+        }
+        this.viewCounter = viewCounter;
+        this.statsWriter = statsWriter;
+        this.statsRepository = statsRepository;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.halfLifeSeconds = halfLife.toMillis() / 1000.0;
+    }
+
+    /** Writes the views recorded since the last flush in one batch; on failure they are kept for the next one. */
+    @Scheduled(fixedDelayString = "${course.popularity.flush-interval:PT10S}",
+               initialDelayString = "${course.popularity.flush-interval:PT10S}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<String, Long> views = viewCounter.drain();
+        if (views.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        try {
+            statsWriter.addViews(views, exponent(now), now);
+        } catch (DataAccessException e) {
+            viewCounter.restore(views);
+            logger.warn("Could not flush views of {} courses, retrying with the next flush: {}", views.size(), e.getMessage());
+        }
+    }
+
+    /** The {@code limit} most popular courses, most popular first. Views not flushed yet are not included. */
+    public List<PopularCourseDTO> getPopular(int limit) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        double exponent = exponent(Instant.now());
+        List<PopularCourseDTO> popular = new ArrayList<>(limit);
+        for (CourseStats stats : statsRepository.findMostPopular(PageRequest.of(0, limit))) {
+            CourseDTO course = snapshot.getCourse(stats.getCourseId());
+            String title = course == null ? null : course.getTitle();
+            popular.add(new PopularCourseDTO(stats.getCourseId(), title, stats.getViewCount(),
+                    Math.pow(2, stats.getPopularity() - exponent)));
+        }
+        return popular;
+    }
+
+    /** The base-2 logarithm of the weight of a view flushed {@code at}: the number of half-lives since the epoch. */
+    private double exponent(Instant at) {
+        double elapsed = Duration.between(EPOCH, at).toMillis() / 1000.0;
+        return elapsed / halfLifeSeconds;
+    }
+}
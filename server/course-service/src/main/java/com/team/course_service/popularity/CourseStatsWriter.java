@@ -0,0 +1,87 @@
+package com.team.course_service.popularity;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Adds flushed views to {@code course_stats} with one JDBC batch of native upserts:
+ * {@code ON DUPLICATE KEY UPDATE} on MySQL, {@code MERGE ... USING} on H2. Counts are added in SQL rather than
+ * read and written back, so instances flushing at the same time do not overwrite each other.
+ * <p>
+ * {@code popularity} holds log2 of the weighted view sum. Adding a batch of log-weight {@code x} to a stored
+ * {@code p} is {@code max(p, x) + log2(1 + 2^-|p - x|)}, which never overflows and loses no precision that
+ * matters for ranking.
+ */
+@Repository
+public class CourseStatsWriter {
+
+    private enum Dialect {
+        MYSQL("INSERT INTO course_stats (course_id, view_count, popularity, last_viewed_at) VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count), "
+                + "popularity = GREATEST(popularity, VALUES(popularity)) "
+                + "+ LN(1 + POWER(2, -ABS(popularity - VALUES(popularity)))) / LN(2), "
+                + "last_viewed_at = VALUES(last_viewed_at)"),
+        H2("MERGE INTO course_stats t USING (VALUES (CAST(? AS VARCHAR(10)), CAST(? AS BIGINT), "
+                + "CAST(? AS DOUBLE PRECISION), CAST(? AS TIMESTAMP))) s (course_id, views, popularity, viewed_at) "
+                + "ON t.course_id = s.course_id "
+                + "WHEN MATCHED THEN UPDATE SET view_count = t.view_count + s.views, "
+                + "popularity = GREATEST(t.popularity, s.popularity) "
+                + "+ LN(1 + POWER(2, -ABS(t.popularity - s.popularity))) / LN(2), last_viewed_at = s.viewed_at "
+                + "WHEN NOT MATCHED THEN INSERT (course_id, view_count, popularity, last_viewed_at) "
+                + "VALUES (s.course_id, s.views, s.popularity, s.viewed_at)");
+
+        final String addViews;
+
+        Dialect(String addViews) {
+            this.addViews = addViews;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Dialect dialect;
+
+    public CourseStatsWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Adds the views per course, each contributing {@code 2^exponent} to the popularity. */
+    public void addViews(Map<String, Long> views, double exponent, Instant viewedAt) {
+        if (views.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.from(viewedAt);
+        List<Object[]> rows = new ArrayList<>(views.size());
+        views.forEach((id, count) -> rows.add(new Object[] {id, count, exponent + log2(count), timestamp}));
+        jdbcTemplate.batchUpdate(dialect().addViews, rows);
+    }
+
+    private Dialect dialect() {
+        Dialect current = dialect;
+        if (current == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            if (normalized.contains("mysql") || normalized.contains("mariadb")) {
+                current = Dialect.MYSQL;
+            } else if (normalized.contains("h2")) {
+                current = Dialect.H2;
+            } else {
+                throw new IllegalStateException("Course stats do not support " + product);
+            }
+            dialect = current;
+        }
+        return current;
+    }
+
+    private static double log2(long value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.team.course_service.popularity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Pending course views, counted in memory until the next flush. Recording a view is a map lookup and a
+ * {@link LongAdder} increment, so concurrent readers of the same course do not contend on one counter.
+ * Only views of existing courses are recorded, which bounds the map by the size of the catalog.
+ */
+@Component
+public class CourseViewCounter {
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void record(String courseId) {
+        LongAdder counter = pending.get(courseId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(courseId, id -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Takes the views recorded since the last drain. Each counter is decremented by the amount taken rather than
+     * reset, so views recorded concurrently are kept for the next drain instead of being lost.
+     */
+    Map<String, Long> drain() {
+        Map<String, Long> views = new HashMap<>();
+        pending.forEach((id, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                counter.add(-count);
+                views.put(id, count);
+            }
+        });
+        return views;
+    }
+
+    /** Puts back views taken by {@link #drain()} that could not be stored. */
+    void restore(Map<String, Long> views) {
+        views.forEach((id, count) -> pending.computeIfAbsent(id, key -> new LongAdder()).add(count));
+    }
+}
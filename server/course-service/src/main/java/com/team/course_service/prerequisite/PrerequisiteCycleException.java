@@ -0,0 +1,20 @@
+package com.team.course_service.prerequisite;
+
+import java.util.List;
+
+/**
+ * Thrown when the prerequisite relation contains a cycle, which would make the courses on it impossible to take.
+ */
+public class PrerequisiteCycleException extends IllegalStateException {
+    private final List<String> cycle;
+
+    public PrerequisiteCycleException(List<String> cycle) {
+        super("Prerequisite cycle: " + String.join(" requires ", cycle));
+        this.cycle = List.copyOf(cycle);
+    }
+
+    /** Course IDs along the cycle, each requiring the next; the first ID is repeated at the end. */
+    public List<String> getCycle() {
+        return cycle;
+    }
+}
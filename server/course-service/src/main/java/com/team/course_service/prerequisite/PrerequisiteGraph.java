@@ -0,0 +1,222 @@
+package com.team.course_service.prerequisite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable prerequisite DAG over catalog ordinals. The transitive closure of every course is
+ * precomputed as a bitset and stored sparsely: only the non-zero 64-bit words are kept, together
+ * with their word index, so the closure of a course with few prerequisites costs a few longs no
+ * matter how large the catalog is. Building takes time proportional to the stored words plus one
+ * scratch bitset; no course ever holds a dense closure.
+ */
+public final class PrerequisiteGraph {
+    private final int size;
+    private final int[][] direct;
+    /** position of each ordinal in a topological order (prerequisites first) */
+    private final int[] topologicalRank;
+    /**
+     * closure of the course at topological rank r is words closureWords[closureStarts[r] .. closureStarts[r + 1])
+     * at indexes closureWordIndexes[..], in ascending word index order
+     */
+    private final int[] closureStarts;
+    private final int[] closureWordIndexes;
+    private final long[] closureWords;
+
+    private PrerequisiteGraph(int size, int[][] direct, int[] topologicalRank, int[] closureStarts,
+                              int[] closureWordIndexes, long[] closureWords) {
+        this.size = size;
+        this.direct = direct;
+        this.topologicalRank = topologicalRank;
+        this.closureStarts = closureStarts;
+        this.closureWordIndexes = closureWordIndexes;
+        this.closureWords = closureWords;
+    }
+
+    /**
+     * @param direct {@code direct[c]} holds the ordinals of the direct prerequisites of course {@code c}
+     * @param ids    course IDs by ordinal, used to describe a cycle
+     * @throws PrerequisiteCycleException if the relation is not acyclic
+     */
+    public static PrerequisiteGraph build(int[][] direct, List<String> ids) {
+        int n = direct.length;
+        int[] order = topologicalOrder(direct, ids);
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        // Closures are built in topological order, so those of the prerequisites are already final. A single
+        // dense scratch word array collects the closure of the current course and is cleared word by word again.
+        long[] scratch = new long[(n + 63) >>> 6];
+        int[] touched = new int[scratch.length];
+        int[] closureStarts = new int[n + 1];
+        int[] wordIndexes = new int[Math.max(16, n)];
+        long[] closureWords = new long[wordIndexes.length];
+        int next = 0;
+        for (int i = 0; i < n; i++) {
+            int count = 0;
+            for (int p : direct[order[i]]) {
+                count = mark(scratch, touched, count, p >>> 6, 1L << p);
+                for (int j = closureStarts[rank[p]]; j < closureStarts[rank[p] + 1]; j++) {
+                    count = mark(scratch, touched, count, wordIndexes[j], closureWords[j]);
+                }
+            }
+            if (next + count > wordIndexes.length) {
+                int capacity = Math.max(next + count, wordIndexes.length * 2);
+                wordIndexes = Arrays.copyOf(wordIndexes, capacity);
+                closureWords = Arrays.copyOf(closureWords, capacity);
+            }
+            Arrays.sort(touched, 0, count);
+            for (int k = 0; k < count; k++) {
+                int w = touched[k];
+                wordIndexes[next] = w;
+                closureWords[next++] = scratch[w];
+                scratch[w] = 0;
+            }
+            closureStarts[i + 1] = next;
+        }
+        wordIndexes = Arrays.copyOf(wordIndexes, next);
+        closureWords = Arrays.copyOf(closureWords, next);
+        return new PrerequisiteGraph(n, direct, rank, closureStarts, wordIndexes, closureWords);
+    }
+
+    /** Ors {@code bits} into word {@code w} of the scratch closure and returns the new number of touched words. */
+    private static int mark(long[] scratch, int[] touched, int count, int w, long bits) {
+        if (scratch[w] == 0) {
+            touched[count++] = w;
+        }
+        scratch[w] |= bits;
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int[] directPrerequisites(int course) {
+        return direct[course].clone();
+    }
+
+    /** All transitive prerequisites of the course, in an order in which they can be taken. */
+    public int[] chain(int course) {
+        List<Integer> chain = new ArrayList<>();
+        int r = topologicalRank[course];
+        for (int i = closureStarts[r]; i < closureStarts[r + 1]; i++) {
+            long word = closureWords[i];
+            int base = closureWordIndexes[i] << 6;
+            while (word != 0) {
+                chain.add(base + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        chain.sort((a, b) -> Integer.compare(topologicalRank[a], topologicalRank[b]));
+        return chain.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Bitset sized for this graph, for use with {@link #unlocked(long[])}. */
+    public long[] newBitset() {
+        return new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Courses that are not completed yet and whose whole prerequisite chain is contained in
+     * {@code completed}, in ordinal order.
+     */
+    public int[] unlocked(long[] completed) {
+        int[] result = new int[size];
+        int count = 0;
+        for (int c = 0; c < size; c++) {
+            if ((completed[c >>> 6] & (1L << c)) != 0) {
+                continue;
+            }
+            boolean satisfied = true;
+            int r = topologicalRank[c];
+            for (int i = closureStarts[r]; i < closureStarts[r + 1] && satisfied; i++) {
+                satisfied = (closureWords[i] & ~completed[closureWordIndexes[i]]) == 0;
+            }
+            if (satisfied) {
+                result[count++] = c;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Kahn's algorithm; on a cycle, one cycle among the remaining nodes is reported. */
+    private static int[] topologicalOrder(int[][] direct, List<String> ids) {
+        int n = direct.length;
+        int[] pending = new int[n];
+        int[][] dependents = invert(direct);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int c = 0; c < n; c++) {
+            pending[c] = direct[c].length;
+            if (pending[c] == 0) {
+                queue[tail++] = c;
+            }
+        }
+        while (head < tail) {
+            int c = queue[head++];
+            for (int d : dependents[c]) {
+                if (--pending[d] == 0) {
+                    queue[tail++] = d;
+                }
+            }
+        }
+        if (tail < n) {
+            throw new PrerequisiteCycleException(findCycle(direct, pending, ids));
+        }
+        return queue;
+    }
+
+    private static List<String> findCycle(int[][] direct, int[] pending, List<String> ids) {
+        // Every node left with pending prerequisites has a prerequisite that is also left,
+        // so walking along such edges must eventually revisit a node.
+        int start = 0;
+        while (pending[start] == 0) {
+            start++;
+        }
+        int[] seenAt = new int[direct.length];
+        Arrays.fill(seenAt, -1);
+        List<Integer> path = new ArrayList<>();
+        int c = start;
+        while (seenAt[c] < 0) {
+            seenAt[c] = path.size();
+            path.add(c);
+            for (int p : direct[c]) {
+                if (pending[p] > 0) {
+                    c = p;
+                    break;
+                }
+            }
+        }
+        List<String> cycle = new ArrayList<>();
+        for (int i = seenAt[c]; i < path.size(); i++) {
+            cycle.add(ids.get(path.get(i)));
+        }
+        cycle.add(cycle.get(0));
+        return cycle;
+    }
+
+    private static int[][] invert(int[][] direct) {
+        int n = direct.length;
+        int[] counts = new int[n];
+        for (int[] prerequisites : direct) {
+            for (int p : prerequisites) {
+                counts[p]++;
+            }
+        }
+        int[][] dependents = new int[n][];
+        for (int c = 0; c < n; c++) {
+            dependents[c] = new int[counts[c]];
+        }
+        for (int c = 0; c < n; c++) {
+            for (int p : direct[c]) {
+                dependents[p][--counts[p]] = c;
+            }
+        }
+        return dependents;
+    }
+}
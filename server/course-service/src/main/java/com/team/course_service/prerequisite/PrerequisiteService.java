@@ -0,0 +1,112 @@
+package com.team.course_service.prerequisite;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.PrerequisiteChainDTO;
+
+/**
+ * Answers prerequisite questions from a {@link PrerequisiteGraph} derived from the catalog snapshot.
+ */
+@Service
+public class PrerequisiteService {
+    private static final Logger logger = LoggerFactory.getLogger(PrerequisiteService.class);
+
+    /** Either a graph or the cycle that prevented building one. */
+    private static final class State {
+        final PrerequisiteGraph graph;
+        final List<String> cycle;
+
+        State(PrerequisiteGraph graph, List<String> cycle) {
+            this.graph = graph;
+            this.cycle = cycle;
+        }
+    }
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SnapshotDerived<State> state = new SnapshotDerived<>((previousSnapshot, previous, current) -> build(current));
+
+    public PrerequisiteService(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    /**
+     * @return the chain, or empty if the course does not exist
+     * @throws PrerequisiteCycleException if the catalog's prerequisites contain a cycle
+     */
+    public Optional<PrerequisiteChainDTO> getChain(String courseId) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        int ordinal = snapshot.ordinalOf(courseId);
+        if (ordinal < 0) {
+            return Optional.empty();
+        }
+        int[] chain = graph(snapshot).chain(ordinal);
+        List<String> chainIds = new ArrayList<>(chain.length);
+        for (int c : chain) {
+            chainIds.add(snapshot.getCourses().get(c).getId());
+        }
+        return Optional.of(new PrerequisiteChainDTO(courseId, snapshot.getPrerequisites(courseId), chainIds));
+    }
+
+    /**
+     * Courses that can be taken next: not completed and with their whole prerequisite chain completed.
+     * Unknown IDs among {@code completedIds} are ignored.
+     *
+     * @throws PrerequisiteCycleException if the catalog's prerequisites contain a cycle
+     */
+    public List<CourseDTO> getUnlocked(Collection<String> completedIds) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        PrerequisiteGraph graph = graph(snapshot);
+        long[] completed = graph.newBitset();
+        for (String id : completedIds) {
+            int ordinal = snapshot.ordinalOf(id);
+            if (ordinal >= 0) {
+                completed[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        int[] unlocked = graph.unlocked(completed);
+        List<CourseDTO> result = new ArrayList<>(unlocked.length);
+        for (int c : unlocked) {
+            result.add(snapshot.getCourses().get(c));
+        }
+        return result;
+    }
+
+    /** The graph of the given snapshot, for other in-memory planners. */
+    public PrerequisiteGraph graph(CatalogSnapshot snapshot) {
+        State current = state.get(snapshot);
+        if (current.cycle != null) {
+            // A fresh exception per call: a shared one would pile up suppressed exceptions and carry a stale trace
+            throw new PrerequisiteCycleException(current.cycle);
+        }
+        return current.graph;
+    }
+
+    private static State build(CatalogSnapshot snapshot) {
+        List<CourseDTO> courses = snapshot.getCourses();
+        List<String> ids = courses.stream().map(CourseDTO::getId).toList();
+        int[][] direct = new int[courses.size()][];
+        for (int c = 0; c < courses.size(); c++) {
+            direct[c] = snapshot.getPrerequisites(ids.get(c)).stream()
+                    .mapToInt(snapshot::ordinalOf)
+                    .filter(p -> p >= 0)
+                    .toArray();
+        }
+        try {
+            return new State(PrerequisiteGraph.build(direct, ids), null);
+        } catch (PrerequisiteCycleException e) {
+            logger.error("Catalog v{} has invalid prerequisites: {}", snapshot.getVersion(), e.getMessage());
+            return new State(null, e.getCycle());
+        }
+    }
+}
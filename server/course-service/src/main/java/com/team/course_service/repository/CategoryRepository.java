@@ -1,10 +1,24 @@
 package com.team.course_service.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.team.course_service.model.CacheRegions;
 import com.team.course_service.model.Category;
 
+import jakarta.persistence.QueryHint;
+
 public interface CategoryRepository extends JpaRepository<Category, String> {
     // Standard CRUD and query operations provided by JpaRepository
 
+    /** All categories; cached in the second-level cache until a category is written through JPA. */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
+    List<Category> findAll();
 }
@@ -0,0 +1,21 @@
+package com.team.course_service.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.team.course_service.model.Course;
+
+/**
+ * Column projections of courses that select only the requested attributes, so wide columns
+ * such as the description are neither read nor transferred unless asked for.
+ */
+public interface CourseColumnRepository {
+
+    /**
+     * Selects the given basic attributes of the courses matching {@code spec}, one array per row
+     * with the values in the order of {@code attributes}.
+     */
+    List<Object[]> findColumns(Specification<Course> spec, List<String> attributes, Sort sort, int limit);
+}
@@ -1,13 +1,23 @@
 package com.team.course_service.repository;
+import com.team.course_service.model.CacheRegions;
 import com.team.course_service.model.Course;
 
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface CourseRepository extends JpaRepository<Course, String> {
+public interface CourseRepository extends JpaRepository<Course, String>, JpaSpecificationExecutor<Course>,
+        CourseColumnRepository {
     
     List<Course> findByTitleContainingIgnoreCase(String title);
 
@@ -15,4 +25,37 @@ public interface CourseRepository extends JpaRepository<Course, String> {
     List<Course> findByCategoryName(@Param("category") String category);
 
     List<Course> findByCreditsBetween(int minCredits, int maxCredits);
+
+    // Read paths that fetch categories in the same statement instead of one lazy load per course.
+    // The catalog reads are cached in the second-level cache; any JPA write to a table they read invalidates them.
+
+    @EntityGraph(attributePaths = "categories")
+    @Query("SELECT c FROM Course c")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
+    List<Course> findAllWithCategories();
+
+    @EntityGraph(attributePaths = "categories")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
+    Optional<Course> findWithCategoriesById(String id);
+
+    @EntityGraph(attributePaths = "categories")
+    List<Course> findAllWithCategoriesByIdIn(Collection<String> ids);
+
+    /** (course ID, category name) pairs of the given courses, without loading the courses themselves. */
+    @Query("SELECT c.id, cat.name FROM Course c JOIN c.categories cat WHERE c.id IN :ids")
+    List<Object[]> findCategoryNamesByCourseIdIn(@Param("ids") Collection<String> ids);
+
+    /** Every (course ID, prerequisite ID) pair of the course_prerequisite table. */
+    @Query("SELECT c.id, p.id FROM Course c JOIN c.prerequisites p")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CATALOG_QUERIES)
+    })
+    List<Object[]> findAllPrerequisitePairs();
 }
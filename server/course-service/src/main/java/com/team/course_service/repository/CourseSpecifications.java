@@ -0,0 +1,73 @@
+package com.team.course_service.repository;
+
+import java.util.Collection;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.team.course_service.model.Category;
+import com.team.course_service.model.Course;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Combinable filters for course queries. Every factory returns {@code null} for an absent
+ * argument, which {@link Specification#where} and {@link Specification#and} treat as "no filter".
+ */
+public final class CourseSpecifications {
+    private CourseSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    /** Keyset condition: courses sorted after the given ID. */
+    public static Specification<Course> idAfter(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+
+    /** Courses in at least one of the given categories. */
+    public static Specification<Course> inAnyCategory(Collection<String> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<String> matching = query.subquery(String.class);
+            Root<Course> course = matching.from(Course.class);
+            Join<Course, Category> category = course.join("categories");
+            matching.select(course.get("id")).where(category.get("name").in(categories));
+            return root.get("id").in(matching);
+        };
+    }
+
+    public static Specification<Course> creditsBetween(Integer minCredits, Integer maxCredits) {
+        if (minCredits == null && maxCredits == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minCredits == null) {
+                return cb.le(root.get("credits"), maxCredits);
+            }
+            if (maxCredits == null) {
+                return cb.ge(root.get("credits"), minCredits);
+            }
+            return cb.between(root.get("credits"), minCredits, maxCredits);
+        };
+    }
+
+    /** Case-insensitive substring match, same semantics as {@code findByTitleContainingIgnoreCase}. */
+    public static Specification<Course> titleContains(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(title.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern, '\\');
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
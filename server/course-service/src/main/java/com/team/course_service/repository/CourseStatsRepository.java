@@ -0,0 +1,17 @@
+package com.team.course_service.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.team.course_service.model.CourseStats;
+
+public interface CourseStatsRepository extends JpaRepository<CourseStats, String> {
+
+    /** Most popular courses first; stats of courses that no longer exist are skipped. */
+    @Query("SELECT s FROM CourseStats s WHERE s.courseId IN (SELECT c.id FROM Course c) "
+            + "ORDER BY s.popularity DESC, s.courseId")
+    List<CourseStats> findMostPopular(Pageable pageable);
+}
@@ -0,0 +1,82 @@
+package com.team.course_service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.CourseSearchHitDTO;
+
+/**
+ * Full-text search over course titles and descriptions, served from an in-memory index.
+ * When the catalog changes only new or modified courses are re-analyzed; the postings are then
+ * re-assembled from the cached term lists, which is linear in the catalog size and involves no database access.
+ */
+@Service
+public class CourseSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(CourseSearchService.class);
+
+    /** Index together with the analyzed documents it was built from, keyed by course ID. */
+    private static final class State {
+        final InvertedIndex index;
+        final Map<String, InvertedIndex.Document> documents;
+
+        State(InvertedIndex index, Map<String, InvertedIndex.Document> documents) {
+            this.index = index;
+            this.documents = documents;
+        }
+    }
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SnapshotDerived<State> state = new SnapshotDerived<>(CourseSearchService::build);
+
+    public CourseSearchService(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    public List<CourseSearchHitDTO> search(String query, int limit) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        SearchHits hits = state.get(snapshot).index.search(query, limit);
+        List<CourseSearchHitDTO> result = new ArrayList<>(hits.size());
+        for (int rank = 0; rank < hits.size(); rank++) {
+            result.add(new CourseSearchHitDTO(snapshot.getCourses().get(hits.ordinal(rank)), hits.score(rank)));
+        }
+        return result;
+    }
+
+    private static State build(CatalogSnapshot previousSnapshot, State previous, CatalogSnapshot current) {
+        long start = System.nanoTime();
+        List<CourseDTO> courses = current.getCourses();
+        InvertedIndex.Document[] documents = new InvertedIndex.Document[courses.size()];
+        Map<String, InvertedIndex.Document> byId = new HashMap<>(courses.size() * 2);
+        int analyzed = 0;
+        for (int i = 0; i < courses.size(); i++) {
+            CourseDTO course = courses.get(i);
+            InvertedIndex.Document document = previous == null || current.isChangedSince(previousSnapshot, course.getId())
+                    ? null
+                    : previous.documents.get(course.getId());
+            if (document == null) {
+                document = analyze(course);
+                analyzed++;
+            }
+            documents[i] = document;
+            byId.put(course.getId(), document);
+        }
+        InvertedIndex index = InvertedIndex.build(documents);
+        logger.debug("Search index for catalog v{} built in {} µs: {} documents ({} re-analyzed), {} terms",
+                current.getVersion(), (System.nanoTime() - start) / 1000, documents.length, analyzed, index.termCount());
+        return new State(index, byId);
+    }
+
+    static InvertedIndex.Document analyze(CourseDTO course) {
+        return new InvertedIndex.Document(TextAnalyzer.terms(course.getTitle()), TextAnalyzer.terms(course.getDescription()));
+    }
+}
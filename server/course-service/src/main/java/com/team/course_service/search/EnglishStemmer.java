@@ -0,0 +1,84 @@
+package com.team.course_service.search;
+
+/**
+ * Light suffix-stripping stemmer for English course text. It only has to be consistent between
+ * indexing and querying, so it favours a handful of safe rules (plurals, -ing, -ed and common
+ * derivational endings) over linguistic completeness.
+ */
+final class EnglishStemmer {
+    private static final String[][] DERIVATIONAL = {
+            {"ational", "ate"}, {"tional", "tion"}, {"ization", "ize"}, {"isation", "ize"},
+            {"iveness", "ive"}, {"fulness", "ful"}, {"ousness", "ous"},
+            {"ation", "ate"}, {"ically", "ic"}, {"ality", "al"}, {"ness", ""},
+    };
+
+    private EnglishStemmer() {
+        // Private constructor to prevent instantiation
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3 || !isAlphabetic(word)) {
+            return word;
+        }
+        String w = stripPlural(word);
+        for (String[] rule : DERIVATIONAL) {
+            if (w.endsWith(rule[0]) && w.length() - rule[0].length() >= 3) {
+                return w.substring(0, w.length() - rule[0].length()) + rule[1];
+            }
+        }
+        if (w.endsWith("ing") && hasVowel(w, w.length() - 3) && w.length() - 3 >= 3) {
+            return undouble(w.substring(0, w.length() - 3));
+        }
+        if (w.endsWith("ed") && hasVowel(w, w.length() - 2) && w.length() - 2 >= 3) {
+            return undouble(w.substring(0, w.length() - 2));
+        }
+        if (w.endsWith("ly") && w.length() - 2 >= 4) {
+            return w.substring(0, w.length() - 2);
+        }
+        return w;
+    }
+
+    private static String stripPlural(String w) {
+        if (w.endsWith("sses")) {
+            return w.substring(0, w.length() - 2);
+        }
+        if (w.endsWith("ies") && w.length() > 4) {
+            return w.substring(0, w.length() - 3) + "y";
+        }
+        if (w.endsWith("s") && !w.endsWith("ss") && !w.endsWith("us") && !w.endsWith("is")) {
+            return w.substring(0, w.length() - 1);
+        }
+        return w;
+    }
+
+    private static String undouble(String w) {
+        int n = w.length();
+        if (n >= 2 && w.charAt(n - 1) == w.charAt(n - 2) && "lsz".indexOf(w.charAt(n - 1)) < 0
+                && !isVowel(w.charAt(n - 1))) {
+            return w.substring(0, n - 1);
+        }
+        return w;
+    }
+
+    private static boolean hasVowel(String w, int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(w.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+
+    private static boolean isAlphabetic(String w) {
+        for (int i = 0; i < w.length(); i++) {
+            if (w.charAt(i) < 'a' || w.charAt(i) > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,384 @@
+package com.team.course_service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable positional inverted index over course title and description, ranked with BM25F.
+ * Documents are identified by their catalog ordinal. Postings of a term are stored in parallel
+ * primitive arrays sorted by ordinal; positions of all postings of a term share one flat array.
+ * Description positions start after a gap so phrases never span both fields.
+ */
+public final class InvertedIndex {
+    private static final int FIELD_GAP = 16;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float TITLE_WEIGHT = 2.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+
+    /** Analyzed terms of one document, in text order. */
+    public static final class Document {
+        final String[] titleTerms;
+        final String[] descriptionTerms;
+
+        public Document(List<String> titleTerms, List<String> descriptionTerms) {
+            this.titleTerms = titleTerms.toArray(new String[0]);
+            this.descriptionTerms = descriptionTerms.toArray(new String[0]);
+        }
+    }
+
+    private static final class Postings {
+        final int[] docs;
+        final int[] titleFreqs;
+        final int[] descriptionFreqs;
+        /** positions of posting i are positions[positionStarts[i] .. positionStarts[i + 1]) */
+        final int[] positionStarts;
+        final int[] positions;
+
+        Postings(int[] docs, int[] titleFreqs, int[] descriptionFreqs, int[] positionStarts, int[] positions) {
+            this.docs = docs;
+            this.titleFreqs = titleFreqs;
+            this.descriptionFreqs = descriptionFreqs;
+            this.positionStarts = positionStarts;
+            this.positions = positions;
+        }
+    }
+
+    private final String[] terms;
+    private final Postings[] postings;
+    /** field weight divided by the BM25 length normalization, per document */
+    private final float[] titleFactors;
+    private final float[] descriptionFactors;
+
+    private InvertedIndex(String[] terms, Postings[] postings, int[] titleLengths, int[] descriptionLengths) {
+        this.terms = terms;
+        this.postings = postings;
+        this.titleFactors = factors(titleLengths, TITLE_WEIGHT);
+        this.descriptionFactors = factors(descriptionLengths, DESCRIPTION_WEIGHT);
+    }
+
+    /** Builds the index; {@code documents[i]} is the document with ordinal {@code i}. */
+    public static InvertedIndex build(Document[] documents) {
+        Map<String, PostingsBuilder> builders = new HashMap<>();
+        int[] titleLengths = new int[documents.length];
+        int[] descriptionLengths = new int[documents.length];
+        for (int doc = 0; doc < documents.length; doc++) {
+            Document document = documents[doc];
+            titleLengths[doc] = document.titleTerms.length;
+            descriptionLengths[doc] = document.descriptionTerms.length;
+            Map<String, IntList> positionsByTerm = new HashMap<>();
+            Map<String, int[]> freqsByTerm = new HashMap<>();
+            int offset = document.titleTerms.length + FIELD_GAP;
+            for (int i = 0; i < document.titleTerms.length; i++) {
+                positionsByTerm.computeIfAbsent(document.titleTerms[i], t -> new IntList()).add(i);
+                freqsByTerm.computeIfAbsent(document.titleTerms[i], t -> new int[2])[0]++;
+            }
+            for (int i = 0; i < document.descriptionTerms.length; i++) {
+                positionsByTerm.computeIfAbsent(document.descriptionTerms[i], t -> new IntList()).add(offset + i);
+                freqsByTerm.computeIfAbsent(document.descriptionTerms[i], t -> new int[2])[1]++;
+            }
+            for (Map.Entry<String, IntList> entry : positionsByTerm.entrySet()) {
+                int[] freqs = freqsByTerm.get(entry.getKey());
+                builders.computeIfAbsent(entry.getKey(), t -> new PostingsBuilder())
+                        .add(doc, freqs[0], freqs[1], entry.getValue());
+            }
+        }
+        String[] terms = builders.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        Postings[] postings = new Postings[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            postings[i] = builders.get(terms[i]).toPostings();
+        }
+        return new InvertedIndex(terms, postings, titleLengths, descriptionLengths);
+    }
+
+    public int documentCount() {
+        return titleFactors.length;
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Ranks documents for a query. Bare words are optional and scored, {@code "quoted phrases"}
+     * must occur in the document, and a word ending in {@code *} matches every term with that prefix.
+     */
+    public SearchHits search(String query, int limit) {
+        ParsedQuery parsed = ParsedQuery.parse(query);
+        int n = documentCount();
+        if (n == 0 || limit <= 0 || parsed.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+        float[] scores = new float[n];
+        for (String term : parsed.terms) {
+            int t = Arrays.binarySearch(terms, term);
+            if (t >= 0) {
+                accumulate(postings[t], scores);
+            }
+        }
+        // A prefix and its stem usually expand to overlapping terms; each term is scored once
+        BitSet expandedTerms = new BitSet(terms.length);
+        for (String prefix : parsed.prefixes) {
+            int t = lowerBound(prefix);
+            for (int expanded = 0; t < terms.length && terms[t].startsWith(prefix)
+                    && expanded < MAX_PREFIX_EXPANSIONS; t++, expanded++) {
+                if (!expandedTerms.get(t)) {
+                    expandedTerms.set(t);
+                    accumulate(postings[t], scores);
+                }
+            }
+        }
+        for (String[] phrase : parsed.phrases) {
+            boolean[] matches = phraseMatches(phrase);
+            for (int doc = 0; doc < n; doc++) {
+                scores[doc] = matches[doc] ? scores[doc] : 0f;
+            }
+        }
+        return topK(scores, limit);
+    }
+
+    private void accumulate(Postings p, float[] scores) {
+        int df = p.docs.length;
+        float idf = (float) Math.log(1 + (documentCount() - df + 0.5) / (df + 0.5));
+        float boost = idf * (K1 + 1);
+        for (int i = 0; i < df; i++) {
+            int doc = p.docs[i];
+            float tf = titleFactors[doc] * p.titleFreqs[i] + descriptionFactors[doc] * p.descriptionFreqs[i];
+            scores[doc] += boost * tf / (tf + K1);
+        }
+    }
+
+    private boolean[] phraseMatches(String[] phrase) {
+        boolean[] matches = new boolean[documentCount()];
+        Postings[] parts = new Postings[phrase.length];
+        for (int i = 0; i < phrase.length; i++) {
+            int t = Arrays.binarySearch(terms, phrase[i]);
+            if (t < 0) {
+                return matches;
+            }
+            parts[i] = postings[t];
+        }
+        int[] cursors = new int[phrase.length];
+        for (int i = 0; i < parts[0].docs.length; i++) {
+            int doc = parts[0].docs[i];
+            boolean inAll = true;
+            for (int k = 1; k < parts.length && inAll; k++) {
+                int[] docs = parts[k].docs;
+                while (cursors[k] < docs.length && docs[cursors[k]] < doc) {
+                    cursors[k]++;
+                }
+                inAll = cursors[k] < docs.length && docs[cursors[k]] == doc;
+            }
+            if (inAll) {
+                cursors[0] = i;
+                matches[doc] = hasConsecutivePositions(parts, cursors);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasConsecutivePositions(Postings[] parts, int[] cursors) {
+        Postings first = parts[0];
+        for (int p = first.positionStarts[cursors[0]]; p < first.positionStarts[cursors[0] + 1]; p++) {
+            int start = first.positions[p];
+            boolean found = true;
+            for (int k = 1; k < parts.length && found; k++) {
+                Postings part = parts[k];
+                int from = part.positionStarts[cursors[k]];
+                int to = part.positionStarts[cursors[k] + 1];
+                found = Arrays.binarySearch(part.positions, from, to, start + k) >= 0;
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(terms, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /** Selects the best {@code limit} documents with a primitive min-heap; ties go to the lower ordinal. */
+    private static SearchHits topK(float[] scores, int limit) {
+        int[] heapDocs = new int[limit];
+        float[] heapScores = new float[limit];
+        int size = 0;
+        for (int doc = 0; doc < scores.length; doc++) {
+            float score = scores[doc];
+            if (score <= 0f) {
+                continue;
+            }
+            if (size < limit) {
+                int i = size++;
+                while (i > 0 && worse(score, doc, heapScores[(i - 1) / 2], heapDocs[(i - 1) / 2])) {
+                    heapDocs[i] = heapDocs[(i - 1) / 2];
+                    heapScores[i] = heapScores[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                heapDocs[i] = doc;
+                heapScores[i] = score;
+            } else if (score > heapScores[0]) {
+                siftDown(heapDocs, heapScores, size, doc, score);
+            }
+        }
+        int[] ordinals = new int[size];
+        float[] hitScores = new float[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ordinals[i] = heapDocs[0];
+            hitScores[i] = heapScores[0];
+            siftDown(heapDocs, heapScores, i, heapDocs[i], heapScores[i]);
+        }
+        return new SearchHits(ordinals, hitScores);
+    }
+
+    /** Replaces the heap root with the given entry and restores the heap property over {@code size} entries. */
+    private static void siftDown(int[] docs, float[] scores, int size, int doc, float score) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && worse(scores[child + 1], docs[child + 1], scores[child], docs[child])) {
+                child++;
+            }
+            if (!worse(scores[child], docs[child], score, doc)) {
+                break;
+            }
+            docs[i] = docs[child];
+            scores[i] = scores[child];
+            i = child;
+        }
+        docs[i] = doc;
+        scores[i] = score;
+    }
+
+    private static boolean worse(float score, int doc, float otherScore, int otherDoc) {
+        return score < otherScore || (score == otherScore && doc > otherDoc);
+    }
+
+    private static float[] factors(int[] lengths, float weight) {
+        long sum = 0;
+        for (int length : lengths) {
+            sum += length;
+        }
+        float average = lengths.length == 0 ? 0f : (float) sum / lengths.length;
+        float[] factors = new float[lengths.length];
+        for (int doc = 0; doc < lengths.length; doc++) {
+            factors[doc] = average == 0 ? weight : weight / (1 - B + B * lengths[doc] / average);
+        }
+        return factors;
+    }
+
+    /**
+     * Query split into scored terms, prefix expansions and required phrases. A quoted single word is a
+     * required phrase of one term. A prefix is expanded both as typed and stemmed, since the dictionary
+     * holds stemmed terms: {@code learning*} has to find {@code learn}, while a partial word such as
+     * {@code databa*} only matches as typed.
+     */
+    static final class ParsedQuery {
+        final List<String> terms = new ArrayList<>();
+        final List<String> prefixes = new ArrayList<>();
+        final List<String[]> phrases = new ArrayList<>();
+
+        static ParsedQuery parse(String query) {
+            ParsedQuery parsed = new ParsedQuery();
+            if (query == null) {
+                return parsed;
+            }
+            String[] segments = query.split("\"", -1);
+            for (int i = 0; i < segments.length; i++) {
+                // odd segments are between quotes
+                if (i % 2 == 1 && i < segments.length - 1) {
+                    List<String> phrase = TextAnalyzer.terms(segments[i]);
+                    parsed.terms.addAll(phrase);
+                    if (!phrase.isEmpty()) {
+                        parsed.phrases.add(phrase.toArray(new String[0]));
+                    }
+                } else {
+                    parsed.addWords(segments[i]);
+                }
+            }
+            return parsed;
+        }
+
+        private void addWords(String text) {
+            for (String word : text.trim().split("\\s+")) {
+                if (word.endsWith("*")) {
+                    List<String> tokens = TextAnalyzer.tokens(word);
+                    if (!tokens.isEmpty()) {
+                        terms.addAll(TextAnalyzer.terms(String.join(" ", tokens.subList(0, tokens.size() - 1))));
+                        String prefix = tokens.get(tokens.size() - 1);
+                        prefixes.add(prefix);
+                        String stemmed = EnglishStemmer.stem(prefix);
+                        if (!stemmed.equals(prefix)) {
+                            prefixes.add(stemmed);
+                        }
+                    }
+                } else {
+                    terms.addAll(TextAnalyzer.terms(word));
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return terms.isEmpty() && prefixes.isEmpty() && phrases.isEmpty();
+        }
+    }
+
+    private static final class PostingsBuilder {
+        final IntList docs = new IntList();
+        final IntList titleFreqs = new IntList();
+        final IntList descriptionFreqs = new IntList();
+        final IntList positionStarts = new IntList();
+        final IntList positions = new IntList();
+
+        void add(int doc, int titleFreq, int descriptionFreq, IntList termPositions) {
+            docs.add(doc);
+            titleFreqs.add(titleFreq);
+            descriptionFreqs.add(descriptionFreq);
+            positionStarts.add(positions.size());
+            positions.addAll(termPositions);
+        }
+
+        Postings toPostings() {
+            positionStarts.add(positions.size());
+            return new Postings(docs.toArray(), titleFreqs.toArray(), descriptionFreqs.toArray(),
+                    positionStarts.toArray(), positions.toArray());
+        }
+    }
+
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(IntList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.team.course_service.search;
+
+/**
+ * Ranked result of an index lookup: catalog ordinals with their scores, best first.
+ */
+public final class SearchHits {
+    static final SearchHits EMPTY = new SearchHits(new int[0], new float[0]);
+
+    private final int[] ordinals;
+    private final float[] scores;
+
+    SearchHits(int[] ordinals, float[] scores) {
+        this.ordinals = ordinals;
+        this.scores = scores;
+    }
+
+    public int size() { return ordinals.length; }
+    public int ordinal(int rank) { return ordinals[rank]; }
+    public float score(int rank) { return scores[rank]; }
+}
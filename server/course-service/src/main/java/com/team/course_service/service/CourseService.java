@@ -1,14 +1,33 @@
 package com.team.course_service.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.CoursePage;
+import com.team.course_service.dto.CourseQuery;
+import com.team.course_service.fieldset.CourseField;
+import com.team.course_service.mapper.CourseMapper;
 import com.team.course_service.model.Course;
 import com.team.course_service.repository.CourseRepository;
 
+import static com.team.course_service.repository.CourseSpecifications.creditsBetween;
+import static com.team.course_service.repository.CourseSpecifications.idAfter;
+import static com.team.course_service.repository.CourseSpecifications.inAnyCategory;
+import static com.team.course_service.repository.CourseSpecifications.titleContains;
+
 /**
  * Service class for managing courses.
  */
@@ -22,10 +41,98 @@ public class CourseService {
     }
 
     public List<Course> getAllCourses() {
-        return courseRepository.findAll();
+        return courseRepository.findAllWithCategories();
+    }
+
+    /**
+     * Maps the whole catalog inside the read-only transaction, so lazy categories can be resolved
+     * even when called from outside a web request.
+     */
+    public List<CourseDTO> getAllCourseDtos() {
+        return getAllCourses().stream().map(CourseMapper::toDto).toList();
+    }
+
+    /** Direct prerequisites of every course that has any, keyed by course ID. */
+    public Map<String, List<String>> getAllPrerequisites() {
+        Map<String, List<String>> prerequisites = new HashMap<>();
+        for (Object[] pair : courseRepository.findAllPrerequisitePairs()) {
+            prerequisites.computeIfAbsent((String) pair[0], id -> new ArrayList<>()).add((String) pair[1]);
+        }
+        return prerequisites;
     }
 
     public Optional<Course> getCourseById(String id) {
-        return courseRepository.findById(id);
+        return courseRepository.findWithCategoriesById(id);
+    }
+
+    /**
+     * Returns one keyset page ordered by course ID. The page is selected with a single filtered query
+     * (one row over the limit tells whether another page follows); the categories of the page are
+     * then loaded with one fetch-joined query.
+     */
+    public CoursePage getCoursePage(CourseQuery query) {
+        List<Course> rows = courseRepository.findBy(specification(query),
+                q -> q.sortBy(Sort.by("id")).limit(query.getLimit() + 1).all());
+
+        boolean hasMore = rows.size() > query.getLimit();
+        List<Course> page = hasMore ? rows.subList(0, query.getLimit()) : rows;
+        if (!page.isEmpty()) {
+            // Initializes the categories of the already managed page entities
+            courseRepository.findAllWithCategoriesByIdIn(page.stream().map(Course::getId).toList());
+        }
+        List<CourseDTO> items = page.stream().map(CourseMapper::toDto).toList();
+        return new CoursePage(items, hasMore ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * Same page as {@link #getCoursePage(CourseQuery)}, but selects only the columns of the requested
+     * fields instead of whole entities. Fields outside the fieldset are left unset in the returned DTOs.
+     */
+    public CoursePage getCoursePage(CourseQuery query, Set<CourseField> fields) {
+        List<String> attributes = new ArrayList<>();
+        attributes.add(CourseField.ID.getName());
+        for (CourseField field : fields) {
+            if (field.isColumn() && field != CourseField.ID) {
+                attributes.add(field.getName());
+            }
+        }
+        List<Object[]> rows = courseRepository.findColumns(specification(query), attributes,
+                Sort.by("id"), query.getLimit() + 1);
+
+        boolean hasMore = rows.size() > query.getLimit();
+        List<Object[]> page = hasMore ? rows.subList(0, query.getLimit()) : rows;
+        Map<String, Set<CategoryDTO>> categories = new HashMap<>();
+        if (fields.contains(CourseField.CATEGORIES) && !page.isEmpty()) {
+            List<String> ids = page.stream().map(row -> (String) row[0]).toList();
+            for (Object[] pair : courseRepository.findCategoryNamesByCourseIdIn(ids)) {
+                categories.computeIfAbsent((String) pair[0], id -> new HashSet<>()).add(new CategoryDTO((String) pair[1]));
+            }
+        }
+
+        List<CourseDTO> items = new ArrayList<>(page.size());
+        for (Object[] row : page) {
+            CourseDTO course = new CourseDTO();
+            for (int i = 0; i < attributes.size(); i++) {
+                switch (attributes.get(i)) {
+                    case "id" -> course.setId((String) row[i]);
+                    case "title" -> course.setTitle((String) row[i]);
+                    case "description" -> course.setDescription((String) row[i]);
+                    case "credits" -> course.setCredits((Integer) row[i]);
+                    default -> throw new IllegalStateException("Unexpected course attribute " + attributes.get(i));
+                }
+            }
+            if (fields.contains(CourseField.CATEGORIES)) {
+                course.setCategories(categories.getOrDefault(course.getId(), Collections.emptySet()));
+            }
+            items.add(course);
+        }
+        return new CoursePage(items, hasMore ? items.get(items.size() - 1).getId() : null);
+    }
+
+    private static Specification<Course> specification(CourseQuery query) {
+        return Specification.where(idAfter(query.getAfter()))
+                .and(inAnyCategory(query.getCategories()))
+                .and(creditsBetween(query.getMinCredits(), query.getMaxCredits()))
+                .and(titleContains(query.getTitle()));
     }
 }
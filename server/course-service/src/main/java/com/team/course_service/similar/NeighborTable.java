@@ -0,0 +1,161 @@
+package com.team.course_service.similar;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes the {@code k} most similar vectors of each vector by cosine similarity. Dot products are
+ * accumulated through an inverted index, so only pairs sharing a feature are ever touched, and the
+ * work is split over the common fork-join pool.
+ */
+final class NeighborTable {
+    /** Targets per fork-join leaf; each leaf allocates one accumulator over all vectors. */
+    private static final int LEAF_SIZE = 64;
+
+    private NeighborTable() {
+        // Private constructor to prevent instantiation
+    }
+
+    /** Neighbors of one vector, most similar first. */
+    record Neighbors(int[] ordinals, float[] scores) {
+        static final Neighbors NONE = new Neighbors(new int[0], new float[0]);
+
+        boolean contains(int ordinal) {
+            for (int o : ordinals) {
+                if (o == ordinal) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Postings of all vectors: for each feature, the vectors containing it and their weights. */
+    static final class Postings {
+        final int[] starts;
+        final int[] vectors;
+        final float[] weights;
+
+        Postings(SparseVector[] all, int featureCount) {
+            starts = new int[featureCount + 1];
+            for (SparseVector vector : all) {
+                for (int f : vector.features) {
+                    starts[f + 1]++;
+                }
+            }
+            for (int f = 0; f < featureCount; f++) {
+                starts[f + 1] += starts[f];
+            }
+            vectors = new int[starts[featureCount]];
+            weights = new float[starts[featureCount]];
+            int[] next = Arrays.copyOf(starts, featureCount);
+            for (int v = 0; v < all.length; v++) {
+                SparseVector vector = all[v];
+                for (int i = 0; i < vector.features.length; i++) {
+                    int slot = next[vector.features[i]]++;
+                    vectors[slot] = v;
+                    weights[slot] = vector.weights[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the neighbors of every vector listed in {@code targets} and stores them in {@code result}
+     * at the target's position.
+     */
+    static void compute(SparseVector[] all, Postings postings, int[] targets, int k, Neighbors[] result) {
+        ForkJoinPool.commonPool().invoke(new Task(all, postings, targets, k, result, 0, targets.length));
+    }
+
+    /** Inserts {@code candidate} into {@code neighbors} if it ranks among the best {@code k}. */
+    static Neighbors offer(Neighbors neighbors, int candidate, float score, int k) {
+        int n = neighbors.ordinals().length;
+        if (score <= 0 || (n == k && score <= neighbors.scores()[n - 1])) {
+            return neighbors;
+        }
+        int position = 0;
+        while (position < n && neighbors.scores()[position] >= score) {
+            position++;
+        }
+        int size = Math.min(k, n + 1);
+        int[] ordinals = new int[size];
+        float[] scores = new float[size];
+        System.arraycopy(neighbors.ordinals(), 0, ordinals, 0, position);
+        System.arraycopy(neighbors.scores(), 0, scores, 0, position);
+        ordinals[position] = candidate;
+        scores[position] = score;
+        System.arraycopy(neighbors.ordinals(), position, ordinals, position + 1, size - position - 1);
+        System.arraycopy(neighbors.scores(), position, scores, position + 1, size - position - 1);
+        return new Neighbors(ordinals, scores);
+    }
+
+    private static final class Task extends RecursiveAction {
+        private final SparseVector[] all;
+        private final Postings postings;
+        private final int[] targets;
+        private final int k;
+        private final Neighbors[] result;
+        private final int from;
+        private final int to;
+
+        Task(SparseVector[] all, Postings postings, int[] targets, int k, Neighbors[] result, int from, int to) {
+            this.all = all;
+            this.postings = postings;
+            this.targets = targets;
+            this.k = k;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Task(all, postings, targets, k, result, from, mid),
+                          new Task(all, postings, targets, k, result, mid, to));
+                return;
+            }
+            float[] accumulator = new float[all.length];
+            int[] touched = new int[all.length];
+            int[] topOrdinals = new int[k];
+            float[] topScores = new float[k];
+            for (int t = from; t < to; t++) {
+                int target = targets[t];
+                SparseVector vector = all[target];
+                int touchedCount = 0;
+                for (int i = 0; i < vector.features.length; i++) {
+                    int f = vector.features[i];
+                    float w = vector.weights[i];
+                    for (int p = postings.starts[f]; p < postings.starts[f + 1]; p++) {
+                        int other = postings.vectors[p];
+                        if (accumulator[other] == 0) {
+                            touched[touchedCount++] = other;
+                        }
+                        accumulator[other] += w * postings.weights[p];
+                    }
+                }
+                int size = 0;
+                for (int i = 0; i < touchedCount; i++) {
+                    int other = touched[i];
+                    float score = accumulator[other];
+                    accumulator[other] = 0;
+                    if (other == target || (size == k && score <= topScores[size - 1])) {
+                        continue;
+                    }
+                    int position = size < k ? size++ : size - 1;
+                    while (position > 0 && topScores[position - 1] < score) {
+                        topOrdinals[position] = topOrdinals[position - 1];
+                        topScores[position] = topScores[position - 1];
+                        position--;
+                    }
+                    topOrdinals[position] = other;
+                    topScores[position] = score;
+                }
+                result[target] = new Neighbors(Arrays.copyOf(topOrdinals, size), Arrays.copyOf(topScores, size));
+            }
+        }
+    }
+}
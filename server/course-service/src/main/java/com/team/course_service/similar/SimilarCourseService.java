@@ -0,0 +1,274 @@
+package com.team.course_service.similar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.catalog.SnapshotDerived;
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.SimilarCourseDTO;
+import com.team.course_service.search.TextAnalyzer;
+
+/**
+ * Related courses by cosine similarity of TF-IDF vectors over title, description and categories.
+ * The top neighbors of every course are precomputed per catalog version.
+ * <p>
+ * On a catalog change only the vectors of new or modified courses are recomputed, against the existing
+ * IDF weights. Full neighbor lists are recomputed for those courses and for courses that listed a changed
+ * or removed course; all other lists only merge in the changed courses. Once the changes since the last
+ * full build exceed a tenth of the catalog, everything is rebuilt so the IDF weights do not drift.
+ */
+@Service
+public class SimilarCourseService {
+    public static final int MAX_NEIGHBORS = 10;
+    private static final Logger logger = LoggerFactory.getLogger(SimilarCourseService.class);
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 2;
+    /** Feature prefix that keeps category names apart from text terms. */
+    private static final String CATEGORY_FEATURE = "#";
+
+    private static final class State {
+        final Map<String, Integer> vocabulary;
+        final float[] idf;
+        final SparseVector[] vectors;
+        final NeighborTable.Neighbors[] neighbors;
+        /** courses changed or removed since the last full build */
+        final int pendingChanges;
+
+        State(Map<String, Integer> vocabulary, float[] idf, SparseVector[] vectors,
+              NeighborTable.Neighbors[] neighbors, int pendingChanges) {
+            this.vocabulary = vocabulary;
+            this.idf = idf;
+            this.vectors = vectors;
+            this.neighbors = neighbors;
+            this.pendingChanges = pendingChanges;
+        }
+    }
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SnapshotDerived<State> state = new SnapshotDerived<>(SimilarCourseService::build);
+
+    public SimilarCourseService(CatalogSnapshotService catalogSnapshotService) {
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    /** @return the most similar courses, best first, or empty if the course does not exist */
+    public Optional<List<SimilarCourseDTO>> getSimilarCourses(String id, int limit) {
+        CatalogSnapshot snapshot = catalogSnapshotService.current();
+        int ordinal = snapshot.ordinalOf(id);
+        if (ordinal < 0) {
+            return Optional.empty();
+        }
+        NeighborTable.Neighbors neighbors = state.get(snapshot).neighbors[ordinal];
+        int count = Math.min(limit, neighbors.ordinals().length);
+        List<SimilarCourseDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(new SimilarCourseDTO(snapshot.getCourses().get(neighbors.ordinals()[i]), neighbors.scores()[i]));
+        }
+        return Optional.of(result);
+    }
+
+    private static State build(CatalogSnapshot previousSnapshot, State previous, CatalogSnapshot current) {
+        long start = System.nanoTime();
+        List<CourseDTO> courses = current.getCourses();
+        Set<String> changed = new LinkedHashSet<>();
+        int removed = 0;
+        if (previous != null) {
+            for (CourseDTO course : courses) {
+                if (current.isChangedSince(previousSnapshot, course.getId())) {
+                    changed.add(course.getId());
+                }
+            }
+            for (CourseDTO course : previousSnapshot.getCourses()) {
+                if (current.ordinalOf(course.getId()) < 0) {
+                    removed++;
+                }
+            }
+        }
+        State built;
+        if (previous == null
+                || previous.pendingChanges + changed.size() + removed > Math.max(16, courses.size() / 10)) {
+            built = fullBuild(courses);
+            logger.debug("Similarity table for catalog v{} fully built in {} ms: {} courses, {} features",
+                    current.getVersion(), (System.nanoTime() - start) / 1_000_000, courses.size(), built.idf.length);
+        } else {
+            built = incrementalBuild(previousSnapshot, previous, current, changed, removed);
+            logger.debug("Similarity table for catalog v{} updated in {} ms: {} changed, {} removed",
+                    current.getVersion(), (System.nanoTime() - start) / 1_000_000, changed.size(), removed);
+        }
+        return built;
+    }
+
+    private static State fullBuild(List<CourseDTO> courses) {
+        List<Map<String, Integer>> counts = courses.stream().map(SimilarCourseService::featureCounts).toList();
+        Map<String, Integer> vocabulary = new HashMap<>();
+        int[] documentFrequency = new int[16];
+        for (Map<String, Integer> document : counts) {
+            for (String feature : document.keySet()) {
+                int id = vocabulary.computeIfAbsent(feature, f -> vocabulary.size());
+                if (id == documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, id * 2);
+                }
+                documentFrequency[id]++;
+            }
+        }
+        float[] idf = new float[vocabulary.size()];
+        for (int f = 0; f < idf.length; f++) {
+            idf[f] = idf(courses.size(), documentFrequency[f]);
+        }
+        SparseVector[] vectors = new SparseVector[courses.size()];
+        for (int c = 0; c < vectors.length; c++) {
+            vectors[c] = vectorize(counts.get(c), vocabulary, idf);
+        }
+        int[] all = new int[vectors.length];
+        Arrays.setAll(all, c -> c);
+        NeighborTable.Neighbors[] neighbors = new NeighborTable.Neighbors[vectors.length];
+        NeighborTable.compute(vectors, new NeighborTable.Postings(vectors, idf.length), all, MAX_NEIGHBORS, neighbors);
+        return new State(vocabulary, idf, vectors, neighbors, 0);
+    }
+
+    private static State incrementalBuild(CatalogSnapshot previousSnapshot, State previous, CatalogSnapshot current,
+                                          Set<String> changed, int removed) {
+        List<CourseDTO> courses = current.getCourses();
+        // previous ordinal -> current ordinal, -1 for removed courses
+        int[] remap = new int[previousSnapshot.getCourses().size()];
+        boolean sameOrdinals = changed.isEmpty() && remap.length == courses.size();
+        for (int o = 0; o < remap.length; o++) {
+            remap[o] = current.ordinalOf(previousSnapshot.getCourses().get(o).getId());
+            sameOrdinals &= remap[o] == o;
+        }
+        if (sameOrdinals) {
+            // e.g. only prerequisites changed
+            return previous;
+        }
+
+        Map<String, Integer> vocabulary = previous.vocabulary;
+        float[] idf = previous.idf;
+        SparseVector[] vectors = new SparseVector[courses.size()];
+        boolean[] isChanged = new boolean[courses.size()];
+        for (int c = 0; c < courses.size(); c++) {
+            CourseDTO course = courses.get(c);
+            if (!changed.contains(course.getId())) {
+                vectors[c] = previous.vectors[previousSnapshot.ordinalOf(course.getId())];
+                continue;
+            }
+            isChanged[c] = true;
+            Map<String, Integer> counts = featureCounts(course);
+            for (String feature : counts.keySet()) {
+                if (!vocabulary.containsKey(feature)) {
+                    if (vocabulary == previous.vocabulary) {
+                        vocabulary = new HashMap<>(previous.vocabulary);
+                    }
+                    vocabulary.put(feature, vocabulary.size());
+                }
+            }
+            if (vocabulary.size() > idf.length) {
+                int known = idf.length;
+                idf = Arrays.copyOf(idf, vocabulary.size());
+                // a feature nobody had before is as rare as a feature can be
+                Arrays.fill(idf, known, idf.length, idf(courses.size(), 1));
+            }
+            vectors[c] = vectorize(counts, vocabulary, idf);
+        }
+
+        NeighborTable.Neighbors[] neighbors = new NeighborTable.Neighbors[courses.size()];
+        boolean[] recompute = new boolean[courses.size()];
+        List<Integer> changedOrdinals = new ArrayList<>();
+        for (int c = 0; c < courses.size(); c++) {
+            if (isChanged[c]) {
+                recompute[c] = true;
+                changedOrdinals.add(c);
+                continue;
+            }
+            NeighborTable.Neighbors before = previous.neighbors[previousSnapshot.ordinalOf(courses.get(c).getId())];
+            int[] ordinals = new int[before.ordinals().length];
+            boolean stale = false;
+            for (int i = 0; i < ordinals.length && !stale; i++) {
+                ordinals[i] = remap[before.ordinals()[i]];
+                stale = ordinals[i] < 0 || isChanged[ordinals[i]];
+            }
+            if (stale) {
+                recompute[c] = true;
+            } else {
+                neighbors[c] = new NeighborTable.Neighbors(ordinals, before.scores());
+            }
+        }
+        int[] targets = new int[courses.size()];
+        int targetCount = 0;
+        for (int c = 0; c < courses.size(); c++) {
+            if (recompute[c]) {
+                targets[targetCount++] = c;
+            }
+        }
+        NeighborTable.compute(vectors, new NeighborTable.Postings(vectors, idf.length),
+                Arrays.copyOf(targets, targetCount), MAX_NEIGHBORS, neighbors);
+        for (int c = 0; c < courses.size(); c++) {
+            if (recompute[c]) {
+                continue;
+            }
+            for (int other : changedOrdinals) {
+                neighbors[c] = NeighborTable.offer(neighbors[c], other, vectors[c].dot(vectors[other]), MAX_NEIGHBORS);
+            }
+        }
+        return new State(vocabulary, idf, vectors, neighbors, previous.pendingChanges + changed.size() + removed);
+    }
+
+    private static Map<String, Integer> featureCounts(CourseDTO course) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : TextAnalyzer.terms(course.getTitle())) {
+            counts.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : TextAnalyzer.terms(course.getDescription())) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        if (course.getCategories() != null) {
+            for (CategoryDTO category : course.getCategories()) {
+                counts.merge(CATEGORY_FEATURE + category.getName(), CATEGORY_WEIGHT, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static float idf(int documents, int documentFrequency) {
+        return (float) (Math.log((documents + 1.0) / (documentFrequency + 1.0)) + 1);
+    }
+
+    /** Sublinear TF times IDF, L2-normalized, sorted by feature ID. */
+    private static SparseVector vectorize(Map<String, Integer> counts, Map<String, Integer> vocabulary, float[] idf) {
+        if (counts.isEmpty()) {
+            return SparseVector.EMPTY;
+        }
+        int[] features = new int[counts.size()];
+        int n = 0;
+        for (String feature : counts.keySet()) {
+            features[n++] = vocabulary.get(feature);
+        }
+        Arrays.sort(features);
+        Map<Integer, Integer> countById = new HashMap<>(counts.size() * 2);
+        counts.forEach((feature, count) -> countById.put(vocabulary.get(feature), count));
+        float[] weights = new float[features.length];
+        double norm = 0;
+        for (int i = 0; i < features.length; i++) {
+            weights[i] = (float) ((1 + Math.log(countById.get(features[i]))) * idf[features[i]]);
+            norm += (double) weights[i] * weights[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] *= scale;
+        }
+        return new SparseVector(features, weights);
+    }
+}
@@ -0,0 +1,35 @@
+package com.team.course_service.similar;
+
+/**
+ * L2-normalized sparse vector with feature IDs in ascending order.
+ */
+final class SparseVector {
+    static final SparseVector EMPTY = new SparseVector(new int[0], new float[0]);
+
+    final int[] features;
+    final float[] weights;
+
+    SparseVector(int[] features, float[] weights) {
+        this.features = features;
+        this.weights = weights;
+    }
+
+    /** Cosine similarity, since both vectors are normalized. */
+    float dot(SparseVector other) {
+        float sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < features.length && j < other.features.length) {
+            int a = features[i];
+            int b = other.features[j];
+            if (a == b) {
+                sum += weights[i++] * other.weights[j++];
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,136 @@
+package com.team.course_service.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.dto.CourseSuggestionDTO;
+import com.team.course_service.popularity.CoursePopularityRanking;
+import com.team.course_service.search.TextAnalyzer;
+
+/**
+ * Type-ahead suggestions for course pickers. Every course is reachable by its ID and by its normalized title
+ * starting at any word that is not a stop word, so "learn" finds "Advanced Deep Learning".
+ * Keys end with a space so that a prefix ending in a separator matches whole words only.
+ * Matches are ranked by popularity, so the course most users look for comes first, then by title.
+ * The suggestion lists and their DTOs are precomputed whenever the catalog or the popularity ranking changes.
+ */
+@Service
+public class CourseSuggestService {
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final Logger logger = LoggerFactory.getLogger(CourseSuggestService.class);
+
+    /** Order of matches that are equally popular, including all courses never viewed. */
+    private static final Comparator<CourseDTO> TITLE_ORDER = Comparator
+            .comparing((CourseDTO course) -> course.getTitle() == null ? "" : course.getTitle(), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(CourseDTO::getId);
+
+    private static final class State {
+        final PrefixTrie trie;
+        final CourseSuggestionDTO[] suggestions;
+
+        State(PrefixTrie trie, CourseSuggestionDTO[] suggestions) {
+            this.trie = trie;
+            this.suggestions = suggestions;
+        }
+    }
+
+    private record Built(long catalogVersion, long rankingVersion, State state) { }
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CoursePopularityRanking popularityRanking;
+    private volatile Built built;
+
+    public CourseSuggestService(CatalogSnapshotService catalogSnapshotService,
+                                CoursePopularityRanking popularityRanking) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.popularityRanking = popularityRanking;
+    }
+
+    /** Up to {@code limit} courses whose ID or a title suffix starts with {@code prefix}, best first. */
+    public List<CourseSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalizePrefix(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        State current = state(catalogSnapshotService.current());
+        int[] matches = current.trie.lookup(key);
+        int count = Math.min(limit, matches.length);
+        List<CourseSuggestionDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(current.suggestions[matches[i]]);
+        }
+        return result;
+    }
+
+    private State state(CatalogSnapshot snapshot) {
+        CoursePopularityRanking.Ranking ranking = popularityRanking.current();
+        Built current = built;
+        if (current != null && current.catalogVersion() == snapshot.getVersion()
+                && current.rankingVersion() == ranking.version()) {
+            return current.state();
+        }
+        // Concurrent rebuilds produce equal states, so the last one written wins harmlessly
+        State state = build(snapshot, ranking.popularity());
+        built = new Built(snapshot.getVersion(), ranking.version(), state);
+        return state;
+    }
+
+    private static State build(CatalogSnapshot snapshot, Map<String, Double> popularity) {
+        long start = System.nanoTime();
+        List<CourseDTO> courses = snapshot.getCourses();
+        List<String> keys = new ArrayList<>();
+        List<Integer> keyOrdinals = new ArrayList<>();
+        CourseSuggestionDTO[] suggestions = new CourseSuggestionDTO[courses.size()];
+        for (int c = 0; c < courses.size(); c++) {
+            CourseDTO course = courses.get(c);
+            suggestions[c] = new CourseSuggestionDTO(course.getId(), course.getTitle(), course.getCredits());
+            keys.add(course.getId().toLowerCase(Locale.ROOT) + " ");
+            keyOrdinals.add(c);
+            List<String> tokens = TextAnalyzer.tokens(course.getTitle());
+            for (int t = 0; t < tokens.size(); t++) {
+                if (t == 0 || !TextAnalyzer.isStopWord(tokens.get(t))) {
+                    keys.add(String.join(" ", tokens.subList(t, tokens.size())) + " ");
+                    keyOrdinals.add(c);
+                }
+            }
+        }
+        Integer[] byRank = new Integer[courses.size()];
+        for (int c = 0; c < byRank.length; c++) {
+            byRank[c] = c;
+        }
+        Comparator<CourseDTO> order = Comparator
+                .comparingDouble((CourseDTO course) -> popularity.getOrDefault(course.getId(), Double.NEGATIVE_INFINITY))
+                .reversed()
+                .thenComparing(TITLE_ORDER);
+        Arrays.sort(byRank, (a, b) -> order.compare(courses.get(a), courses.get(b)));
+        int[] rank = new int[courses.size()];
+        for (int r = 0; r < byRank.length; r++) {
+            rank[byRank[r]] = r;
+        }
+        PrefixTrie trie = PrefixTrie.build(keys.toArray(String[]::new),
+                keyOrdinals.stream().mapToInt(Integer::intValue).toArray(), rank, MAX_SUGGESTIONS);
+        logger.debug("Suggestion trie for catalog v{} built in {} µs: {} keys, {} nodes",
+                snapshot.getVersion(), (System.nanoTime() - start) / 1000, keys.size(), trie.nodeCount());
+        return new State(trie, suggestions);
+    }
+
+    /** Normalizes like the indexed keys; a trailing separator only matches whole words. */
+    static String normalizePrefix(String prefix) {
+        String key = String.join(" ", TextAnalyzer.tokens(prefix));
+        if (!key.isEmpty() && !Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))) {
+            key += " ";
+        }
+        return key;
+    }
+}
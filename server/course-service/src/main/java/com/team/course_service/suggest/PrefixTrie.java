@@ -0,0 +1,208 @@
+package com.team.course_service.suggest;
+
+import java.util.Arrays;
+
+/**
+ * Immutable radix (path-compressed) trie from string keys to document ordinals, in which every node
+ * stores the best {@code k} distinct ordinals of its subtree. A lookup walks at most one edge per
+ * prefix character and returns the stored list, so its cost does not depend on how many keys match.
+ * The trie is held in flat arrays; the children of a node are contiguous and sorted by first character.
+ */
+final class PrefixTrie {
+    private static final int[] NONE = new int[0];
+
+    private final char[][] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[][] top;
+
+    private PrefixTrie(char[][] labels, int[] firstChild, int[] childCount, int[][] top) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.top = top;
+    }
+
+    /**
+     * @param keys     keys to index; a document may have any number of keys
+     * @param ordinals document ordinal of each key
+     * @param rank     rank of each document, lower is better; must be distinct per document
+     * @param k        number of documents kept per node
+     */
+    static PrefixTrie build(String[] keys, int[] ordinals, int[] rank, int k) {
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+        String[] sortedKeys = new String[keys.length];
+        int[] sortedOrdinals = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedKeys[i] = keys[order[i]];
+            sortedOrdinals[i] = ordinals[order[i]];
+        }
+        Builder builder = new Builder(sortedKeys, sortedOrdinals, rank, k);
+        builder.newNode(new char[0]);
+        builder.fill(0, 0, keys.length, 0);
+        return builder.finish();
+    }
+
+    /** Best documents whose keys start with {@code prefix}, best first; at most {@code k} of them. */
+    int[] lookup(String prefix) {
+        int node = 0;
+        int i = 0;
+        while (i < prefix.length()) {
+            int child = findChild(node, prefix.charAt(i));
+            if (child < 0) {
+                return NONE;
+            }
+            char[] label = labels[child];
+            int matched = 0;
+            while (matched < label.length && i < prefix.length()) {
+                if (label[matched] != prefix.charAt(i)) {
+                    return NONE;
+                }
+                matched++;
+                i++;
+            }
+            node = child;
+        }
+        return top[node];
+    }
+
+    int nodeCount() {
+        return labels.length;
+    }
+
+    private int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char first = labels[mid][0];
+            if (first < c) {
+                lo = mid + 1;
+            } else if (first > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Builder {
+        private final String[] keys;
+        private final int[] ordinals;
+        private final int[] rank;
+        private final int k;
+        private char[][] labels = new char[16][];
+        private int[] firstChild = new int[16];
+        private int[] childCount = new int[16];
+        private int[][] top = new int[16][];
+        private int size;
+
+        Builder(String[] keys, int[] ordinals, int[] rank, int k) {
+            this.keys = keys;
+            this.ordinals = ordinals;
+            this.rank = rank;
+            this.k = k;
+        }
+
+        int newNode(char[] label) {
+            if (size == labels.length) {
+                int capacity = size * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                childCount = Arrays.copyOf(childCount, capacity);
+                top = Arrays.copyOf(top, capacity);
+            }
+            labels[size] = label;
+            return size++;
+        }
+
+        /** Fills {@code node} from the sorted keys {@code [lo, hi)}, which all share their first {@code depth} characters. */
+        void fill(int node, int lo, int hi, int depth) {
+            int terminalEnd = lo;
+            while (terminalEnd < hi && keys[terminalEnd].length() == depth) {
+                terminalEnd++;
+            }
+            // group the remaining keys by their next character; groups become contiguous children
+            int groups = 0;
+            for (int i = terminalEnd; i < hi; i++) {
+                if (i == terminalEnd || keys[i].charAt(depth) != keys[i - 1].charAt(depth)) {
+                    groups++;
+                }
+            }
+            int[] groupStart = new int[groups + 1];
+            int[] groupDepth = new int[groups];
+            int g = 0;
+            for (int i = terminalEnd; i < hi; i++) {
+                if (i == terminalEnd || keys[i].charAt(depth) != keys[i - 1].charAt(depth)) {
+                    groupStart[g++] = i;
+                }
+            }
+            groupStart[groups] = hi;
+            firstChild[node] = size;
+            childCount[node] = groups;
+            int[] children = new int[groups];
+            for (g = 0; g < groups; g++) {
+                int start = groupStart[g];
+                int end = groupStart[g + 1];
+                // keys are sorted, so the common prefix of the group is that of its first and last key
+                int common = commonPrefix(keys[start], keys[end - 1], depth);
+                groupDepth[g] = common;
+                children[g] = newNode(keys[start].substring(depth, common).toCharArray());
+            }
+            for (g = 0; g < groups; g++) {
+                fill(children[g], groupStart[g], groupStart[g + 1], groupDepth[g]);
+            }
+            top[node] = best(node, lo, terminalEnd, children);
+        }
+
+        private int[] best(int node, int terminalLo, int terminalHi, int[] children) {
+            int candidates = terminalHi - terminalLo;
+            for (int child : children) {
+                candidates += top[child].length;
+            }
+            int[] merged = new int[candidates];
+            int n = 0;
+            for (int i = terminalLo; i < terminalHi; i++) {
+                merged[n++] = ordinals[i];
+            }
+            for (int child : children) {
+                for (int ordinal : top[child]) {
+                    merged[n++] = ordinal;
+                }
+            }
+            // sort by rank, then drop duplicates of a document reached through several keys
+            long[] ranked = new long[n];
+            for (int i = 0; i < n; i++) {
+                ranked[i] = ((long) rank[merged[i]] << 32) | merged[i];
+            }
+            Arrays.sort(ranked);
+            int[] result = new int[Math.min(k, n)];
+            int count = 0;
+            for (int i = 0; i < n && count < result.length; i++) {
+                if (i == 0 || ranked[i] != ranked[i - 1]) {
+                    result[count++] = (int) ranked[i];
+                }
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        }
+
+        private static int commonPrefix(String a, String b, int from) {
+            int max = Math.min(a.length(), b.length());
+            int i = from;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+
+        PrefixTrie finish() {
+            return new PrefixTrie(Arrays.copyOf(labels, size), Arrays.copyOf(firstChild, size),
+                    Arrays.copyOf(childCount, size), Arrays.copyOf(top, size));
+        }
+    }
+}
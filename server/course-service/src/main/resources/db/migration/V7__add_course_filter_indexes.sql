@@ -0,0 +1,5 @@
+-- Supports keyset pagination on id combined with the credit range filter
+CREATE INDEX idx_course_credits_id ON course (credits, id);
+
+-- Supports the category filter, which resolves course ids by category name
+CREATE INDEX idx_course_category_category_course ON course_category (category_name, course_id);
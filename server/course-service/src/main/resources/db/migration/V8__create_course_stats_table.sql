@@ -0,0 +1,12 @@
+-- View counts and time-decayed popularity, flushed in batches from in-memory counters.
+-- No foreign key: views of a course deleted before the flush must not fail the whole batch.
+-- popularity is the base-2 logarithm of the decayed view sum: the sum grows by a factor of two per half-life
+-- and would overflow DOUBLE after about a thousand half-lives.
+CREATE TABLE course_stats (
+  course_id       VARCHAR(10)  PRIMARY KEY,
+  view_count      BIGINT       NOT NULL,
+  popularity      DOUBLE       NOT NULL,
+  last_viewed_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_course_stats_popularity ON course_stats (popularity);
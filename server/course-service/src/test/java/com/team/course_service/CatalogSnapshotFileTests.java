@@ -0,0 +1,150 @@
+package com.team.course_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.course_service.catalog.CatalogChangeTracker;
+import com.team.course_service.catalog.CatalogSnapshot;
+import com.team.course_service.catalog.CatalogSnapshotService;
+import com.team.course_service.dto.CategoryDTO;
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.model.Category;
+import com.team.course_service.service.CategoryService;
+import com.team.course_service.service.CourseService;
+
+public class CatalogSnapshotFileTests {
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private CourseService courseService;
+    private CategoryService categoryService;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("catalog.snapshot");
+        courseService = mock(CourseService.class);
+        categoryService = mock(CategoryService.class);
+        when(courseService.getAllCourseDtos()).thenAnswer(invocation -> courses());
+        when(courseService.getAllPrerequisites()).thenReturn(Map.of("IN2390", List.of("IN3410")));
+        when(categoryService.getAllCategories()).thenReturn(List.of(new Category("Algorithms"), new Category("Vision")));
+    }
+
+    @Test
+    void warmStart_shouldServeMappedSnapshotBeforeDatabaseIsRead() throws Exception {
+        CatalogSnapshot built = service(courseService).refresh();
+        assertThat(Files.exists(file)).isTrue();
+
+        // The second instance's database never answers while the mapped snapshot is checked
+        CountDownLatch release = new CountDownLatch(1);
+        CourseService blocked = mock(CourseService.class);
+        when(blocked.getAllCourseDtos()).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return courses();
+        });
+        CatalogSnapshotService restarted = service(blocked);
+        restarted.warmStart();
+        CatalogSnapshot mapped = restarted.current();
+
+        assertThat(mapped.getVersion()).isEqualTo(built.getVersion());
+        assertThat(mapped.getCoursesPayload().getJson()).isEqualTo(built.getCoursesPayload().getJson());
+        assertThat(mapped.getCoursesPayload().getGzipEtag()).isEqualTo(built.getCoursesPayload().getGzipEtag());
+        assertThat(mapped.getCategoriesPayload().getEtag()).isEqualTo(built.getCategoriesPayload().getEtag());
+        assertThat(mapped.getCoursePayload("IN2390").getJson()).isEqualTo(built.getCoursePayload("IN2390").getJson());
+        // Responses stream the payload from the mapping rather than from a heap copy
+        assertThat(mapped.getCoursesPayload().getJsonBuffer().isDirect()).isTrue();
+        assertThat(mapped.getCoursePayload("NOPE")).isNull();
+        assertThat(mapped.getPrerequisites("IN2390")).containsExactly("IN3410");
+
+        CourseDTO course = mapped.getCourse("IN2390");
+        assertThat(course.getTitle()).isEqualTo("Advanced Deep Learning");
+        assertThat(course.getDescription()).isNull();
+        assertThat(course.getCredits()).isEqualTo(8);
+        assertThat(course.getCategories()).extracting(CategoryDTO::getName).containsExactly("Algorithms", "Vision");
+        assertThat(mapped.getCourses()).extracting(CourseDTO::getId).containsExactly("IN3410", "IN2390");
+
+        verify(blocked, never()).getAllPrerequisites();
+        release.countDown();
+    }
+
+    @Test
+    void warmStart_whenDatabaseFailsFirst_shouldServeMappedSnapshotUntilConfirmed() throws Exception {
+        CatalogSnapshot built = service(courseService).refresh();
+
+        CourseService unavailable = mock(CourseService.class);
+        when(unavailable.getAllCourseDtos())
+                .thenThrow(new IllegalStateException("Database not reachable"))
+                .thenAnswer(invocation -> courses());
+        CatalogSnapshotService restarted = service(unavailable);
+        restarted.warmStart();
+        CatalogSnapshot mapped = restarted.current();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        CatalogSnapshot current = mapped;
+        while (current == mapped && System.nanoTime() < deadline) {
+            current = restarted.current();
+            Thread.sleep(20);
+        }
+
+        assertThat(mapped.getVersion()).isEqualTo(built.getVersion());
+        assertThat(current).isNotSameAs(mapped);
+        assertThat(current.getVersion()).isEqualTo(built.getVersion());
+    }
+
+    @Test
+    void warmStart_shouldKeepVersionWhenDatabaseMatchesFile() {
+        CatalogSnapshot built = service(courseService).refresh();
+
+        CatalogSnapshotService restarted = service(courseService);
+        restarted.warmStart();
+        CatalogSnapshot confirmed = restarted.refresh();
+
+        assertThat(confirmed.getVersion()).isEqualTo(built.getVersion());
+        assertThat(confirmed.getCourse("IN3410")).isNotNull();
+    }
+
+    @Test
+    void warmStart_shouldIgnoreMissingOrCorruptFile() throws Exception {
+        CatalogSnapshotService missing = service(courseService);
+        missing.warmStart();
+        assertThat(missing.current().getVersion()).isEqualTo(1);
+
+        Files.write(file, new byte[] {1, 2, 3});
+        CatalogSnapshotService corrupt = service(courseService);
+        corrupt.warmStart();
+        assertThat(corrupt.current().getCourses()).hasSize(2);
+    }
+
+    private CatalogSnapshotService service(CourseService courses) {
+        when(courses.getAllPrerequisites()).thenReturn(Map.of("IN2390", List.of("IN3410")));
+        return new CatalogSnapshotService(courses, categoryService, new ObjectMapper(), new CatalogChangeTracker(),
+                event -> { }, file.toString());
+    }
+
+    private static List<CourseDTO> courses() {
+        List<CourseDTO> courses = new ArrayList<>();
+        courses.add(new CourseDTO("IN3410", "Selected Topics in Algorithms", "Graphs, flows and matchings", 5,
+                Set.of(new CategoryDTO("Algorithms"))));
+        courses.add(new CourseDTO("IN2390", "Advanced Deep Learning", null, 8,
+                Set.of(new CategoryDTO("Vision"), new CategoryDTO("Algorithms"))));
+        return courses;
+    }
+}
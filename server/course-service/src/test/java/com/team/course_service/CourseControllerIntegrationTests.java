@@ -1,23 +1,32 @@
 package com.team.course_service;
 
+import com.team.course_service.filter.CourseRatings;
+import com.team.course_service.popularity.CoursePopularityService;
 import com.team.course_service.model.Category;
 import com.team.course_service.model.Course;
 import com.team.course_service.repository.CategoryRepository;
 import com.team.course_service.repository.CourseRepository;
+import com.team.course_service.repository.CourseStatsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional; 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -34,6 +43,15 @@ public class CourseControllerIntegrationTests {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CourseRatings courseRatings;
+
+    @Autowired
+    private CoursePopularityService coursePopularityService;
+
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+
     private Course course1;
     private Course course2;
     private Category category1;
@@ -85,4 +103,378 @@ public class CourseControllerIntegrationTests {
         mockMvc.perform(get("/courses/" + nonExistentId))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getAllCourses_withCategoryAndLimit_shouldReturnKeysetPages() throws Exception {
+        mockMvc.perform(get("/courses").param("category", category1.getName()).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())))
+                .andExpect(header().string("X-Next-Cursor", course2.getId()));
+
+        mockMvc.perform(get("/courses").param("category", category1.getName()).param("limit", "1")
+                        .param("after", course2.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course1.getId())))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void getAllCourses_withCombinedFilters_shouldReturnMatchingCourses() throws Exception {
+        mockMvc.perform(get("/courses")
+                        .param("category", category1.getName(), category2.getName())
+                        .param("minCredits", "6")
+                        .param("title", "deep"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())))
+                .andExpect(jsonPath("$[0].categories", hasSize(2)));
+    }
+
+    @Test
+    void getAllCourses_withInvalidCreditRange_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/courses").param("minCredits", "8").param("maxCredits", "5"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getPrerequisites_shouldReturnChainAndUnlockedCourses() throws Exception {
+        course2.getPrerequisites().add(course1);
+        courseRepository.saveAndFlush(course2);
+
+        mockMvc.perform(get("/courses/" + course2.getId() + "/prerequisites"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.directPrerequisites", hasSize(1)))
+                .andExpect(jsonPath("$.chain[0]", is(course1.getId())));
+
+        mockMvc.perform(get("/courses/unlocked"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course1.getId())));
+
+        mockMvc.perform(get("/courses/unlocked").param("completed", course1.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())));
+    }
+
+    @Test
+    void getPrerequisites_whenCourseDoesNotExist_shouldReturnNotFound() throws Exception {
+        mockMvc.perform(get("/courses/NON_EXISTENT_ID/prerequisites"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getCategoryFacets_shouldCountCoursesPerCategoryCreditsAndPair() throws Exception {
+        mockMvc.perform(get("/categories/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCourses", is(2)))
+                .andExpect(jsonPath("$.categories['" + category1.getName() + "']", is(2)))
+                .andExpect(jsonPath("$.categories['" + category2.getName() + "']", is(1)))
+                .andExpect(jsonPath("$.credits['5']", is(1)))
+                .andExpect(jsonPath("$.credits['8']", is(1)))
+                .andExpect(jsonPath("$.coOccurrence['" + category1.getName() + "']['" + category2.getName() + "']", is(1)));
+
+        courseRepository.delete(course2);
+        courseRepository.flush();
+
+        mockMvc.perform(get("/categories/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCourses", is(1)))
+                .andExpect(jsonPath("$.categories['" + category2.getName() + "']", is(0)))
+                .andExpect(jsonPath("$.coOccurrence", anEmptyMap()));
+    }
+
+    @Test
+    void planCourses_shouldFitCreditsAndRespectPrerequisites() throws Exception {
+        mockMvc.perform(post("/courses/plan").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetCredits\": 9, \"preferredCategories\": [\"" + category2.getName() + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalCredits", is(8)))
+                .andExpect(jsonPath("$[0].preferredCredits", is(8)))
+                .andExpect(jsonPath("$[0].semesters[0][0].id", is(course2.getId())));
+
+        course2.getPrerequisites().add(course1);
+        courseRepository.saveAndFlush(course2);
+
+        mockMvc.perform(post("/courses/plan").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetCredits\": 13, \"semesters\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalCredits", is(13)))
+                .andExpect(jsonPath("$[0].semesters[0][0].id", is(course1.getId())))
+                .andExpect(jsonPath("$[0].semesters[1][0].id", is(course2.getId())));
+
+        mockMvc.perform(post("/courses/plan").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetCredits\": 0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void planCourses_shouldReachCoursesBehindLargePrerequisites() throws Exception {
+        // An equal split of 12 credits gives 6 per semester, too few for the 8-credit prerequisite
+        Course course3 = new Course("IN2391", "Deep Learning Lab", "Practical deep learning.", 4, Set.of(category2));
+        course3.getPrerequisites().add(course2);
+        courseRepository.saveAndFlush(course3);
+
+        mockMvc.perform(post("/courses/plan").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetCredits\": 12, \"semesters\": 2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].totalCredits", is(12)))
+                .andExpect(jsonPath("$[0].semesters[0]", hasSize(1)))
+                .andExpect(jsonPath("$[0].semesters[0][0].id", is(course2.getId())))
+                .andExpect(jsonPath("$[0].semesters[1]", hasSize(1)))
+                .andExpect(jsonPath("$[0].semesters[1][0].id", is(course3.getId())));
+    }
+
+    @Test
+    void getChanges_shouldReturnOnlyModifiedAndDeletedCourses() throws Exception {
+        MockHttpServletResponse catalog = mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        String version = catalog.getHeader("X-Catalog-Version");
+        String epoch = catalog.getHeader("X-Catalog-Epoch");
+
+        course1.setTitle("Selected Topics in Algorithms II");
+        courseRepository.saveAndFlush(course1);
+        courseRepository.delete(course2);
+        courseRepository.flush();
+
+        mockMvc.perform(get("/courses/changes").param("since", version).param("epoch", epoch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.epoch", is(epoch)))
+                .andExpect(jsonPath("$.fromVersion", is(Integer.parseInt(version))))
+                .andExpect(jsonPath("$.toVersion", is(Integer.parseInt(version) + 1)))
+                .andExpect(jsonPath("$.upserted", hasSize(1)))
+                .andExpect(jsonPath("$.upserted[0].title", is("Selected Topics in Algorithms II")))
+                .andExpect(jsonPath("$.deleted", hasSize(1)))
+                .andExpect(jsonPath("$.deleted[0]", is(course2.getId())));
+
+        mockMvc.perform(get("/courses/changes").param("since", String.valueOf(Integer.parseInt(version) + 1))
+                        .param("epoch", epoch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted", hasSize(0)))
+                .andExpect(jsonPath("$.deleted", hasSize(0)));
+
+        mockMvc.perform(get("/courses/changes").param("since", String.valueOf(Integer.parseInt(version) + 2))
+                        .param("epoch", epoch))
+                .andExpect(status().isGone());
+    }
+
+    @Test
+    void getChanges_fromAnotherEpoch_shouldBeGone() throws Exception {
+        String version = mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("X-Catalog-Version");
+
+        // Same version number, but issued before a restart or by another replica
+        mockMvc.perform(get("/courses/changes").param("since", version).param("epoch", "0000000000000000"))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/courses/changes").param("since", version))
+                .andExpect(status().isGone());
+        mockMvc.perform(get("/courses/changes").param("since", "0").param("epoch", "0000000000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromVersion", is(0)))
+                .andExpect(jsonPath("$.categoriesChanged", is(true)));
+    }
+
+    @Test
+    void streamVersions_shouldSendCurrentVersionOnConnect() throws Exception {
+        String version = mockMvc.perform(get("/courses"))
+                .andReturn().getResponse().getHeader("X-Catalog-Version");
+
+        mockMvc.perform(get("/courses/changes/stream"))
+                .andExpect(request().asyncStarted())
+                .andExpect(content().string(containsString("event:catalog-version")))
+                .andExpect(content().string(containsString("\"version\":" + version)));
+    }
+
+    @Test
+    void getSimilarCourses_shouldFollowCatalogChanges() throws Exception {
+        mockMvc.perform(get("/courses/" + course1.getId() + "/similar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].course.id", is(course2.getId())));
+
+        Course course3 = new Course("IN2375", "Advanced Algorithms Seminar", "Selected topics in algorithms.", 5, Set.of(category1));
+        courseRepository.saveAndFlush(course3);
+
+        mockMvc.perform(get("/courses/" + course1.getId() + "/similar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].course.id", is(course3.getId())));
+
+        mockMvc.perform(get("/courses/NON_EXISTENT_ID/similar"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getCoursePage_withFields_shouldProjectRequestedColumns() throws Exception {
+        mockMvc.perform(get("/courses").param("minCredits", "6").param("fields", "title,categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())))
+                .andExpect(jsonPath("$[0].title", is(course2.getTitle())))
+                .andExpect(jsonPath("$[0].categories", hasSize(2)))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].credits").doesNotExist());
+
+        mockMvc.perform(get("/courses").param("limit", "1").param("fields", "credits"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", course2.getId()))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())))
+                .andExpect(jsonPath("$[0].credits", is(8)));
+    }
+
+    @Test
+    void importCourses_fromNdjson_shouldUpsertCoursesAndLinks() throws Exception {
+        courseRepository.flush();
+        String body = """
+                {"id":"IN9001","title":"Graph Mining","credits":5,"categories":["Algorithms","Data Analytics"],"prerequisites":["IN9002"]}
+                {"id":"IN9002","title":"Graph Theory","description":"Basics.","credits":6,"prerequisites":["IN3410"]}
+                {"id":"IN2390","title":"Advanced Deep Learning II","credits":8,"categories":["Computer Graphics and Vision"]}
+                """;
+
+        mockMvc.perform(post("/admin/courses/import").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses", is(3)))
+                .andExpect(jsonPath("$.categories", is(3)))
+                .andExpect(jsonPath("$.prerequisites", is(2)));
+
+        mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(4)));
+        mockMvc.perform(get("/courses/IN9001/prerequisites"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.directPrerequisites", hasSize(1)))
+                .andExpect(jsonPath("$.chain", hasSize(2)));
+        mockMvc.perform(get("/categories/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories['Data Analytics']", is(1)));
+    }
+
+    @Test
+    void importCourses_fromCsv_shouldSplitListColumns() throws Exception {
+        courseRepository.flush();
+        String body = """
+                id,title,description,credits,categories,prerequisites
+                IN9003,"Parallel Programming, Advanced",Threads and locks.,5,Algorithms;Systems,IN3410
+                """;
+
+        mockMvc.perform(post("/admin/courses/import").contentType("text/csv").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses", is(1)))
+                .andExpect(jsonPath("$.prerequisites", is(1)));
+
+        mockMvc.perform(get("/courses/IN9003"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Parallel Programming, Advanced")))
+                .andExpect(jsonPath("$.categories", hasSize(2)));
+    }
+
+    @Test
+    void importCourses_withInvalidRecord_shouldReturnBadRequest() throws Exception {
+        courseRepository.flush();
+        String body = """
+                {"id":"IN9004","title":"Fine","credits":5}
+                {"id":"IN9005","title":"","credits":5}
+                """;
+
+        mockMvc.perform(post("/admin/courses/import").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("record 2")));
+
+        mockMvc.perform(post("/admin/courses/import").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void filterCourses_shouldCombineCategoryCreditAndRatingBitmaps() throws Exception {
+        mockMvc.perform(get("/courses/filter").param("q", "category:algorithms AND NOT credits:8"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.courses[0].id", is(course1.getId())));
+
+        mockMvc.perform(get("/courses/filter")
+                        .param("q", "credits:6.. OR category:\"Computer Graphics and Vision\"")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.courses[0].id", is(course2.getId())));
+
+        courseRatings.update(Map.of(course1.getId(), 4.5));
+        try {
+            mockMvc.perform(get("/courses/filter").param("q", "rating:4..5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", is(1)))
+                    .andExpect(jsonPath("$.courses[0].id", is(course1.getId())));
+            mockMvc.perform(get("/courses/filter").param("q", "rating:none"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", is(1)))
+                    .andExpect(jsonPath("$.courses[0].id", is(course2.getId())));
+
+            // The upper end is inclusive but does not extend to the rest of its half-star bucket
+            courseRatings.update(Map.of(course1.getId(), 4.5, course2.getId(), 4.2));
+            mockMvc.perform(get("/courses/filter").param("q", "rating:..4"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", is(0)));
+            mockMvc.perform(get("/courses/filter").param("q", "rating:4..4.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", is(2)));
+            mockMvc.perform(get("/courses/filter").param("q", "rating:4.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", is(1)))
+                    .andExpect(jsonPath("$.courses[0].id", is(course1.getId())));
+        } finally {
+            courseRatings.update(Map.of());
+        }
+
+        mockMvc.perform(get("/courses/filter").param("q", "credits:5 AND (category:Algorithms"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("')'")));
+        mockMvc.perform(get("/courses/filter").param("q", "lecturer:Smith"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/filter").param("q", "NOT ".repeat(1000) + "credits:5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("characters")));
+        mockMvc.perform(get("/courses/filter").param("q", "(".repeat(100) + "credits:5" + ")".repeat(100)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", containsString("nested")));
+    }
+
+    @Test
+    void getPopularCourses_shouldRankFlushedViews() throws Exception {
+        // Drop views recorded by other tests; everything written here is rolled back with this test
+        coursePopularityService.flush();
+        courseStatsRepository.deleteAllInBatch();
+        mockMvc.perform(get("/courses/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/courses/" + course2.getId())).andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/courses/" + course1.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/courses/NON_EXISTENT_ID")).andExpect(status().isNotFound());
+        coursePopularityService.flush();
+        mockMvc.perform(get("/courses/" + course2.getId())).andExpect(status().isOk());
+        coursePopularityService.flush();
+
+        mockMvc.perform(get("/courses/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(course2.getId())))
+                .andExpect(jsonPath("$[0].title", is(course2.getTitle())))
+                .andExpect(jsonPath("$[0].views", is(4)))
+                .andExpect(jsonPath("$[0].score", closeTo(4.0, 0.01)))
+                .andExpect(jsonPath("$[1].id", is(course1.getId())))
+                .andExpect(jsonPath("$[1].views", is(1)))
+                .andExpect(jsonPath("$[1].score", closeTo(1.0, 0.01)));
+
+        mockMvc.perform(get("/courses/popular").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        mockMvc.perform(get("/courses/popular").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -1,23 +1,41 @@
 package com.team.course_service;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.mockito.Mockito; 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given; 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.team.course_service.catalog.CatalogChangeTracker;
+import com.team.course_service.catalog.CatalogSnapshotService;
 import com.team.course_service.controller.CourseController;
+import com.team.course_service.fieldset.SparseCourseService;
+import com.team.course_service.popularity.CoursePopularityRanking;
+import com.team.course_service.popularity.CourseViewCounter;
+import com.team.course_service.mapper.CourseMapper;
 import com.team.course_service.model.Category;
 import com.team.course_service.model.Course;
+import com.team.course_service.repository.CourseStatsRepository;
+import com.team.course_service.search.CourseSearchService;
+import com.team.course_service.service.CategoryService;
 import com.team.course_service.service.CourseService;
+import com.team.course_service.suggest.CourseSuggestService;
 
 @WebMvcTest(controllers = CourseController.class)
 public class CourseControllerTests {
@@ -27,6 +45,12 @@ public class CourseControllerTests {
     @Autowired
     private CourseService courseService; 
 
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private CoursePopularityRanking coursePopularityRanking;
+
     @TestConfiguration
     static class ControllerTestConfig {
 
@@ -34,6 +58,49 @@ public class CourseControllerTests {
         public CourseService courseService() {
             return Mockito.mock(CourseService.class); 
         }
+
+        @Bean
+        public CategoryService categoryService() {
+            return Mockito.mock(CategoryService.class);
+        }
+
+        @Bean
+        public CatalogSnapshotService catalogSnapshotService(CourseService courseService, CategoryService categoryService,
+                                                            ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+            return new CatalogSnapshotService(courseService, categoryService, objectMapper, new CatalogChangeTracker(),
+                    eventPublisher, "");
+        }
+
+        @Bean
+        public CourseSearchService courseSearchService(CatalogSnapshotService catalogSnapshotService) {
+            return new CourseSearchService(catalogSnapshotService);
+        }
+
+        @Bean
+        public CoursePopularityRanking coursePopularityRanking() {
+            return new CoursePopularityRanking(Mockito.mock(CourseStatsRepository.class));
+        }
+
+        @Bean
+        public CourseSuggestService courseSuggestService(CatalogSnapshotService catalogSnapshotService,
+                                                         CoursePopularityRanking coursePopularityRanking) {
+            return new CourseSuggestService(catalogSnapshotService, coursePopularityRanking);
+        }
+
+        @Bean
+        public SparseCourseService sparseCourseService(ObjectMapper objectMapper) {
+            return new SparseCourseService(objectMapper);
+        }
+
+        @Bean
+        public CourseViewCounter courseViewCounter() {
+            return new CourseViewCounter();
+        }
+    }
+
+    private void givenCatalog(Course... courses) {
+        given(courseService.getAllCourseDtos()).willReturn(Stream.of(courses).map(CourseMapper::toDto).toList());
+        catalogSnapshotService.refresh();
     }
 
     @Test
@@ -41,7 +108,7 @@ public class CourseControllerTests {
         Course sample = new Course("TST100","Test","Desc",3, Set.of());
         Course sample2 = new Course("IN2000","Test2","Desc2",5, Set.of()); 
 
-        given(courseService.getAllCourses()).willReturn(List.of(sample, sample2));
+        givenCatalog(sample, sample2);
 
         mvc.perform(get("/courses"))
            .andExpect(status().isOk())
@@ -65,7 +132,7 @@ public class CourseControllerTests {
         Category category = new Category("Software Engineering");
         Course course = new Course(courseId, "Advanced Software Engineering", "Deep dive into SE", 5, Set.of(category));
 
-        given(courseService.getCourseById(courseId)).willReturn(Optional.of(course));
+        givenCatalog(course);
 
         mvc.perform(get("/courses/" + courseId))
            .andExpect(status().isOk())
@@ -82,10 +149,194 @@ public class CourseControllerTests {
     void getCourseById_whenCourseDoesNotExist_shouldReturnNotFound() throws Exception {
         String courseId = "NONEXISTENT123";
 
-        given(courseService.getCourseById(courseId)).willReturn(Optional.empty());
+        givenCatalog();
 
         mvc.perform(get("/courses/" + courseId))
            .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getAll_withMatchingEtag_shouldReturnNotModified() throws Exception {
+        givenCatalog(new Course("TST100","Test","Desc",3, Set.of()));
+
+        MvcResult first = mvc.perform(get("/courses"))
+           .andExpect(status().isOk())
+           .andExpect(header().exists(HttpHeaders.ETAG))
+           .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/courses").header(HttpHeaders.IF_NONE_MATCH, etag))
+           .andExpect(status().isNotModified())
+           .andExpect(header().string(HttpHeaders.ETAG, etag))
+           .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getAll_withEtagOfAnotherRepresentation_shouldReturnBody() throws Exception {
+        givenCatalog(new Course("TST100","Test","Desc",3, Set.of()));
+
+        String cborEtag = mvc.perform(get("/courses").accept("application/cbor"))
+           .andExpect(status().isOk())
+           .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/courses").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, cborEtag))
+           .andExpect(status().isOk())
+           .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+           .andExpect(jsonPath("$[0].id").value("TST100"));
+        mvc.perform(get("/courses").accept("application/cbor").header(HttpHeaders.IF_NONE_MATCH, cborEtag))
+           .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAll_whenClientAcceptsGzip_shouldReturnCompressedBody() throws Exception {
+        givenCatalog(new Course("TST100","Test","Desc",3, Set.of()));
+
+        mvc.perform(get("/courses").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+           .andExpect(status().isOk())
+           .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void getAll_whenClientPrefersSmileOrCbor_shouldReturnBinaryPayload() throws Exception {
+        givenCatalog(new Course("TST100","Test","Desc",3, Set.of()));
+
+        byte[] smile = mvc.perform(get("/courses").header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile"))
+           .andExpect(status().isOk())
+           .andExpect(content().contentType("application/x-jackson-smile"))
+           .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("TST100", new SmileMapper().readTree(smile).get(0).get("id").asText());
+
+        byte[] cbor = mvc.perform(get("/courses/TST100").accept("application/cbor"))
+           .andExpect(status().isOk())
+           .andExpect(content().contentType("application/cbor"))
+           .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(3, new CBORMapper().readTree(cbor).get("credits").asInt());
+
+        mvc.perform(get("/courses").accept(MediaType.ALL))
+           .andExpect(status().isOk())
+           .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void searchCourses_shouldRankTitleMatchesFirst() throws Exception {
+        givenCatalog(
+            new Course("IN2000","Databases","Covers query processing for deep learning workloads.",5, Set.of()),
+            new Course("IN2346","Introduction to Deep Learning","Neural networks and training.",6, Set.of()));
+
+        mvc.perform(get("/courses/search").param("q", "\"deep learning\""))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$[0].course.id").value("IN2346"))
+           .andExpect(jsonPath("$[1].course.id").value("IN2000"));
+
+        mvc.perform(get("/courses/search").param("q", "databa*"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(1))
+           .andExpect(jsonPath("$[0].course.id").value("IN2000"));
+    }
+
+    @Test
+    void searchCourses_shouldStemPrefixesAndRequireQuotedWords() throws Exception {
+        givenCatalog(
+            new Course("IN2000","Databases","Covers query processing for deep learning workloads.",5, Set.of()),
+            new Course("IN2346","Introduction to Deep Learning","Neural networks and training.",6, Set.of()));
+
+        // "learning" is indexed as "learn"
+        mvc.perform(get("/courses/search").param("q", "learning*"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(2));
+
+        mvc.perform(get("/courses/search").param("q", "\"databases\" learning"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(1))
+           .andExpect(jsonPath("$[0].course.id").value("IN2000"));
+    }
+
+    @Test
+    void getCoursesByIds_shouldKeepRequestOrderAndReportMisses() throws Exception {
+        givenCatalog(
+            new Course("IN2000","Databases","Desc",5, Set.of()),
+            new Course("IN2346","Deep Learning","Desc",6, Set.of()));
+
+        mvc.perform(get("/courses").param("ids", "IN2346,NOPE,IN2000,IN2346"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.courses.length()").value(2))
+           .andExpect(jsonPath("$.courses[0].id").value("IN2346"))
+           .andExpect(jsonPath("$.courses[1].id").value("IN2000"))
+           .andExpect(jsonPath("$.missing[0]").value("NOPE"));
+
+        String tooMany = String.join(",", IntStream.range(0, 101).mapToObj(i -> "C" + i).toList());
+        mvc.perform(get("/courses").param("ids", tooMany))
+           .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggestCourses_shouldMatchIdsAndWordPrefixes() throws Exception {
+        givenCatalog(
+            new Course("IN2346","Introduction to Deep Learning","Desc",6, Set.of()),
+            new Course("IN2390","Advanced Deep Learning","Desc",8, Set.of()),
+            new Course("IN2000","Databases","Desc",5, Set.of()));
+
+        mvc.perform(get("/courses/suggest").param("prefix", "deep lear"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(2))
+           .andExpect(jsonPath("$[0].id").value("IN2390"))
+           .andExpect(jsonPath("$[1].id").value("IN2346"));
+
+        mvc.perform(get("/courses/suggest").param("prefix", "in20").param("limit", "1"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(1))
+           .andExpect(jsonPath("$[0].title").value("Databases"));
+
+        mvc.perform(get("/courses/suggest").param("prefix", "to"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void suggestCourses_shouldRankPopularCoursesFirst() throws Exception {
+        givenCatalog(
+            new Course("IN2346","Introduction to Deep Learning","Desc",6, Set.of()),
+            new Course("IN2390","Advanced Deep Learning","Desc",8, Set.of()),
+            new Course("IN2000","Databases","Desc",5, Set.of()));
+
+        coursePopularityRanking.update(Map.of("IN2346", 12.5, "IN2000", 40.0));
+        try {
+            mvc.perform(get("/courses/suggest").param("prefix", "deep"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(2))
+               .andExpect(jsonPath("$[0].id").value("IN2346"))
+               .andExpect(jsonPath("$[1].id").value("IN2390"));
+        } finally {
+            coursePopularityRanking.update(Map.of());
+        }
+    }
+
+    @Test
+    void getAll_withFields_shouldOmitUnrequestedProperties() throws Exception {
+        givenCatalog(new Course("TST100","Test","A long description",3, Set.of(new Category("Theory"))));
+
+        mvc.perform(get("/courses").param("fields", "title,credits"))
+           .andExpect(status().isOk())
+           .andExpect(header().exists(HttpHeaders.ETAG))
+           .andExpect(jsonPath("$[0].id").value("TST100"))
+           .andExpect(jsonPath("$[0].title").value("Test"))
+           .andExpect(jsonPath("$[0].credits").value(3))
+           .andExpect(jsonPath("$[0].description").doesNotExist())
+           .andExpect(jsonPath("$[0].categories").doesNotExist());
+
+        mvc.perform(get("/courses/TST100").param("fields", "categories"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.id").value("TST100"))
+           .andExpect(jsonPath("$.categories[0].name").value("Theory"))
+           .andExpect(jsonPath("$.title").doesNotExist());
+
+        mvc.perform(get("/courses").param("ids", "TST100,NOPE").param("fields", "title"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.courses[0].title").value("Test"))
+           .andExpect(jsonPath("$.courses[0].description").doesNotExist())
+           .andExpect(jsonPath("$.missing[0]").value("NOPE"));
+
+        mvc.perform(get("/courses").param("fields", "title,syllabus"))
+           .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,143 @@
+package com.team.course_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team.course_service.dto.CourseDTO;
+import com.team.course_service.mapper.CourseMapper;
+import com.team.course_service.model.Category;
+import com.team.course_service.model.Course;
+import com.team.course_service.repository.CategoryRepository;
+import com.team.course_service.repository.CourseRepository;
+import com.team.course_service.service.CategoryService;
+import com.team.course_service.service.CourseService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards against the N+1 category load: listing the catalog must cost the same number of
+ * statements no matter how many courses there are. Repeated reads must be answered by the
+ * second-level and query cache without any statement, until a JPA write invalidates them.
+ */
+@SpringBootTest
+public class CourseQueryCountTests {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        courseRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void getAllCourseDtos_shouldIssueOneStatementRegardlessOfCatalogSize(int courseCount) {
+        seed(courseCount);
+        statistics.clear();
+
+        List<CourseDTO> courses = courseService.getAllCourseDtos();
+
+        assertThat(courses).hasSize(courseCount)
+                .allSatisfy(course -> assertThat(course.getCategories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10})
+    void getCourseById_shouldLoadCategoriesInSameStatement(int courseCount) {
+        seed(courseCount);
+        statistics.clear();
+
+        CourseDTO course = transactionTemplate.execute(status ->
+                CourseMapper.toDto(courseService.getCourseById("QC0").orElseThrow()));
+
+        assertThat(course.getCategories()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedCatalogReads_shouldIssueNoStatements() {
+        seed(10);
+        readCatalog();
+        statistics.clear();
+
+        readCatalog();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(4);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void catalogWrite_shouldInvalidateCachedQueries() {
+        seed(3);
+        readCatalog();
+        Category algorithms = categoryRepository.findById("Algorithms").orElseThrow();
+        courseRepository.save(new Course("QC9", "Course 9", "Description 9", 5, Set.of(algorithms)));
+        statistics.clear();
+
+        assertThat(courseService.getAllCourseDtos()).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /** Every cacheable catalog read: all courses, one course, prerequisites and categories. */
+    private void readCatalog() {
+        assertThat(courseService.getAllCourseDtos()).allSatisfy(course -> assertThat(course.getCategories()).hasSize(2));
+        CourseDTO course = transactionTemplate.execute(status ->
+                CourseMapper.toDto(courseService.getCourseById("QC0").orElseThrow()));
+        assertThat(course.getCategories()).hasSize(2);
+        courseService.getAllPrerequisites();
+        assertThat(categoryService.getAllCategories()).hasSize(2);
+    }
+
+    private void seed(int courseCount) {
+        Category algorithms = new Category("Algorithms");
+        Category robotics = new Category("Robotics");
+        categoryRepository.saveAll(List.of(algorithms, robotics));
+
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course("QC" + i, "Course " + i, "Description " + i, 5, Set.of(algorithms, robotics)));
+        }
+        courseRepository.saveAll(courses);
+    }
+}
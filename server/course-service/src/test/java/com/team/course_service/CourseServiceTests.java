@@ -39,27 +39,27 @@ public class CourseServiceTests {
 
     @Test
     void getAllCourses_shouldReturnListFromRepo() {
-        when(courseRepo.findAll()).thenReturn(List.of(sample));
+        when(courseRepo.findAllWithCategories()).thenReturn(List.of(sample));
         List<Course> all = courseService.getAllCourses();
         assertThat(all).containsExactly(sample);
-        verify(courseRepo).findAll();
+        verify(courseRepo).findAllWithCategories();
     }
 
     @Test
     void getCourseById_whenCourseExists_shouldReturnCourse() {
-        when(courseRepo.findById(existingCourseId)).thenReturn(Optional.of(sample));
+        when(courseRepo.findWithCategoriesById(existingCourseId)).thenReturn(Optional.of(sample));
         Optional<Course> foundCourseOptional = courseService.getCourseById(existingCourseId);
         assertThat(foundCourseOptional).isPresent();
         assertThat(foundCourseOptional.get()).isEqualTo(sample);
-        verify(courseRepo).findById(existingCourseId);
+        verify(courseRepo).findWithCategoriesById(existingCourseId);
     }
 
     @Test
     void getCourseById_whenCourseDoesNotExist_shouldReturnEmptyOptional() {
-        when(courseRepo.findById(nonExistingCourseId)).thenReturn(Optional.empty());
+        when(courseRepo.findWithCategoriesById(nonExistingCourseId)).thenReturn(Optional.empty());
         Optional<Course> foundCourseOptional = courseService.getCourseById(nonExistingCourseId);
         assertThat(foundCourseOptional).isNotPresent(); 
-        verify(courseRepo).findById(nonExistingCourseId);
+        verify(courseRepo).findWithCategoriesById(nonExistingCourseId);
     }
 
 }
@@ -0,0 +1,91 @@
+package com.team.review_service.dto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Serializes and parses a synthetic set of 1M reviews over 10k courses as JSON, CBOR and Smile,
+ * with dates written as ISO strings like the service does. The encoded size of each format is
+ * printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReviewPayloadFormatBenchmark {
+    private static final TypeReference<List<ReviewDTO>> REVIEW_LIST = new TypeReference<>() { };
+    private static final String[] WORDS = {
+            "great", "course", "lecture", "exercises", "exam", "hard", "fair", "interesting", "boring",
+            "the", "was", "and", "very", "but", "too", "much", "work", "recommend", "tutor", "slides"};
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public String format;
+
+    @Param({"1000000"})
+    public int reviews;
+
+    private ObjectMapper mapper;
+    private List<ReviewDTO> dataset;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "CBOR" -> new CBORMapper();
+            case "SMILE" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        mapper.registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        dataset = new ArrayList<>(reviews);
+        for (int i = 0; i < reviews; i++) {
+            dataset.add(new ReviewDTO(i + 1, String.format("IN%05d", random.nextInt(10_000)),
+                    String.format("%08d", random.nextInt(100_000_000)), (byte) (1 + random.nextInt(5)),
+                    words(random, 5 + random.nextInt(40)), start.plusMinutes(random.nextInt(1_000_000))));
+        }
+        encoded = mapper.writeValueAsBytes(dataset);
+        System.out.printf("%n%s: %d reviews encode to %d bytes%n", format, reviews, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(dataset);
+    }
+
+    @Benchmark
+    public List<ReviewDTO> parse() throws IOException {
+        return mapper.readValue(encoded, REVIEW_LIST);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.team.review_service.submission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.team.review_service.ReviewServiceApplication;
+import com.team.review_service.model.Review;
+import com.team.review_service.service.ReviewService;
+
+/**
+ * Time per stored review for a burst of {@value #BURST} submissions: one transaction per review through
+ * {@link ReviewService#create} against the write-behind queue, measured until the last queued review is
+ * committed. Runs on in-memory H2, where a commit is cheap; on MySQL every commit also waits for the redo log
+ * flush, so the gap from group commit is wider there.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReviewSubmissionBenchmark {
+    private static final int BURST = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ReviewService reviewService;
+    private ReviewWriteBehindService writeBehindService;
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ReviewServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:submission-bench;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN")
+                .run();
+        reviewService = context.getBean(ReviewService.class);
+        writeBehindService = context.getBean(ReviewWriteBehindService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void synchronous() {
+        for (int i = 0; i < BURST; i++) {
+            reviewService.create(review());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void writeBehind() {
+        ReviewSubmission last = null;
+        for (int i = 0; i < BURST; i++) {
+            last = writeBehindService.submit(review()).orElseThrow();
+        }
+        // The single writer completes submissions in order
+        while (last.getStatus() == SubmissionStatus.QUEUED) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+
+    private Review review() {
+        int n = sequence++;
+        Review review = new Review();
+        review.setCourseId("IN" + (1000 + n % 50));
+        review.setStudentMatrNr("%08d".formatted(n % 100_000));
+        review.setRating((byte) (n % 6));
+        review.setReviewText("Benchmark review " + n);
+        return review;
+    }
+}
@@ -0,0 +1,145 @@
+package com.team.review_service.bulkimport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.team.review_service.dto.ReviewDTO;
+import com.team.review_service.dto.ReviewImportErrorDTO;
+import com.team.review_service.dto.ReviewImportResultDTO;
+import com.team.review_service.mapper.ReviewMapper;
+import com.team.review_service.model.CourseRatingStats;
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.ReviewBatchWriter;
+
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Imports reviews from a streamed JSON array or NDJSON body. Reviews are parsed and validated one at a time;
+ * invalid ones are reported with their position and skipped. Valid reviews are written in batches of
+ * {@code review.import.batch-size} by the {@link ReviewBatchWriter}, each batch in its own transaction.
+ */
+@Service
+public class ReviewImportService {
+    static final int MAX_COURSE_ID_LENGTH = 10;
+    static final int MAX_STUDENT_MATR_NR_LENGTH = 8;
+
+    private final ReviewBatchWriter batchWriter;
+    private final ObjectReader reader;
+    private final int batchSize;
+
+    public ReviewImportService(ReviewBatchWriter batchWriter, ObjectMapper objectMapper,
+                               @Value("${review.import.batch-size:1000}") int batchSize) {
+        this.batchWriter = batchWriter;
+        this.reader = objectMapper.readerFor(ReviewDTO.class);
+        this.batchSize = batchSize;
+    }
+
+    public ReviewImportResultDTO importReviews(InputStream body) {
+        List<ReviewImportErrorDTO> errors = new ArrayList<>();
+        List<Review> batch = new ArrayList<>(batchSize);
+        List<Integer> positions = new ArrayList<>(batchSize);
+        int received = 0;
+        int imported = 0;
+        boolean completed = true;
+        try (MappingIterator<ReviewDTO> records = reader.readValues(body)) {
+            while (records.hasNextValue()) {
+                int index = received++;
+                ReviewDTO record;
+                try {
+                    record = records.nextValue();
+                } catch (JsonMappingException e) {
+                    // Well-formed but not a review, e.g. a rating that is no number; the iterator skips past it
+                    errors.add(new ReviewImportErrorDTO(index, "Invalid review: " + e.getOriginalMessage()));
+                    continue;
+                }
+                String problem = validate(record);
+                if (problem != null) {
+                    errors.add(new ReviewImportErrorDTO(index, problem));
+                    continue;
+                }
+                Review review = ReviewMapper.toEntity(record);
+                review.setReviewId(null);
+                batch.add(review);
+                positions.add(index);
+                if (batch.size() == batchSize) {
+                    imported += flush(batch, positions, errors);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Broken JSON cannot be resynchronized; the reviews read so far are still imported
+            JsonLocation location = e.getLocation();
+            String where = location == null ? "" : " at line " + location.getLineNr();
+            errors.add(new ReviewImportErrorDTO(received, "Malformed body" + where + ": " + e.getOriginalMessage()));
+            completed = false;
+        } catch (IOException e) {
+            errors.add(new ReviewImportErrorDTO(received, "Could not read import body: " + e.getMessage()));
+            completed = false;
+        }
+        imported += flush(batch, positions, errors);
+        errors.sort(Comparator.comparingInt(ReviewImportErrorDTO::getIndex));
+        return new ReviewImportResultDTO(received, imported, completed, errors);
+    }
+
+    /** Persists the batch and its rating stats in one transaction; returns how many reviews were imported. */
+    private int flush(List<Review> batch, List<Integer> positions, List<ReviewImportErrorDTO> errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            batchWriter.insert(batch);
+            return batch.size();
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            String message = "Batch rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (int position : positions) {
+                errors.add(new ReviewImportErrorDTO(position, message));
+            }
+            return 0;
+        } finally {
+            batch.clear();
+            positions.clear();
+        }
+    }
+
+    /** Returns why the review cannot be imported, or null if it can. */
+    private static String validate(ReviewDTO record) {
+        if (record == null) {
+            return "review must be an object";
+        }
+        if (record.getCourseId() != null) {
+            record.setCourseId(record.getCourseId().trim());
+        }
+        if (record.getStudentMatrNr() != null) {
+            record.setStudentMatrNr(record.getStudentMatrNr().trim());
+        }
+        if (isBlank(record.getCourseId()) || record.getCourseId().length() > MAX_COURSE_ID_LENGTH) {
+            return "courseId must be 1 to " + MAX_COURSE_ID_LENGTH + " characters";
+        } else if (isBlank(record.getStudentMatrNr()) || record.getStudentMatrNr().length() > MAX_STUDENT_MATR_NR_LENGTH) {
+            return "studentMatrNr must be 1 to " + MAX_STUDENT_MATR_NR_LENGTH + " characters";
+        } else if (record.getRating() == null || record.getRating() < CourseRatingStats.MIN_RATING
+                || record.getRating() > CourseRatingStats.MAX_RATING) {
+            return "rating must be between " + CourseRatingStats.MIN_RATING + " and " + CourseRatingStats.MAX_RATING;
+        } else if (record.getReviewText() == null) {
+            return "reviewText is required";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
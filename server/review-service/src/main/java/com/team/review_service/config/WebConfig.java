@@ -22,6 +22,7 @@ public class WebConfig implements WebMvcConfigurer {
                         "https://k83-client-app.student.k8s.aet.cit.tum.de")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("Authorization", "Content-Type")
+                .exposedHeaders("X-Next-Cursor") // Readable by the frontend
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,78 @@
+package com.team.review_service.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.review_service.dto.RatingSeriesPointDTO;
+import com.team.review_service.dto.TrendingCourseDTO;
+import com.team.review_service.model.RollupGranularity;
+import com.team.review_service.service.RatingTrendService;
+
+@RestController
+public class RatingTrendController {
+    static final int DEFAULT_SERIES_POINTS = 30;
+    static final int MAX_SERIES_POINTS = 366;
+    static final int DEFAULT_TRENDING_DAYS = 30;
+    static final int MAX_TRENDING_DAYS = 365;
+    static final int DEFAULT_TRENDING_LIMIT = 10;
+    static final int MAX_TRENDING_LIMIT = 100;
+
+    private final RatingTrendService ratingTrendService;
+
+    public RatingTrendController(RatingTrendService ratingTrendService) {
+        this.ratingTrendService = ratingTrendService;
+    }
+
+    /**
+     * Review count and average rating of the course per {@code day} or {@code week} (starting Monday), from
+     * {@code from} to {@code to} (ISO dates, both included); by default the last {@value #DEFAULT_SERIES_POINTS}
+     * buckets up to today. At most {@value #MAX_SERIES_POINTS} buckets.
+     */
+    @GetMapping("/courses/{courseId}/rating-series")
+    public ResponseEntity<List<RatingSeriesPointDTO>> getRatingSeries(
+            @PathVariable String courseId,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        RollupGranularity bucket;
+        try {
+            bucket = RollupGranularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from;
+        if (start == null) {
+            start = end;
+            for (int i = 1; i < DEFAULT_SERIES_POINTS; i++) {
+                start = bucket.bucketStart(start).minusDays(1);
+            }
+        }
+        if (start.isAfter(end) || bucket.bucketsBetween(start, end) > MAX_SERIES_POINTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(ratingTrendService.getSeries(courseId, bucket, start, end));
+    }
+
+    /**
+     * The {@code limit} courses whose reviews of the last {@code days} days score highest, most recent reviews
+     * weighing most.
+     */
+    @GetMapping("/courses/trending")
+    public ResponseEntity<List<TrendingCourseDTO>> getTrendingCourses(
+            @RequestParam(defaultValue = "" + DEFAULT_TRENDING_DAYS) int days,
+            @RequestParam(defaultValue = "" + DEFAULT_TRENDING_LIMIT) int limit) {
+        if (days < 1 || days > MAX_TRENDING_DAYS || limit < 1 || limit > MAX_TRENDING_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(ratingTrendService.getTrending(LocalDate.now(), days, limit));
+    }
+}
@@ -1,35 +1,78 @@
 package com.team.review_service.controller;
 
 import java.net.URI;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.team.review_service.dto.RatingDistributionDTO;
+import com.team.review_service.dto.RatingStatsDTO;
+import com.team.review_service.dto.ReviewCursor;
 import com.team.review_service.dto.ReviewDTO;
+import com.team.review_service.dto.ReviewPage;
+import com.team.review_service.dto.ReviewSubmissionDTO;
+import com.team.review_service.mapper.RatingDistributionMapper;
+import com.team.review_service.mapper.RatingStatsMapper;
 import com.team.review_service.mapper.ReviewMapper;
+import com.team.review_service.mapper.ReviewSubmissionMapper;
 import com.team.review_service.model.Review;
+import com.team.review_service.service.ReviewExportService;
 import com.team.review_service.service.ReviewService;
+import com.team.review_service.submission.ReviewSubmission;
+import com.team.review_service.submission.ReviewWriteBehindService;
 
 
 import java.util.Optional;
 
 @RestController
 public class ReviewController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 100;
+    static final String RESPOND_ASYNC = "respond-async";
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    static final String QUEUE_FULL_RETRY_AFTER_SECONDS = "1";
+
     private final ReviewService reviewService;
+    private final ReviewExportService reviewExportService;
+    private final ReviewWriteBehindService writeBehindService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, ReviewExportService reviewExportService,
+                            ReviewWriteBehindService writeBehindService) {
         this.reviewService = reviewService;
+        this.reviewExportService = reviewExportService;
+        this.writeBehindService = writeBehindService;
     }
 
+    /**
+     * Creates the review and answers 201 once it is stored. With {@code Prefer: respond-async} the review is only
+     * validated and queued: the answer is 202 with a tracking ID whose status is at the {@code Location}, or 429 if
+     * the write queue is full.
+     */
     @PostMapping("/reviews")
-    public ResponseEntity<ReviewDTO> createReview(@RequestBody ReviewDTO reviewDto) {
+    public ResponseEntity<?> createReview(@RequestBody ReviewDTO reviewDto,
+                                          @RequestHeader(value = "Prefer", required = false) List<String> prefer) {
+        if (prefersAsync(prefer)) {
+            return submitReview(ReviewMapper.toEntity(reviewDto));
+        }
         Optional<Review> created = reviewService.create(ReviewMapper.toEntity(reviewDto));
         if (created.isPresent()) {
             URI location = ServletUriComponentsBuilder
@@ -44,14 +87,30 @@ public class ReviewController {
         }
     }
 
+    /**
+     * One keyset page of reviews in (created_at, review_id) order, the first one unless {@code after} is given, of
+     * {@code limit} reviews or {@value #DEFAULT_PAGE_SIZE} by default; the cursor of the next page is in the
+     * {@value #NEXT_CURSOR_HEADER} header. Same for the course and student lists. With
+     * {@code Accept: application/x-ndjson} all matching reviews are streamed instead.
+     */
     @GetMapping("/reviews")
-    public ResponseEntity<List<ReviewDTO>> getAllReviews() {
-        List<Review> reviews = reviewService.getAllReviews();
-        List<ReviewDTO> dtos   = ReviewMapper.toDtoList(reviews);
-        if (dtos.isEmpty()) {
-            return ResponseEntity.noContent().build();
-        }
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<List<ReviewDTO>> getAllReviews(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return getReviewPage(null, null, after, limit);
+    }
+
+    @GetMapping(value = "/reviews", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllReviews() {
+        return streamReviews(null, null);
+    }
+
+    @GetMapping("/reviews/submissions/{trackingId}")
+    public ResponseEntity<ReviewSubmissionDTO> getSubmission(@PathVariable UUID trackingId) {
+        return writeBehindService.getSubmission(trackingId)
+                .map(ReviewSubmissionMapper::toDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/reviews/{reviewId}")
@@ -63,21 +122,29 @@ public class ReviewController {
     }
 
     @GetMapping("/courses/{courseId}/reviews")
-    public ResponseEntity<List<ReviewDTO>> getReviewsByCourseId(@PathVariable String courseId) {
-        List<ReviewDTO> reviews = reviewService.getReviewsByCourseId(courseId)
-                .stream()
-                .map(ReviewMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<List<ReviewDTO>> getReviewsByCourseId(
+            @PathVariable String courseId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return getReviewPage(courseId, null, after, limit);
+    }
+
+    @GetMapping(value = "/courses/{courseId}/reviews", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReviewsByCourseId(@PathVariable String courseId) {
+        return streamReviews(courseId, null);
     }
 
     @GetMapping("/students/{studentMatrNr}/reviews")
-    public ResponseEntity<List<ReviewDTO>> getReviewsByStudentMatrNr(@PathVariable String studentMatrNr) {
-        List<ReviewDTO> reviews = reviewService.getReviewsByStudentMatrNr(studentMatrNr)
-                .stream()
-                .map(ReviewMapper::toDto)
-                .toList();
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<List<ReviewDTO>> getReviewsByStudentMatrNr(
+            @PathVariable String studentMatrNr,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return getReviewPage(null, studentMatrNr, after, limit);
+    }
+
+    @GetMapping(value = "/students/{studentMatrNr}/reviews", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReviewsByStudentMatrNr(@PathVariable String studentMatrNr) {
+        return streamReviews(null, studentMatrNr);
     }
 
     @GetMapping("/courses/{courseId}/average-rating")
@@ -87,9 +154,113 @@ public class ReviewController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/courses/{courseId}/rating-stats")
+    public ResponseEntity<RatingStatsDTO> getRatingStatsByCourseId(@PathVariable String courseId) {
+        return reviewService.getRatingStats(courseId)
+                .map(RatingStatsMapper::toDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Histogram, median, percentiles and 95% intervals of the course's ratings, computed from its rating stats row
+     * without reading any review; 404 if the course has no reviews.
+     */
+    @GetMapping("/courses/{courseId}/rating-distribution")
+    public ResponseEntity<RatingDistributionDTO> getRatingDistributionByCourseId(@PathVariable String courseId) {
+        return reviewService.getRatingStats(courseId)
+                .map(RatingDistributionMapper::toDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Rating stats of up to {@link #MAX_BATCH_SIZE} courses (comma-separated or repeated {@code ids}),
+     * so a catalog page needs one request instead of one per course card.
+     */
+    @GetMapping("/courses/rating-stats")
+    public ResponseEntity<List<RatingStatsDTO>> getRatingStatsByCourseIds(@RequestParam List<String> ids) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (!id.isBlank()) {
+                requested.add(id.trim());
+            }
+        }
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<RatingStatsDTO> stats = reviewService.getRatingStats(List.copyOf(requested))
+                .stream()
+                .map(RatingStatsMapper::toDto)
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/courses/average-ratings")
+    public ResponseEntity<Map<String, Double>> getAverageRatings() {
+        return ResponseEntity.ok(reviewService.getAverageRatings());
+    }
+
     @DeleteMapping("/reviews/{reviewId}")
     public ResponseEntity<Void> deleteReview(@PathVariable Integer reviewId) {
         reviewService.deleteReview(reviewId);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<ReviewSubmissionDTO> submitReview(Review review) {
+        if (!ReviewService.isValid(review)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ReviewSubmission> submission = writeBehindService.submit(review);
+        if (submission.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, QUEUE_FULL_RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/submissions/{id}")
+                .buildAndExpand(submission.get().getTrackingId())
+                .toUri();
+        return ResponseEntity.accepted()
+                .location(location)
+                .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                .body(ReviewSubmissionMapper.toDto(submission.get()));
+    }
+
+    /** Whether a {@code Prefer} header asks for {@value #RESPOND_ASYNC} (RFC 7240). */
+    private static boolean prefersAsync(List<String> prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String header : prefer) {
+            for (String preference : header.split(",")) {
+                String token = preference.split(";", 2)[0].trim();
+                if (token.equalsIgnoreCase(RESPOND_ASYNC)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private ResponseEntity<List<ReviewDTO>> getReviewPage(String courseId, String studentMatrNr, String after, Integer limit) {
+        Optional<ReviewCursor> cursor = after == null ? Optional.empty() : ReviewCursor.parse(after);
+        if ((after != null && cursor.isEmpty()) || (limit != null && limit < 1)) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        ReviewPage page = reviewService.getReviewPage(courseId, studentMatrNr, cursor.orElse(null), pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /** Every matching review as one NDJSON line, written while the rows are read. */
+    private ResponseEntity<StreamingResponseBody> streamReviews(String courseId, String studentMatrNr) {
+        StreamingResponseBody body = out -> reviewExportService.writeNdjson(courseId, studentMatrNr, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
@@ -0,0 +1,31 @@
+package com.team.review_service.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.team.review_service.bulkimport.ReviewImportService;
+import com.team.review_service.dto.ReviewImportResultDTO;
+
+@RestController
+@RequestMapping("/admin/reviews")
+public class ReviewImportController {
+    private final ReviewImportService reviewImportService;
+
+    public ReviewImportController(ReviewImportService reviewImportService) {
+        this.reviewImportService = reviewImportService;
+    }
+
+    /**
+     * Imports the reviews of a JSON array or NDJSON body, e.g. legacy reviews with their original
+     * {@code createdAt}. Review IDs in the body are ignored. Invalid reviews are skipped and listed in the result;
+     * a body that stops being valid JSON is imported up to that point.
+     */
+    @PostMapping(value = "/import", consumes = {"application/json", "application/x-ndjson"})
+    public ResponseEntity<ReviewImportResultDTO> importReviews(InputStream body) {
+        return ResponseEntity.ok(reviewImportService.importReviews(body));
+    }
+}
@@ -0,0 +1,30 @@
+package com.team.review_service.dto;
+
+public class ConfidenceIntervalDTO {
+    private double lower;
+    private double upper;
+
+    public ConfidenceIntervalDTO() {
+    }
+
+    public ConfidenceIntervalDTO(double lower, double upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public void setLower(double lower) {
+        this.lower = lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    public void setUpper(double upper) {
+        this.upper = upper;
+    }
+}
@@ -0,0 +1,126 @@
+package com.team.review_service.dto;
+
+import java.util.Map;
+
+/**
+ * Rating distribution of a course with at least one review. Intervals are at {@code confidenceLevel}.
+ */
+public class RatingDistributionDTO {
+    private String courseId;
+    private long reviewCount;
+    private Map<Integer, Long> histogram;
+    private double averageRating;
+    private double standardDeviation;
+    private double median;
+    private Map<Integer, Integer> percentiles;
+    private double positiveShare;
+    private ConfidenceIntervalDTO positiveShareInterval;
+    private double bayesianAverage;
+    private ConfidenceIntervalDTO bayesianAverageInterval;
+    private double confidenceLevel;
+
+    public RatingDistributionDTO() {
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    /** Number of reviews per rating, for every rating from 0 to 5. */
+    public Map<Integer, Long> getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(Map<Integer, Long> histogram) {
+        this.histogram = histogram;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public void setStandardDeviation(double standardDeviation) {
+        this.standardDeviation = standardDeviation;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public void setMedian(double median) {
+        this.median = median;
+    }
+
+    /** Nearest-rank percentile ratings, keyed by percent. */
+    public Map<Integer, Integer> getPercentiles() {
+        return percentiles;
+    }
+
+    public void setPercentiles(Map<Integer, Integer> percentiles) {
+        this.percentiles = percentiles;
+    }
+
+    /** Share of reviews with 4 or 5 stars. */
+    public double getPositiveShare() {
+        return positiveShare;
+    }
+
+    public void setPositiveShare(double positiveShare) {
+        this.positiveShare = positiveShare;
+    }
+
+    /** Wilson score interval of {@link #getPositiveShare()}; its lower bound is a ranking score robust to few reviews. */
+    public ConfidenceIntervalDTO getPositiveShareInterval() {
+        return positiveShareInterval;
+    }
+
+    public void setPositiveShareInterval(ConfidenceIntervalDTO positiveShareInterval) {
+        this.positiveShareInterval = positiveShareInterval;
+    }
+
+    /** Average rating with one pseudo-review per rating added, pulling small samples towards 2.5. */
+    public double getBayesianAverage() {
+        return bayesianAverage;
+    }
+
+    public void setBayesianAverage(double bayesianAverage) {
+        this.bayesianAverage = bayesianAverage;
+    }
+
+    /** Credible interval of the average rating around {@link #getBayesianAverage()}. */
+    public ConfidenceIntervalDTO getBayesianAverageInterval() {
+        return bayesianAverageInterval;
+    }
+
+    public void setBayesianAverageInterval(ConfidenceIntervalDTO bayesianAverageInterval) {
+        this.bayesianAverageInterval = bayesianAverageInterval;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    public void setConfidenceLevel(double confidenceLevel) {
+        this.confidenceLevel = confidenceLevel;
+    }
+}
@@ -0,0 +1,44 @@
+package com.team.review_service.dto;
+
+import java.time.LocalDate;
+
+/** Reviews of one course created in the day or week starting at {@code bucketStart}. */
+public class RatingSeriesPointDTO {
+    private LocalDate bucketStart;
+    private long reviewCount;
+    private Double averageRating;
+
+    public RatingSeriesPointDTO() {
+    }
+
+    public RatingSeriesPointDTO(LocalDate bucketStart, long reviewCount, Double averageRating) {
+        this.bucketStart = bucketStart;
+        this.reviewCount = reviewCount;
+        this.averageRating = averageRating;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDate bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    /** Mean rating of the bucket's reviews, or null if it has none. */
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+}
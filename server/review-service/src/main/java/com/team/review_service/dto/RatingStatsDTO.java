@@ -0,0 +1,54 @@
+package com.team.review_service.dto;
+
+import java.util.Map;
+
+public class RatingStatsDTO {
+    private String courseId;
+    private long reviewCount;
+    private Double averageRating;
+    private Map<Integer, Long> histogram;
+
+    public RatingStatsDTO() {
+    }
+
+    public RatingStatsDTO(String courseId, long reviewCount, Double averageRating, Map<Integer, Long> histogram) {
+        this.courseId = courseId;
+        this.reviewCount = reviewCount;
+        this.averageRating = averageRating;
+        this.histogram = histogram;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    /** Mean rating, or null if the course has no reviews. */
+    public Double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(Double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    /** Number of reviews per rating, for every rating from 0 to 5. */
+    public Map<Integer, Long> getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(Map<Integer, Long> histogram) {
+        this.histogram = histogram;
+    }
+}
@@ -0,0 +1,54 @@
+package com.team.review_service.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import com.team.review_service.model.Review;
+
+/**
+ * Position in the (created_at, review_id) order of reviews. Clients see it as an opaque URL-safe
+ * token; the next page starts with the first review sorted after it.
+ */
+public class ReviewCursor {
+    private final LocalDateTime createdAt;
+    private final int reviewId;
+
+    public ReviewCursor(LocalDateTime createdAt, int reviewId) {
+        this.createdAt = createdAt;
+        this.reviewId = reviewId;
+    }
+
+    public static ReviewCursor of(Review review) {
+        return new ReviewCursor(review.getCreatedAt(), review.getReviewId());
+    }
+
+    /** Decodes a token returned by {@link #encode()}; empty if it is not one. */
+    public static Optional<ReviewCursor> parse(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(new ReviewCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.parseInt(decoded.substring(separator + 1))));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String encode() {
+        String plain = createdAt + "_" + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getReviewId() {
+        return reviewId;
+    }
+}
@@ -0,0 +1,22 @@
+package com.team.review_service.dto;
+
+/**
+ * Why the review at {@code index} (0-based position in the import body) was not imported.
+ */
+public class ReviewImportErrorDTO {
+    private int index;
+    private String message;
+
+    public ReviewImportErrorDTO() { }
+
+    public ReviewImportErrorDTO(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
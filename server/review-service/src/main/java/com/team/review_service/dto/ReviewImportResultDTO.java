@@ -0,0 +1,37 @@
+package com.team.review_service.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many reviews were read, imported and rejected, with the reason for each
+ * rejected one. {@code completed} is false if the body became unreadable and the rest of it was skipped.
+ */
+public class ReviewImportResultDTO {
+    private int received;
+    private int imported;
+    private boolean completed;
+    private List<ReviewImportErrorDTO> errors;
+
+    public ReviewImportResultDTO() { }
+
+    public ReviewImportResultDTO(int received, int imported, boolean completed, List<ReviewImportErrorDTO> errors) {
+        this.received = received;
+        this.imported = imported;
+        this.completed = completed;
+        this.errors = errors;
+    }
+
+    public int getReceived() { return received; }
+    public void setReceived(int received) { this.received = received; }
+
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+
+    public int getRejected() { return received - imported; }
+
+    public boolean isCompleted() { return completed; }
+    public void setCompleted(boolean completed) { this.completed = completed; }
+
+    public List<ReviewImportErrorDTO> getErrors() { return errors; }
+    public void setErrors(List<ReviewImportErrorDTO> errors) { this.errors = errors; }
+}
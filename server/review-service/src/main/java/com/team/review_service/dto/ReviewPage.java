@@ -0,0 +1,25 @@
+package com.team.review_service.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of reviews in (created_at, review_id) order. {@code nextCursor} is the token to
+ * pass as {@code after} for the following page, or {@code null} on the last page.
+ */
+public class ReviewPage {
+    private List<ReviewDTO> items;
+    private String nextCursor;
+
+    public ReviewPage() { }
+
+    public ReviewPage(List<ReviewDTO> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ReviewDTO> getItems() { return items; }
+    public void setItems(List<ReviewDTO> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
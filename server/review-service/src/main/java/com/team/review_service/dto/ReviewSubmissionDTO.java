@@ -0,0 +1,37 @@
+package com.team.review_service.dto;
+
+import java.util.UUID;
+
+import com.team.review_service.submission.SubmissionStatus;
+
+/**
+ * State of a review submitted with {@code Prefer: respond-async}. {@code reviewId} is set once the review is
+ * written, {@code error} if writing it failed.
+ */
+public class ReviewSubmissionDTO {
+    private UUID trackingId;
+    private SubmissionStatus status;
+    private Integer reviewId;
+    private String error;
+
+    public ReviewSubmissionDTO() { }
+
+    public ReviewSubmissionDTO(UUID trackingId, SubmissionStatus status, Integer reviewId, String error) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.reviewId = reviewId;
+        this.error = error;
+    }
+
+    public UUID getTrackingId() { return trackingId; }
+    public void setTrackingId(UUID trackingId) { this.trackingId = trackingId; }
+
+    public SubmissionStatus getStatus() { return status; }
+    public void setStatus(SubmissionStatus status) { this.status = status; }
+
+    public Integer getReviewId() { return reviewId; }
+    public void setReviewId(Integer reviewId) { this.reviewId = reviewId; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
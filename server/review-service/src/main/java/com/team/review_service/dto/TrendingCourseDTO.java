@@ -0,0 +1,52 @@
+package com.team.review_service.dto;
+
+/** A course ranked by its recent reviews; the counts cover the requested window only. */
+public class TrendingCourseDTO {
+    private String courseId;
+    private double score;
+    private long reviewCount;
+    private double averageRating;
+
+    public TrendingCourseDTO() {
+    }
+
+    public TrendingCourseDTO(String courseId, double score, long reviewCount, double averageRating) {
+        this.courseId = courseId;
+        this.score = score;
+        this.reviewCount = reviewCount;
+        this.averageRating = averageRating;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+
+    /** Reviews in the window, each weighted by half for every half-life of age. */
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(double averageRating) {
+        this.averageRating = averageRating;
+    }
+}
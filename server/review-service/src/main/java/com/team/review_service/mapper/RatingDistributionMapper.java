@@ -0,0 +1,50 @@
+package com.team.review_service.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.team.review_service.dto.ConfidenceIntervalDTO;
+import com.team.review_service.dto.RatingDistributionDTO;
+import com.team.review_service.model.CourseRatingStats;
+import com.team.review_service.stats.RatingDistribution;
+
+public class RatingDistributionMapper {
+    static final int[] PERCENTILES = {10, 25, 50, 75, 90};
+    static final double CONFIDENCE_LEVEL = 0.95;
+
+    /** The distribution of the stats, which must count at least one review. */
+    public static RatingDistributionDTO toDto(CourseRatingStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        RatingDistribution distribution = new RatingDistribution(stats.getHistogram());
+        long[] counts = distribution.getHistogram();
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int stars = CourseRatingStats.MIN_RATING; stars <= CourseRatingStats.MAX_RATING; stars++) {
+            histogram.put(stars, counts[stars]);
+        }
+        Map<Integer, Integer> percentiles = new LinkedHashMap<>();
+        for (int percent : PERCENTILES) {
+            percentiles.put(percent, distribution.percentile(percent));
+        }
+
+        RatingDistributionDTO dto = new RatingDistributionDTO();
+        dto.setCourseId(stats.getCourseId());
+        dto.setReviewCount(distribution.getCount());
+        dto.setHistogram(histogram);
+        dto.setAverageRating(distribution.mean());
+        dto.setStandardDeviation(distribution.standardDeviation());
+        dto.setMedian(distribution.median());
+        dto.setPercentiles(percentiles);
+        dto.setPositiveShare(distribution.positiveShare());
+        dto.setPositiveShareInterval(toDto(distribution.wilsonInterval(RatingDistribution.Z_95)));
+        dto.setBayesianAverage(distribution.bayesianMean());
+        dto.setBayesianAverageInterval(toDto(distribution.bayesianInterval(RatingDistribution.Z_95)));
+        dto.setConfidenceLevel(CONFIDENCE_LEVEL);
+        return dto;
+    }
+
+    private static ConfidenceIntervalDTO toDto(RatingDistribution.Interval interval) {
+        return new ConfidenceIntervalDTO(interval.lower(), interval.upper());
+    }
+}
@@ -0,0 +1,23 @@
+package com.team.review_service.mapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.team.review_service.dto.RatingStatsDTO;
+import com.team.review_service.model.CourseRatingStats;
+
+public class RatingStatsMapper {
+
+    public static RatingStatsDTO toDto(CourseRatingStats stats) {
+        if (stats == null) {
+            return null;
+        }
+        long[] counts = stats.getHistogram();
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int stars = CourseRatingStats.MIN_RATING; stars <= CourseRatingStats.MAX_RATING; stars++) {
+            histogram.put(stars, counts[stars]);
+        }
+        Double average = stats.getReviewCount() == 0 ? null : (double) stats.getRatingSum() / stats.getReviewCount();
+        return new RatingStatsDTO(stats.getCourseId(), stats.getReviewCount(), average, histogram);
+    }
+}
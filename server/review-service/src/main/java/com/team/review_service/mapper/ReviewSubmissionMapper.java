@@ -0,0 +1,16 @@
+package com.team.review_service.mapper;
+
+import com.team.review_service.dto.ReviewSubmissionDTO;
+import com.team.review_service.submission.ReviewSubmission;
+
+public class ReviewSubmissionMapper {
+
+    public static ReviewSubmissionDTO toDto(ReviewSubmission submission) {
+        if (submission == null) {
+            return null;
+        }
+        // Read the status first: the review ID and error are set before it changes
+        var status = submission.getStatus();
+        return new ReviewSubmissionDTO(submission.getTrackingId(), status, submission.getReviewId(), submission.getError());
+    }
+}
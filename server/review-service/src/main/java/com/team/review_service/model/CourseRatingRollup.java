@@ -0,0 +1,124 @@
+package com.team.review_service.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Number and rating sum of the reviews a course received in one day or week, by {@code created_at}. Like
+ * {@link CourseRatingStats} it is written only by {@code CourseRatingRollupWriter}, with relative SQL updates in
+ * the transaction of each review insert and delete, so time series and trends never scan {@code reviews}.
+ */
+@Entity
+@IdClass(CourseRatingRollup.Key.class)
+@Table(name = "course_rating_rollup",
+       indexes = @Index(name = "idx_granularity_bucket", columnList = "granularity, bucket_start"))
+public class CourseRatingRollup {
+    @Id
+    @Column(name = "course_id", length = 10)
+    private String courseId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 5)
+    private RollupGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    public CourseRatingRollup() {
+    }
+
+    public CourseRatingRollup(Key key, long reviewCount, long ratingSum) {
+        this.courseId = key.courseId;
+        this.granularity = key.granularity;
+        this.bucketStart = key.bucketStart;
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+    public long getReviewCount() {
+        return reviewCount;
+    }
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    /** Primary key; ordered by course, granularity and bucket, which is also the order rows are locked in. */
+    public static class Key implements Serializable, Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing((Key key) -> key.courseId)
+                .thenComparing(key -> key.granularity)
+                .thenComparing(key -> key.bucketStart);
+
+        private String courseId;
+        private RollupGranularity granularity;
+        private LocalDate bucketStart;
+
+        public Key() {
+        }
+
+        public Key(String courseId, RollupGranularity granularity, LocalDate bucketStart) {
+            this.courseId = courseId;
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+
+        public String getCourseId() {
+            return courseId;
+        }
+        public RollupGranularity getGranularity() {
+            return granularity;
+        }
+        public LocalDate getBucketStart() {
+            return bucketStart;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return courseId.equals(other.courseId) && granularity == other.granularity
+                    && bucketStart.equals(other.bucketStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, granularity, bucketStart);
+        }
+    }
+}
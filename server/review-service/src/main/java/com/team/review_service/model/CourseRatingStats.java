@@ -0,0 +1,81 @@
+package com.team.review_service.model;
+
+import java.util.Arrays;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Rating aggregates of one course: number of reviews, sum of their ratings and how many reviews gave each
+ * number of stars. Written only by {@code CourseRatingStatsWriter}, with relative SQL updates, so that
+ * concurrent reviews of the same course never overwrite each other's contribution.
+ */
+@Entity
+@Table(name = "course_rating_stats")
+public class CourseRatingStats {
+    public static final int MIN_RATING = 0;
+    public static final int MAX_RATING = 5;
+
+    @Id
+    @Column(name = "course_id", length = 10)
+    private String courseId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "stars_0", nullable = false)
+    private long stars0;
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    public CourseRatingStats() {
+    }
+
+    public CourseRatingStats(String courseId, long[] histogram) {
+        this.courseId = courseId;
+        this.stars0 = histogram[0];
+        this.stars1 = histogram[1];
+        this.stars2 = histogram[2];
+        this.stars3 = histogram[3];
+        this.stars4 = histogram[4];
+        this.stars5 = histogram[5];
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            reviewCount += histogram[stars];
+            ratingSum += stars * histogram[stars];
+        }
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+    public long getReviewCount() {
+        return reviewCount;
+    }
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    /** Number of reviews per rating, indexed by the rating. */
+    public long[] getHistogram() {
+        return new long[] {stars0, stars1, stars2, stars3, stars4, stars5};
+    }
+
+    /** Whether both hold the same counts. */
+    public boolean hasSameCounts(CourseRatingStats other) {
+        return reviewCount == other.reviewCount && ratingSum == other.ratingSum
+                && Arrays.equals(getHistogram(), other.getHistogram());
+    }
+}
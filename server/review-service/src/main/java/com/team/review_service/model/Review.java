@@ -1,23 +1,28 @@
 package com.team.review_service.model;
 
 import java.time.LocalDateTime;
-
-import org.hibernate.annotations.CreationTimestamp;
+import java.time.temporal.ChronoUnit;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 @Entity
 @Table(name = "reviews")
 public class Review {
+    // IDs are reserved 50 at a time from a pooled table generator, so Hibernate can batch inserts
+    // (IDENTITY would need one round trip per row to learn the generated key)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id")
+    @TableGenerator(name = "review_id", table = "id_generator", pkColumnName = "name", valueColumnName = "next_val",
+            pkColumnValue = "reviews", allocationSize = 50)
     @Column(name = "review_id")
     private Integer reviewId;
 
@@ -35,10 +40,20 @@ public class Review {
     @Column(name = "review_text", columnDefinition = "TEXT")
     private String reviewText;
 
-    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Stamps new reviews with the current time unless they bring their own, like imported legacy reviews.
+     * {@code created_at} only keeps whole seconds and MySQL rounds the rest, which could move a review stamped
+     * just before midnight to the next day; truncating first keeps the stored value equal to the one the rollup
+     * buckets are computed from.
+     */
+    @PrePersist
+    void onCreate() {
+        createdAt = (createdAt == null ? LocalDateTime.now() : createdAt).truncatedTo(ChronoUnit.SECONDS);
+    }
+
     public Integer getReviewId() {
         return reviewId;
     }
@@ -0,0 +1,27 @@
+package com.team.review_service.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.team.review_service.model.CourseRatingRollup;
+import com.team.review_service.model.RollupGranularity;
+
+public interface CourseRatingRollupRepository extends JpaRepository<CourseRatingRollup, CourseRatingRollup.Key> {
+
+    /** Non-empty buckets of one course from {@code from} to {@code to}, both included, oldest first. */
+    @Query("SELECT r FROM CourseRatingRollup r WHERE r.courseId = :courseId AND r.granularity = :granularity "
+            + "AND r.bucketStart BETWEEN :from AND :to AND r.reviewCount > 0 ORDER BY r.bucketStart")
+    List<CourseRatingRollup> findSeries(@Param("courseId") String courseId,
+                                        @Param("granularity") RollupGranularity granularity,
+                                        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** Non-empty buckets of every course starting on or after {@code from}. */
+    @Query("SELECT r FROM CourseRatingRollup r WHERE r.granularity = :granularity AND r.bucketStart >= :from "
+            + "AND r.reviewCount > 0")
+    List<CourseRatingRollup> findAllSince(@Param("granularity") RollupGranularity granularity,
+                                          @Param("from") LocalDate from);
+}
@@ -0,0 +1,80 @@
+package com.team.review_service.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.team.review_service.model.CourseRatingRollup;
+import com.team.review_service.model.Review;
+import com.team.review_service.model.RollupGranularity;
+
+/**
+ * Maintains {@code course_rating_rollup} in the caller's transaction, the same way {@link CourseRatingStatsWriter}
+ * maintains the stats: a native upsert adds new reviews to their buckets, creating the row of a bucket's first
+ * review, and a relative update removes deleted ones. Every review touches its day and its week; the rows are
+ * written in key order so that concurrent batches lock them in the same order.
+ */
+@Repository
+public class CourseRatingRollupWriter {
+    private static final String TABLE = "course_rating_rollup";
+    private static final String[] KEY_COLUMNS = {"course_id", "granularity", "bucket_start"};
+    private static final String[] KEY_TYPES = {"VARCHAR(10)", "VARCHAR(5)", "DATE"};
+    private static final String[] COUNT_COLUMNS = {"review_count", "rating_sum"};
+    private static final String REMOVE = "UPDATE course_rating_rollup SET review_count = review_count + ?, "
+            + "rating_sum = rating_sum + ? WHERE course_id = ? AND granularity = ? AND bucket_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile UpsertDialect dialect;
+    private volatile String addSql;
+
+    public CourseRatingRollupWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the reviews, which must have their {@code createdAt}, to the buckets they were created in; with a
+     * negative {@code sign} they are removed instead.
+     */
+    public void addReviews(Collection<Review> reviews, int sign) {
+        Map<CourseRatingRollup.Key, long[]> buckets = new TreeMap<>();
+        for (Review review : reviews) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                CourseRatingRollup.Key key = new CourseRatingRollup.Key(review.getCourseId(), granularity,
+                        granularity.bucketStart(review.getCreatedAt().toLocalDate()));
+                long[] counts = buckets.computeIfAbsent(key, k -> new long[2]);
+                counts[0] += sign;
+                counts[1] += (long) sign * review.getRating();
+            }
+        }
+        if (buckets.isEmpty()) {
+            return;
+        }
+        if (sign < 0) {
+            // A bucket without a row has nothing to remove
+            List<Object[]> rows = new ArrayList<>(buckets.size());
+            buckets.forEach((key, counts) -> rows.add(new Object[] {counts[0], counts[1], key.getCourseId(),
+                    key.getGranularity().name(), key.getBucketStart()}));
+            jdbcTemplate.batchUpdate(REMOVE, rows);
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, counts) -> rows.add(new Object[] {key.getCourseId(), key.getGranularity().name(),
+                key.getBucketStart(), counts[0], counts[1]}));
+        dialect().execute(jdbcTemplate, addSql, rows);
+    }
+
+    private UpsertDialect dialect() {
+        UpsertDialect current = dialect;
+        if (current == null) {
+            current = UpsertDialect.of(jdbcTemplate);
+            addSql = current.upsert(TABLE, KEY_COLUMNS, KEY_TYPES, COUNT_COLUMNS, true);
+            dialect = current;
+        }
+        return current;
+    }
+}
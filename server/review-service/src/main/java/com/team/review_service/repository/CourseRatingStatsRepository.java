@@ -0,0 +1,20 @@
+package com.team.review_service.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.team.review_service.model.CourseRatingStats;
+
+import jakarta.persistence.LockModeType;
+
+public interface CourseRatingStatsRepository extends JpaRepository<CourseRatingStats, String> {
+
+    /** Reads the stats of a course and blocks writers of its reviews until the transaction ends. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CourseRatingStats s WHERE s.courseId = :courseId")
+    Optional<CourseRatingStats> lockByCourseId(@Param("courseId") String courseId);
+}
@@ -0,0 +1,97 @@
+package com.team.review_service.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.team.review_service.model.CourseRatingStats;
+
+/**
+ * Maintains {@code course_rating_stats} with plain SQL in the caller's transaction. Reviews are added with a
+ * native upsert that creates the row of a course's first review or adds to the existing counts
+ * ({@code count = count + 1}), which the database serializes on the row lock, so parallel writers of the same
+ * course keep the aggregates exact. Removing reviews is a relative update of a row that must already exist.
+ */
+@Repository
+public class CourseRatingStatsWriter {
+    private static final String TABLE = "course_rating_stats";
+    private static final String[] KEY_COLUMNS = {"course_id"};
+    private static final String[] KEY_TYPES = {"VARCHAR(10)"};
+    private static final String[] COUNT_COLUMNS = {"review_count", "rating_sum",
+            "stars_0", "stars_1", "stars_2", "stars_3", "stars_4", "stars_5"};
+    private static final String[] REMOVE_REVIEWS = new String[CourseRatingStats.MAX_RATING + 1];
+    static {
+        for (int stars = 0; stars < REMOVE_REVIEWS.length; stars++) {
+            REMOVE_REVIEWS[stars] = "UPDATE course_rating_stats SET review_count = review_count + ?, "
+                    + "rating_sum = rating_sum + ?, stars_" + stars + " = stars_" + stars + " + ? WHERE course_id = ?";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile UpsertDialect dialect;
+    private volatile String addSql;
+    private volatile String replaceSql;
+
+    public CourseRatingStatsWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Adds {@code delta} reviews with the given rating; a negative delta removes reviews. */
+    public void addReviews(String courseId, int rating, long delta) {
+        if (rating < CourseRatingStats.MIN_RATING || rating > CourseRatingStats.MAX_RATING) {
+            throw new IllegalArgumentException("Rating out of range: " + rating);
+        }
+        if (delta < 0) {
+            // A course without a row has no counted reviews; there is nothing to remove until it is reconciled
+            jdbcTemplate.update(REMOVE_REVIEWS[rating], delta, delta * rating, delta, courseId);
+            return;
+        }
+        long[] histogram = new long[CourseRatingStats.MAX_RATING + 1];
+        histogram[rating] = delta;
+        dialect().execute(jdbcTemplate, addSql, List.<Object[]>of(values(new CourseRatingStats(courseId, histogram))));
+    }
+
+    /**
+     * Adds the reviews of many courses at once, e.g. those of one import batch: one upsert per course, sent as a
+     * single JDBC batch.
+     */
+    public void addHistograms(Map<String, long[]> histograms) {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(histograms.size());
+        for (Map.Entry<String, long[]> entry : histograms.entrySet()) {
+            rows.add(values(new CourseRatingStats(entry.getKey(), entry.getValue())));
+        }
+        dialect().execute(jdbcTemplate, addSql, rows);
+    }
+
+    /** Overwrites the counts of a course, e.g. with ones recomputed from its reviews. */
+    public void replace(CourseRatingStats stats) {
+        dialect().execute(jdbcTemplate, replaceSql, List.<Object[]>of(values(stats)));
+    }
+
+    public void delete(String courseId) {
+        jdbcTemplate.update("DELETE FROM course_rating_stats WHERE course_id = ?", courseId);
+    }
+
+    private UpsertDialect dialect() {
+        UpsertDialect current = dialect;
+        if (current == null) {
+            current = UpsertDialect.of(jdbcTemplate);
+            addSql = current.upsert(TABLE, KEY_COLUMNS, KEY_TYPES, COUNT_COLUMNS, true);
+            replaceSql = current.upsert(TABLE, KEY_COLUMNS, KEY_TYPES, COUNT_COLUMNS, false);
+            dialect = current;
+        }
+        return current;
+    }
+
+    private static Object[] values(CourseRatingStats stats) {
+        long[] histogram = stats.getHistogram();
+        return new Object[] {stats.getCourseId(), stats.getReviewCount(), stats.getRatingSum(), histogram[0],
+                histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]};
+    }
+}
@@ -0,0 +1,48 @@
+package com.team.review_service.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team.review_service.model.CourseRatingStats;
+import com.team.review_service.model.Review;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inserts many new reviews in one transaction, together with one relative update of the rating stats per
+ * course and of the rollups per course and bucket. Review IDs come from the pooled table generator, so
+ * Hibernate sends the inserts as JDBC batches ({@code hibernate.jdbc.batch_size}), which MySQL rewrites
+ * into multi-row statements.
+ */
+@Repository
+public class ReviewBatchWriter {
+    private final EntityManager entityManager;
+    private final CourseRatingStatsWriter ratingStatsWriter;
+    private final CourseRatingRollupWriter rollupWriter;
+
+    public ReviewBatchWriter(EntityManager entityManager, CourseRatingStatsWriter ratingStatsWriter,
+                             CourseRatingRollupWriter rollupWriter) {
+        this.entityManager = entityManager;
+        this.ratingStatsWriter = ratingStatsWriter;
+        this.rollupWriter = rollupWriter;
+    }
+
+    /** Persists the reviews, which must be new and valid, and assigns their IDs; all or none are written. */
+    @Transactional
+    public void insert(List<Review> reviews) {
+        Map<String, long[]> histograms = new HashMap<>();
+        for (Review review : reviews) {
+            entityManager.persist(review);
+            histograms.computeIfAbsent(review.getCourseId(),
+                    courseId -> new long[CourseRatingStats.MAX_RATING + 1])[review.getRating()]++;
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ratingStatsWriter.addHistograms(histograms);
+        rollupWriter.addReviews(reviews, 1);
+    }
+}
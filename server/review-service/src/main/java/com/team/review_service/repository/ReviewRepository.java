@@ -3,10 +3,27 @@ package com.team.review_service.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.team.review_service.model.Review;
 
-public interface ReviewRepository extends JpaRepository<Review, Integer> {
+public interface ReviewRepository extends JpaRepository<Review, Integer>, JpaSpecificationExecutor<Review> {
     List<Review> findByCourseId(String courseId);
     List<Review> findByStudentMatrNr(String studentMatrNr);
-}
\ No newline at end of file
+
+    /** (course ID, rating, number of reviews) for every rating given to a course. */
+    @Query("SELECT r.courseId, r.rating, COUNT(r) FROM Review r GROUP BY r.courseId, r.rating")
+    List<Object[]> countRatingsPerCourse();
+
+    /** (rating, number of reviews) for every rating given to the course. */
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.courseId = :courseId GROUP BY r.rating")
+    List<Object[]> countRatingsByCourseId(@Param("courseId") String courseId);
+
+    /** Deletes the review and returns 1, or 0 if it did not exist (anymore). */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.reviewId = :reviewId")
+    int deleteReview(@Param("reviewId") Integer reviewId);
+}
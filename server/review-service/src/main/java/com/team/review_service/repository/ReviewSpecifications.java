@@ -0,0 +1,51 @@
+package com.team.review_service.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.team.review_service.dto.ReviewCursor;
+import com.team.review_service.model.Review;
+
+import jakarta.persistence.criteria.Path;
+
+/**
+ * Combinable filters for review queries. Every factory returns {@code null} for an absent
+ * argument, which {@link Specification#where} and {@link Specification#and} treat as "no filter".
+ */
+public final class ReviewSpecifications {
+    /** Order of keyset pages, matching the (created_at, review_id) suffix of the review indexes. */
+    public static final Sort KEYSET_ORDER = Sort.by("createdAt", "reviewId");
+
+    private ReviewSpecifications() {
+        // Private constructor to prevent instantiation
+    }
+
+    /** Keyset condition: reviews sorted after the cursor in {@link #KEYSET_ORDER}. */
+    public static Specification<Review> after(ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            return cb.or(cb.greaterThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, cursor.getCreatedAt()),
+                            cb.greaterThan(root.get("reviewId"), cursor.getReviewId())));
+        };
+    }
+
+    public static Specification<Review> ofCourse(String courseId) {
+        if (courseId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("courseId"), courseId);
+    }
+
+    public static Specification<Review> ofStudent(String studentMatrNr) {
+        if (studentMatrNr == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("studentMatrNr"), studentMatrNr);
+    }
+}
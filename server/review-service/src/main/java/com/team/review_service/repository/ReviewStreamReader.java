@@ -0,0 +1,87 @@
+package com.team.review_service.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.team.review_service.model.Review;
+
+/**
+ * Reads reviews row by row through a JDBC cursor, in the same (created_at, review_id) order as the keyset
+ * pages, without loading them into a list or a persistence context. Memory stays flat however many reviews
+ * there are. MySQL Connector/J only streams with a fetch size of {@link Integer#MIN_VALUE}; other drivers
+ * (H2 in tests) reject it and page through the result with a regular fetch size.
+ */
+@Repository
+public class ReviewStreamReader {
+    private static final int FETCH_SIZE = 500;
+    private static final String SELECT = "SELECT review_id, course_id, student_id, rating, review_text, created_at "
+            + "FROM reviews";
+    private static final String ORDER = " ORDER BY created_at, review_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Integer fetchSize;
+
+    public ReviewStreamReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Passes every review of the course and student to {@code action}; a null filter matches all reviews. */
+    public void forEach(String courseId, String studentMatrNr, Consumer<Review> action) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> args = new ArrayList<>(2);
+        if (courseId != null) {
+            sql.append(" WHERE course_id = ?");
+            args.add(courseId);
+        }
+        if (studentMatrNr != null) {
+            sql.append(args.isEmpty() ? " WHERE" : " AND").append(" student_id = ?");
+            args.add(studentMatrNr);
+        }
+        sql.append(ORDER);
+        int rows = fetchSize();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(rows);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) row -> action.accept(toReview(row)));
+    }
+
+    private static Review toReview(ResultSet row) throws SQLException {
+        Review review = new Review();
+        review.setReviewId(row.getInt("review_id"));
+        review.setCourseId(row.getString("course_id"));
+        review.setStudentMatrNr(row.getString("student_id"));
+        review.setRating(row.getByte("rating"));
+        review.setReviewText(row.getString("review_text"));
+        Timestamp createdAt = row.getTimestamp("created_at");
+        review.setCreatedAt(createdAt == null ? null : createdAt.toLocalDateTime());
+        return review;
+    }
+
+    private int fetchSize() {
+        Integer current = fetchSize;
+        if (current == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            current = normalized.contains("mysql") || normalized.contains("mariadb") ? Integer.MIN_VALUE : FETCH_SIZE;
+            fetchSize = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,94 @@
+package com.team.review_service.repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Native upsert of the aggregate tables: {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL, {@code MERGE ...
+ * USING} on H2. Creating a missing row and counting into an existing one is a single statement, so there is no
+ * UPDATE of a missing key followed by an INSERT; under InnoDB that pair takes a gap lock and then waits for an
+ * insert intention lock, which deadlocks with any other transaction doing the same in the same gap.
+ */
+enum UpsertDialect {
+    MYSQL,
+    H2;
+
+    static UpsertDialect of(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        String normalized = product == null ? "" : product.toLowerCase(Locale.ROOT);
+        if (normalized.contains("mysql") || normalized.contains("mariadb")) {
+            return MYSQL;
+        }
+        if (normalized.contains("h2")) {
+            return H2;
+        }
+        throw new IllegalStateException("Rating aggregates do not support " + product);
+    }
+
+    /**
+     * Upsert into {@code table} taking the key columns, then the BIGINT count columns as parameters. With
+     * {@code add} the counts are added to those of an existing row, otherwise they replace them.
+     */
+    String upsert(String table, String[] keyColumns, String[] keyTypes, String[] countColumns, boolean add) {
+        StringJoiner columns = new StringJoiner(", ");
+        for (String column : keyColumns) {
+            columns.add(column);
+        }
+        for (String column : countColumns) {
+            columns.add(column);
+        }
+        StringJoiner updates = new StringJoiner(", ");
+        if (this == MYSQL) {
+            StringJoiner values = new StringJoiner(", ");
+            for (int i = 0; i < keyColumns.length + countColumns.length; i++) {
+                values.add("?");
+            }
+            for (String column : countColumns) {
+                updates.add(column + " = " + (add ? column + " + " : "") + "VALUES(" + column + ")");
+            }
+            return "INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ") "
+                    + "ON DUPLICATE KEY UPDATE " + updates;
+        }
+        StringJoiner values = new StringJoiner(", ");
+        StringJoiner matches = new StringJoiner(" AND ");
+        StringJoiner sourceColumns = new StringJoiner(", ");
+        for (int i = 0; i < keyColumns.length; i++) {
+            values.add("CAST(? AS " + keyTypes[i] + ")");
+            matches.add("t." + keyColumns[i] + " = s." + keyColumns[i]);
+            sourceColumns.add("s." + keyColumns[i]);
+        }
+        for (String column : countColumns) {
+            values.add("CAST(? AS BIGINT)");
+            updates.add(column + " = " + (add ? "t." + column + " + " : "") + "s." + column);
+            sourceColumns.add("s." + column);
+        }
+        return "MERGE INTO " + table + " t USING (VALUES (" + values + ")) s (" + columns + ") ON " + matches
+                + " WHEN MATCHED THEN UPDATE SET " + updates
+                + " WHEN NOT MATCHED THEN INSERT (" + columns + ") VALUES (" + sourceColumns + ")";
+    }
+
+    /**
+     * Runs the upsert for every row. On MySQL the rows go out as one JDBC batch. H2's MERGE looks for the row and
+     * inserts it in two steps, so two transactions can both insert the same new key; there the rows run one at a
+     * time and a statement that lost that race, which changed nothing, runs once more and finds the row.
+     */
+    void execute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (this == MYSQL) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            return;
+        }
+        for (Object[] row : rows) {
+            try {
+                jdbcTemplate.update(sql, row);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(sql, row);
+            }
+        }
+    }
+}
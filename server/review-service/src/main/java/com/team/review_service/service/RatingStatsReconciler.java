@@ -0,0 +1,101 @@
+package com.team.review_service.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.team.review_service.model.CourseRatingStats;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.CourseRatingStatsWriter;
+import com.team.review_service.repository.ReviewRepository;
+
+/**
+ * Rebuilds {@code course_rating_stats} from {@code reviews} where they disagree, e.g. after reviews were changed
+ * with SQL that bypassed the service. A cheap pass over both tables finds candidate courses; each candidate is
+ * then recounted in its own transaction while holding the lock on its stats row, so reviews written concurrently
+ * are either part of the recount or applied on top of it, never lost.
+ */
+@Service
+public class RatingStatsReconciler {
+    private static final Logger logger = LoggerFactory.getLogger(RatingStatsReconciler.class);
+
+    private final ReviewRepository reviewRepository;
+    private final CourseRatingStatsRepository ratingStatsRepository;
+    private final CourseRatingStatsWriter ratingStatsWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    public RatingStatsReconciler(ReviewRepository reviewRepository, CourseRatingStatsRepository ratingStatsRepository,
+                                 CourseRatingStatsWriter ratingStatsWriter, PlatformTransactionManager transactionManager) {
+        this.reviewRepository = reviewRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.ratingStatsWriter = ratingStatsWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Returns the number of courses whose stats had to be corrected. */
+    @Scheduled(fixedDelayString = "${review.rating-stats.reconcile-interval:PT6H}",
+               initialDelayString = "${review.rating-stats.reconcile-interval:PT6H}")
+    public int reconcile() {
+        Map<String, long[]> histograms = new HashMap<>();
+        for (Object[] row : reviewRepository.countRatingsPerCourse()) {
+            addCount(histograms.computeIfAbsent((String) row[0], id -> new long[CourseRatingStats.MAX_RATING + 1]),
+                    row[1], row[2]);
+        }
+        List<String> candidates = new ArrayList<>();
+        for (CourseRatingStats stored : ratingStatsRepository.findAll()) {
+            long[] histogram = histograms.remove(stored.getCourseId());
+            if (histogram == null || !stored.hasSameCounts(new CourseRatingStats(stored.getCourseId(), histogram))) {
+                candidates.add(stored.getCourseId());
+            }
+        }
+        candidates.addAll(histograms.keySet());
+
+        int corrected = 0;
+        for (String courseId : candidates) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(courseId)))) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            logger.warn("Rebuilt the rating stats of {} courses from their reviews", corrected);
+        }
+        return corrected;
+    }
+
+    /** Recounts one course under the lock of its stats row; returns whether the stored counts were wrong. */
+    private boolean reconcile(String courseId) {
+        CourseRatingStats stored = ratingStatsRepository.lockByCourseId(courseId).orElse(null);
+        long[] histogram = new long[CourseRatingStats.MAX_RATING + 1];
+        for (Object[] row : reviewRepository.countRatingsByCourseId(courseId)) {
+            addCount(histogram, row[0], row[1]);
+        }
+        CourseRatingStats actual = new CourseRatingStats(courseId, histogram);
+        if (actual.getReviewCount() == 0) {
+            // Rows emptied by deletes are dropped without counting as a correction
+            if (stored != null) {
+                ratingStatsWriter.delete(courseId);
+            }
+            return stored != null && stored.getReviewCount() != 0;
+        }
+        if (stored != null && stored.hasSameCounts(actual)) {
+            return false;
+        }
+        ratingStatsWriter.replace(actual);
+        return true;
+    }
+
+    private static void addCount(long[] histogram, Object rating, Object count) {
+        int stars = ((Number) rating).intValue();
+        if (stars >= CourseRatingStats.MIN_RATING && stars <= CourseRatingStats.MAX_RATING) {
+            histogram[stars] += ((Number) count).longValue();
+        }
+    }
+}
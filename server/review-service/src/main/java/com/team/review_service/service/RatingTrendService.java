@@ -0,0 +1,90 @@
+package com.team.review_service.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.team.review_service.dto.RatingSeriesPointDTO;
+import com.team.review_service.dto.TrendingCourseDTO;
+import com.team.review_service.model.CourseRatingRollup;
+import com.team.review_service.model.RollupGranularity;
+import com.team.review_service.repository.CourseRatingRollupRepository;
+
+/**
+ * Rating time series and trending courses, read from the daily and weekly rollups only. A series reads at most
+ * one row per bucket of one course, and the trending ranking one row per course and day of the window, so
+ * neither depends on the number of reviews.
+ */
+@Service
+public class RatingTrendService {
+    /** The trending score halves for every quarter of the window a review is old. */
+    static final int HALF_LIVES_PER_WINDOW = 4;
+
+    private static final Comparator<TrendingCourseDTO> TRENDING_ORDER =
+            Comparator.comparingDouble(TrendingCourseDTO::getScore).reversed()
+                    .thenComparing(Comparator.comparingLong(TrendingCourseDTO::getReviewCount).reversed())
+                    .thenComparing(TrendingCourseDTO::getCourseId);
+
+    private final CourseRatingRollupRepository rollupRepository;
+
+    public RatingTrendService(CourseRatingRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * One point per bucket from the one containing {@code from} to the one containing {@code to}, oldest first;
+     * buckets without reviews are included with a count of 0.
+     */
+    public List<RatingSeriesPointDTO> getSeries(String courseId, RollupGranularity granularity,
+                                                LocalDate from, LocalDate to) {
+        LocalDate first = granularity.bucketStart(from);
+        LocalDate last = granularity.bucketStart(to);
+        Map<LocalDate, CourseRatingRollup> buckets = new HashMap<>();
+        for (CourseRatingRollup rollup : rollupRepository.findSeries(courseId, granularity, first, last)) {
+            buckets.put(rollup.getBucketStart(), rollup);
+        }
+        List<RatingSeriesPointDTO> series = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(last); start = granularity.next(start)) {
+            CourseRatingRollup rollup = buckets.get(start);
+            series.add(rollup == null
+                    ? new RatingSeriesPointDTO(start, 0, null)
+                    : new RatingSeriesPointDTO(start, rollup.getReviewCount(),
+                            (double) rollup.getRatingSum() / rollup.getReviewCount()));
+        }
+        return series;
+    }
+
+    /**
+     * The {@code limit} courses with the highest trending score over the last {@code days} days, today included.
+     * The score counts the reviews of each day in the window with an exponentially decaying weight, so a course
+     * reviewed a lot this week ranks above one that had the same number of reviews at the start of the window.
+     */
+    public List<TrendingCourseDTO> getTrending(LocalDate today, int days, int limit) {
+        double halfLife = Math.max(1.0, (double) days / HALF_LIVES_PER_WINDOW);
+        Map<String, double[]> totals = new HashMap<>();
+        for (CourseRatingRollup rollup : rollupRepository.findAllSince(RollupGranularity.DAY, today.minusDays(days - 1))) {
+            long age = ChronoUnit.DAYS.between(rollup.getBucketStart(), today);
+            if (age < 0) {
+                // Reviews stamped in the future, e.g. imported with a wrong clock, do not count
+                continue;
+            }
+            double[] total = totals.computeIfAbsent(rollup.getCourseId(), id -> new double[3]);
+            total[0] += rollup.getReviewCount() * Math.pow(0.5, age / halfLife);
+            total[1] += rollup.getReviewCount();
+            total[2] += rollup.getRatingSum();
+        }
+        List<TrendingCourseDTO> trending = new ArrayList<>(totals.size());
+        for (Map.Entry<String, double[]> entry : totals.entrySet()) {
+            double[] total = entry.getValue();
+            trending.add(new TrendingCourseDTO(entry.getKey(), total[0], (long) total[1], total[2] / total[1]));
+        }
+        trending.sort(TRENDING_ORDER);
+        return trending.size() > limit ? new ArrayList<>(trending.subList(0, limit)) : trending;
+    }
+}
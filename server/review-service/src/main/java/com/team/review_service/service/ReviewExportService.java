@@ -0,0 +1,47 @@
+package com.team.review_service.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.review_service.mapper.ReviewMapper;
+import com.team.review_service.repository.ReviewStreamReader;
+
+/**
+ * Writes reviews as NDJSON, one {@link com.team.review_service.dto.ReviewDTO} per line, straight from the
+ * JDBC cursor to the response through one Jackson generator. Only the generator's buffer is held in memory.
+ */
+@Service
+public class ReviewExportService {
+    private final ReviewStreamReader reviewStreamReader;
+    private final ObjectMapper objectMapper;
+
+    public ReviewExportService(ReviewStreamReader reviewStreamReader, ObjectMapper objectMapper) {
+        this.reviewStreamReader = reviewStreamReader;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Writes the reviews of the course and student (null for any) in (created_at, review_id) order. */
+    public void writeNdjson(String courseId, String studentMatrNr, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // Lines are separated by our newlines, not the generator's default space between root values
+        generator.setRootValueSeparator(null);
+        try {
+            reviewStreamReader.forEach(courseId, studentMatrNr, review -> {
+                try {
+                    generator.writeObject(ReviewMapper.toDto(review));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+}
@@ -1,59 +1,133 @@
 package com.team.review_service.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.OptionalDouble; 
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.team.review_service.dto.ReviewCursor;
+import com.team.review_service.dto.ReviewPage;
+import com.team.review_service.mapper.ReviewMapper;
+import com.team.review_service.model.CourseRatingStats;
 import com.team.review_service.model.Review;
+import com.team.review_service.repository.CourseRatingRollupWriter;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.CourseRatingStatsWriter;
 import com.team.review_service.repository.ReviewRepository;
 
+import static com.team.review_service.repository.ReviewSpecifications.KEYSET_ORDER;
+import static com.team.review_service.repository.ReviewSpecifications.after;
+import static com.team.review_service.repository.ReviewSpecifications.ofCourse;
+import static com.team.review_service.repository.ReviewSpecifications.ofStudent;
+
 @Service
 public class ReviewService {
     private final ReviewRepository reviewRepository;
+    private final CourseRatingStatsRepository ratingStatsRepository;
+    private final CourseRatingStatsWriter ratingStatsWriter;
+    private final CourseRatingRollupWriter rollupWriter;
 
-    public ReviewService(ReviewRepository reviewRepository) {
+    public ReviewService(ReviewRepository reviewRepository, CourseRatingStatsRepository ratingStatsRepository,
+                         CourseRatingStatsWriter ratingStatsWriter, CourseRatingRollupWriter rollupWriter) {
         this.reviewRepository = reviewRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.ratingStatsWriter = ratingStatsWriter;
+        this.rollupWriter = rollupWriter;
     }
 
+    /** Saves the review and counts it in the course's rating stats and rollups; empty if it has no valid rating. */
+    @Transactional
     public Optional<Review> create(Review review) {
-        if (review == null) {
+        if (!isValid(review)) {
             return Optional.empty(); 
         }
-        return Optional.of(reviewRepository.save(review));
+        // Reviews created through the API are always stamped by the server
+        review.setCreatedAt(null);
+        Review saved = reviewRepository.save(review);
+        ratingStatsWriter.addReviews(saved.getCourseId(), saved.getRating(), 1);
+        rollupWriter.addReviews(List.of(saved), 1);
+        return Optional.of(saved);
     }
 
-    public List<Review> getAllReviews() {
-        return reviewRepository.findAll();
+    /** Whether the review can be stored: it has a rating within the range of the stats histogram. */
+    public static boolean isValid(Review review) {
+        return review != null && review.getRating() != null
+                && review.getRating() >= CourseRatingStats.MIN_RATING && review.getRating() <= CourseRatingStats.MAX_RATING;
     }
 
     public Optional<Review> getReviewById(Integer reviewId) {
         return reviewRepository.findById(reviewId);
     }
 
-    public List<Review> getReviewsByCourseId(String courseId) {
-        return reviewRepository.findByCourseId(courseId); 
-    }
+    /**
+     * One keyset page of the reviews of the course and student (null for any), sorted by (created_at, review_id).
+     * Reads {@code limit + 1} rows from the index to know whether another page follows; the cost does not grow
+     * with the position of the page.
+     */
+    public ReviewPage getReviewPage(String courseId, String studentMatrNr, ReviewCursor cursor, int limit) {
+        Specification<Review> specification = Specification.where(ofCourse(courseId))
+                .and(ofStudent(studentMatrNr))
+                .and(after(cursor));
+        List<Review> rows = reviewRepository.findBy(specification, q -> q.sortBy(KEYSET_ORDER).limit(limit + 1).all());
 
-    public List<Review> getReviewsByStudentMatrNr(String studentMatrNr) {
-        return reviewRepository.findByStudentMatrNr(studentMatrNr);
+        boolean hasMore = rows.size() > limit;
+        List<Review> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? ReviewCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new ReviewPage(page.stream().map(ReviewMapper::toDto).toList(), nextCursor);
     }
 
+    /** Deletes the review and removes it from the rating stats and rollups; deleting a missing review does nothing. */
+    @Transactional
     public void deleteReview(Integer reviewId) {
-        reviewRepository.deleteById(reviewId);
+        reviewRepository.findById(reviewId).ifPresent(review -> {
+            // Only the transaction that actually deleted the row adjusts the stats
+            if (reviewRepository.deleteReview(reviewId) > 0) {
+                ratingStatsWriter.addReviews(review.getCourseId(), review.getRating(), -1);
+                rollupWriter.addReviews(List.of(review), -1);
+            }
+        });
     }
 
-    public Optional<Double> getAverageRatingByCourseId(String courseId) {
-        List<Review> reviews = reviewRepository.findByCourseId(courseId); 
-        if (reviews == null || reviews.isEmpty()) { 
-            return Optional.empty();
+    /** Rating aggregates of the course, read from one row; empty if it has no reviews. */
+    public Optional<CourseRatingStats> getRatingStats(String courseId) {
+        return ratingStatsRepository.findById(courseId).filter(stats -> stats.getReviewCount() > 0);
+    }
+
+    /**
+     * Rating aggregates of the given courses in one query, in the order of the IDs; courses without
+     * reviews get empty stats.
+     */
+    public List<CourseRatingStats> getRatingStats(Collection<String> courseIds) {
+        Map<String, CourseRatingStats> found = new HashMap<>();
+        for (CourseRatingStats stats : ratingStatsRepository.findAllById(courseIds)) {
+            found.put(stats.getCourseId(), stats);
         }
+        List<CourseRatingStats> result = new ArrayList<>(courseIds.size());
+        for (String courseId : courseIds) {
+            CourseRatingStats stats = found.get(courseId);
+            result.add(stats != null ? stats : new CourseRatingStats(courseId, new long[CourseRatingStats.MAX_RATING + 1]));
+        }
+        return result;
+    }
 
-        OptionalDouble average = reviews.stream()
-                .filter(review -> review != null && review.getRating() != null) // Filter out null reviews AND null ratings
-                .mapToInt(Review::getRating)      
-                .average();
+    public Optional<Double> getAverageRatingByCourseId(String courseId) {
+        return getRatingStats(courseId).map(stats -> (double) stats.getRatingSum() / stats.getReviewCount());
+    }
 
-        return average.isPresent() ? Optional.of(average.getAsDouble()) : Optional.empty();
+    /** Average rating of every reviewed course, keyed by course ID, in one query. */
+    public Map<String, Double> getAverageRatings() {
+        Map<String, Double> averages = new HashMap<>();
+        for (CourseRatingStats stats : ratingStatsRepository.findAll()) {
+            if (stats.getReviewCount() > 0) {
+                averages.put(stats.getCourseId(), (double) stats.getRatingSum() / stats.getReviewCount());
+            }
+        }
+        return averages;
     }
 }
@@ -0,0 +1,156 @@
+package com.team.review_service.stats;
+
+import static com.team.review_service.model.CourseRatingStats.MAX_RATING;
+import static com.team.review_service.model.CourseRatingStats.MIN_RATING;
+
+/**
+ * Summary statistics of one course's ratings, computed from its star histogram alone, so each costs a few
+ * operations per star level whatever the number of reviews. Ratings are discrete, so percentiles are star
+ * values (nearest rank); only the median of an even count can fall between two levels.
+ */
+public final class RatingDistribution {
+    /** Two-sided 95% standard normal quantile. */
+    public static final double Z_95 = 1.959963984540054;
+    /** Ratings from this number of stars up count as positive for {@link #wilsonInterval}. */
+    public static final int POSITIVE_FROM = 4;
+    /** Dirichlet prior of {@link #bayesianInterval}: one pseudo-review per star level. */
+    public static final double PRIOR_PER_LEVEL = 1.0;
+
+    private final long[] histogram;
+    private final long count;
+
+    /** The histogram must be indexed by rating, from {@code MIN_RATING} to {@code MAX_RATING}, and is not copied. */
+    public RatingDistribution(long[] histogram) {
+        if (histogram.length != MAX_RATING + 1) {
+            throw new IllegalArgumentException("Expected " + (MAX_RATING + 1) + " rating counts, got " + histogram.length);
+        }
+        this.histogram = histogram;
+        long total = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            total += histogram[stars];
+        }
+        this.count = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /** Mean rating; NaN without reviews. */
+    public double mean() {
+        double sum = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            sum += (double) stars * histogram[stars];
+        }
+        return sum / count;
+    }
+
+    /** Population standard deviation of the ratings; NaN without reviews. */
+    public double standardDeviation() {
+        double mean = mean();
+        double squares = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            squares += (stars - mean) * (stars - mean) * histogram[stars];
+        }
+        return Math.sqrt(squares / count);
+    }
+
+    /** The rating at 1-based position {@code rank} in ascending order. */
+    private int ratingAtRank(long rank) {
+        long seen = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            seen += histogram[stars];
+            if (seen >= rank) {
+                return stars;
+            }
+        }
+        return MAX_RATING;
+    }
+
+    /** Nearest-rank percentile: the smallest rating at or below which at least {@code percent}% of the ratings lie. */
+    public int percentile(double percent) {
+        if (count == 0) {
+            throw new IllegalStateException("No ratings");
+        }
+        if (percent <= 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percent);
+        }
+        return ratingAtRank(Math.max(1, (long) Math.ceil(percent / 100 * count)));
+    }
+
+    /** Median rating, the mean of the two middle ratings for an even count. */
+    public double median() {
+        if (count == 0) {
+            throw new IllegalStateException("No ratings");
+        }
+        if (count % 2 == 1) {
+            return ratingAtRank(count / 2 + 1);
+        }
+        return (ratingAtRank(count / 2) + ratingAtRank(count / 2 + 1)) / 2.0;
+    }
+
+    /** Share of ratings of at least {@link #POSITIVE_FROM} stars. */
+    public double positiveShare() {
+        return (double) positiveCount() / count;
+    }
+
+    private long positiveCount() {
+        long positive = 0;
+        for (int stars = POSITIVE_FROM; stars <= MAX_RATING; stars++) {
+            positive += histogram[stars];
+        }
+        return positive;
+    }
+
+    /**
+     * Wilson score interval of the positive share. Unlike the normal approximation it stays inside [0, 1] and
+     * is wide for few reviews, so its lower bound ranks a course with 3 of 3 positive below one with 95 of 100.
+     */
+    public Interval wilsonInterval(double z) {
+        if (count == 0) {
+            return new Interval(0, 1);
+        }
+        double n = count;
+        double p = positiveCount() / n;
+        double z2 = z * z;
+        double denominator = 1 + z2 / n;
+        double center = (p + z2 / (2 * n)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / denominator;
+        return new Interval(Math.max(0, center - halfWidth), Math.min(1, center + halfWidth));
+    }
+
+    /**
+     * Posterior mean rating under a Dirichlet prior of {@link #PRIOR_PER_LEVEL} pseudo-reviews per star level,
+     * which pulls courses with few reviews towards the middle of the scale.
+     */
+    public double bayesianMean() {
+        double weight = count + PRIOR_PER_LEVEL * (MAX_RATING - MIN_RATING + 1);
+        double sum = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            sum += stars * (histogram[stars] + PRIOR_PER_LEVEL);
+        }
+        return sum / weight;
+    }
+
+    /**
+     * Credible interval of the mean rating: the posterior mean plus or minus {@code z} posterior standard
+     * deviations of the Dirichlet posterior, clipped to the rating scale.
+     */
+    public Interval bayesianInterval(double z) {
+        double weight = count + PRIOR_PER_LEVEL * (MAX_RATING - MIN_RATING + 1);
+        double mean = bayesianMean();
+        double secondMoment = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            secondMoment += (double) stars * stars * (histogram[stars] + PRIOR_PER_LEVEL);
+        }
+        double variance = (secondMoment / weight - mean * mean) / (weight + 1);
+        double halfWidth = z * Math.sqrt(Math.max(0, variance));
+        return new Interval(Math.max(MIN_RATING, mean - halfWidth), Math.min(MAX_RATING, mean + halfWidth));
+    }
+
+    public record Interval(double lower, double upper) { }
+}
@@ -0,0 +1,65 @@
+package com.team.review_service.submission;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.team.review_service.model.Review;
+
+/**
+ * A review accepted for write-behind, tracked by a random ID until some time after it was written.
+ * The writer thread completes it; request threads only read it.
+ */
+public class ReviewSubmission {
+    private final UUID trackingId;
+    private volatile Review review;
+    private volatile SubmissionStatus status = SubmissionStatus.QUEUED;
+    private volatile Integer reviewId;
+    private volatile String error;
+    private volatile Instant completedAt;
+
+    public ReviewSubmission(UUID trackingId, Review review) {
+        this.trackingId = trackingId;
+        this.review = review;
+    }
+
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public SubmissionStatus getStatus() {
+        return status;
+    }
+
+    public Integer getReviewId() {
+        return reviewId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    Review getReview() {
+        return review;
+    }
+
+    Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    void written(Instant now) {
+        reviewId = review.getReviewId();
+        complete(SubmissionStatus.WRITTEN, now);
+    }
+
+    void failed(String message, Instant now) {
+        error = message;
+        complete(SubmissionStatus.FAILED, now);
+    }
+
+    private void complete(SubmissionStatus outcome, Instant now) {
+        // The review is no longer needed once its outcome is known
+        review = null;
+        completedAt = now;
+        status = outcome;
+    }
+}
@@ -0,0 +1,226 @@
+package com.team.review_service.submission;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.ReviewBatchWriter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind path for new reviews. Request threads put validated reviews on a bounded queue and return at
+ * once; a single writer thread takes whatever has queued up, up to {@code review.submission.max-batch-size},
+ * and commits it as one transaction (group commit), so a burst of submissions costs a few commits instead of
+ * one each. A full queue refuses new submissions instead of growing. If a group fails, its reviews are retried
+ * one by one so that a single bad review does not take the others with it. On shutdown the queue stops
+ * accepting and is drained before the data source closes.
+ */
+@Service
+public class ReviewWriteBehindService implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(ReviewWriteBehindService.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final ReviewBatchWriter batchWriter;
+    private final BlockingQueue<ReviewSubmission> queue;
+    private final Map<UUID, ReviewSubmission> submissions = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxBatchSize;
+    private final Duration statusRetention;
+    private final Duration shutdownTimeout;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean accepting = true;
+    private Thread writer;
+
+    public ReviewWriteBehindService(ReviewBatchWriter batchWriter,
+                                    @Value("${review.submission.queue-capacity:10000}") int capacity,
+                                    @Value("${review.submission.max-batch-size:500}") int maxBatchSize,
+                                    @Value("${review.submission.status-retention:PT1H}") Duration statusRetention,
+                                    @Value("${review.submission.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.batchWriter = batchWriter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.maxBatchSize = maxBatchSize;
+        this.statusRetention = statusRetention;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::run, "review-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a valid review for writing and returns its submission, or empty if the queue is full or shutting
+     * down. The review is stamped now, at submission, rather than when it is written.
+     */
+    public Optional<ReviewSubmission> submit(Review review) {
+        if (!accepting) {
+            return Optional.empty();
+        }
+        review.setReviewId(null);
+        // At the precision of created_at, like Review.onCreate
+        review.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        ReviewSubmission submission = new ReviewSubmission(UUID.randomUUID(), review);
+        submissions.put(submission.getTrackingId(), submission);
+        if (!queue.offer(submission)) {
+            submissions.remove(submission.getTrackingId());
+            return Optional.empty();
+        }
+        // stop() may have run since the check above, and the writer may already have seen the queue empty and
+        // exited. Take the submission back unless the writer already has it.
+        if (!accepting && queue.remove(submission)) {
+            submissions.remove(submission.getTrackingId());
+            return Optional.empty();
+        }
+        return Optional.of(submission);
+    }
+
+    /** The submission with the ID, until {@code review.submission.status-retention} after it completed. */
+    public Optional<ReviewSubmission> getSubmission(UUID trackingId) {
+        return Optional.ofNullable(submissions.get(trackingId));
+    }
+
+    /** Stops accepting submissions and waits for the writer to drain the queue. */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        accepting = false;
+        if (writer == null) {
+            return;
+        }
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            logger.warn("Shutting down with {} review submissions still queued", queue.size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("review.submissions.queued", queue, BlockingQueue::size)
+                .description("Review submissions waiting for the writer")
+                .register(registry);
+        Gauge.builder("review.submissions.capacity", () -> capacity)
+                .register(registry);
+        FunctionCounter.builder("review.submissions.completed", written, AtomicLong::get)
+                .tag("status", "written")
+                .register(registry);
+        FunctionCounter.builder("review.submissions.completed", failed, AtomicLong::get)
+                .tag("status", "failed")
+                .register(registry);
+    }
+
+    private void run() {
+        List<ReviewSubmission> group = new ArrayList<>(maxBatchSize);
+        Instant lastExpiry = Instant.now();
+        while (true) {
+            ReviewSubmission first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null && !accepting) {
+                // A submit that saw accepting before stop() has offered by now; it is either here or taken back
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            if (first != null) {
+                group.add(first);
+                queue.drainTo(group, maxBatchSize - 1);
+                try {
+                    write(group);
+                } catch (Throwable e) {
+                    // Keep the only writer alive; otherwise the queue fills up and every later submission gets 429
+                    logger.error("Writing a group of {} reviews failed", group.size(), e);
+                    for (ReviewSubmission submission : group) {
+                        if (submission.getStatus() == SubmissionStatus.QUEUED) {
+                            fail(submission, e);
+                        }
+                    }
+                } finally {
+                    group.clear();
+                }
+            }
+            Instant now = Instant.now();
+            if (now.isAfter(lastExpiry.plusSeconds(1))) {
+                expire(now);
+                lastExpiry = now;
+            }
+        }
+    }
+
+    private void write(List<ReviewSubmission> group) {
+        List<Review> reviews = new ArrayList<>(group.size());
+        for (ReviewSubmission submission : group) {
+            reviews.add(submission.getReview());
+        }
+        try {
+            batchWriter.insert(reviews);
+            Instant now = Instant.now();
+            group.forEach(submission -> submission.written(now));
+            written.addAndGet(group.size());
+            return;
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                fail(group.get(0), e);
+                return;
+            }
+            logger.warn("Group commit of {} reviews failed, writing them one by one: {}", group.size(), e.getMessage());
+        }
+        for (ReviewSubmission submission : group) {
+            Review review = submission.getReview();
+            // IDs assigned by the rolled-back attempt are discarded
+            review.setReviewId(null);
+            try {
+                batchWriter.insert(List.of(review));
+                submission.written(Instant.now());
+                written.incrementAndGet();
+            } catch (RuntimeException e) {
+                fail(submission, e);
+            }
+        }
+    }
+
+    private void fail(ReviewSubmission submission, Throwable e) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        logger.warn("Review submission {} failed: {}", submission.getTrackingId(), message);
+        submission.failed(message, Instant.now());
+        failed.incrementAndGet();
+    }
+
+    private void expire(Instant now) {
+        Instant cutoff = now.minus(statusRetention);
+        submissions.values().removeIf(submission ->
+                submission.getCompletedAt() != null && submission.getCompletedAt().isBefore(cutoff));
+    }
+}
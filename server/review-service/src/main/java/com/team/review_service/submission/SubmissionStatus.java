@@ -0,0 +1,13 @@
+package com.team.review_service.submission;
+
+/**
+ * Lifecycle of a write-behind review submission.
+ */
+public enum SubmissionStatus {
+    /** Accepted and waiting in the queue. */
+    QUEUED,
+    /** Committed; the review has its ID. */
+    WRITTEN,
+    /** Could not be written, even on its own. */
+    FAILED
+}
@@ -0,0 +1,24 @@
+-- Per-course rating aggregates, maintained in the same transaction as every review insert and delete
+CREATE TABLE course_rating_stats (
+  course_id     VARCHAR(10)  NOT NULL,
+  review_count  BIGINT       NOT NULL,
+  rating_sum    BIGINT       NOT NULL,
+  stars_0       BIGINT       NOT NULL DEFAULT 0,
+  stars_1       BIGINT       NOT NULL DEFAULT 0,
+  stars_2       BIGINT       NOT NULL DEFAULT 0,
+  stars_3       BIGINT       NOT NULL DEFAULT 0,
+  stars_4       BIGINT       NOT NULL DEFAULT 0,
+  stars_5       BIGINT       NOT NULL DEFAULT 0,
+  PRIMARY KEY (course_id)
+);
+
+INSERT INTO course_rating_stats (course_id, review_count, rating_sum, stars_0, stars_1, stars_2, stars_3, stars_4, stars_5)
+SELECT course_id, COUNT(*), SUM(rating),
+       SUM(CASE WHEN rating = 0 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 2 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 4 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN rating = 5 THEN 1 ELSE 0 END)
+FROM reviews
+GROUP BY course_id;
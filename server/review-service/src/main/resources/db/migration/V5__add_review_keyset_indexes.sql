@@ -0,0 +1,9 @@
+-- Keyset pagination and streaming read reviews in (created_at, review_id) order, overall or per course or
+-- student. The composite indexes serve those range scans without a filesort and replace the single-column
+-- indexes on course_id and student_id, which are their prefixes.
+ALTER TABLE reviews
+  DROP INDEX idx_course,
+  DROP INDEX idx_student,
+  ADD INDEX idx_created (created_at, review_id),
+  ADD INDEX idx_course_created (course_id, created_at, review_id),
+  ADD INDEX idx_student_created (student_id, created_at, review_id);
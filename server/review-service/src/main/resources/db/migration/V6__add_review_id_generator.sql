@@ -0,0 +1,14 @@
+-- Review IDs come from a pooled table generator instead of AUTO_INCREMENT, so that Hibernate can batch
+-- review inserts. Each instance reserves 50 IDs per round trip; the generator hands out the 50 IDs up to the
+-- stored value, so the first block starts above the existing reviews.
+CREATE TABLE id_generator (
+  name      VARCHAR(64)  NOT NULL,
+  next_val  BIGINT       NOT NULL,
+  PRIMARY KEY (name)
+);
+
+INSERT INTO id_generator (name, next_val)
+SELECT 'reviews', COALESCE(MAX(review_id), 0) + 51 FROM reviews;
+
+-- Inserts that bypass the generator would collide with reserved blocks; make them fail instead
+ALTER TABLE reviews MODIFY review_id INT NOT NULL;
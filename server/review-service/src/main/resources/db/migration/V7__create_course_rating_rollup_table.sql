@@ -0,0 +1,21 @@
+-- Per-course review count and rating sum per day and per week (starting Monday) of created_at, maintained in the
+-- same transaction as every review insert and delete
+CREATE TABLE course_rating_rollup (
+  course_id     VARCHAR(10)  NOT NULL,
+  granularity   VARCHAR(5)   NOT NULL,
+  bucket_start  DATE         NOT NULL,
+  review_count  BIGINT       NOT NULL,
+  rating_sum    BIGINT       NOT NULL,
+  PRIMARY KEY (course_id, granularity, bucket_start),
+  INDEX idx_granularity_bucket (granularity, bucket_start)
+);
+
+INSERT INTO course_rating_rollup (course_id, granularity, bucket_start, review_count, rating_sum)
+SELECT course_id, 'DAY', DATE(created_at), COUNT(*), SUM(rating)
+FROM reviews
+GROUP BY course_id, DATE(created_at);
+
+INSERT INTO course_rating_rollup (course_id, granularity, bucket_start, review_count, rating_sum)
+SELECT course_id, 'WEEK', DATE_SUB(DATE(created_at), INTERVAL WEEKDAY(created_at) DAY), COUNT(*), SUM(rating)
+FROM reviews
+GROUP BY course_id, DATE_SUB(DATE(created_at), INTERVAL WEEKDAY(created_at) DAY);
@@ -0,0 +1,73 @@
+package com.team.review_service;
+
+import com.team.review_service.stats.RatingDistribution;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class RatingDistributionTests {
+
+    // Ratings 1, 3, 3, 4, 4, 4, 5, 5, 5, 5
+    private final RatingDistribution distribution = new RatingDistribution(new long[] {0, 1, 0, 2, 3, 4});
+
+    @Test
+    void moments_shouldMatchRatings() {
+        assertThat(distribution.getCount()).isEqualTo(10);
+        assertThat(distribution.mean()).isCloseTo(3.9, within(1e-9));
+        assertThat(distribution.standardDeviation()).isCloseTo(1.2206555615733703, within(1e-9));
+    }
+
+    @Test
+    void percentile_shouldUseNearestRank() {
+        assertThat(distribution.percentile(10)).isEqualTo(1);
+        assertThat(distribution.percentile(25)).isEqualTo(3);
+        assertThat(distribution.percentile(50)).isEqualTo(4);
+        assertThat(distribution.percentile(75)).isEqualTo(5);
+        assertThat(distribution.percentile(100)).isEqualTo(5);
+        assertThatThrownBy(() -> distribution.percentile(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void median_whenCountEven_shouldAverageMiddleRatings() {
+        assertThat(distribution.median()).isEqualTo(4.0);
+        assertThat(new RatingDistribution(new long[] {0, 0, 1, 1, 0, 0}).median()).isEqualTo(2.5);
+        assertThat(new RatingDistribution(new long[] {0, 0, 1, 1, 1, 0}).median()).isEqualTo(3.0);
+    }
+
+    @Test
+    void wilsonInterval_shouldBoundPositiveShare() {
+        RatingDistribution.Interval interval = distribution.wilsonInterval(RatingDistribution.Z_95);
+
+        assertThat(distribution.positiveShare()).isEqualTo(0.7);
+        assertThat(interval.lower()).isCloseTo(0.39677814746114537, within(1e-9));
+        assertThat(interval.upper()).isCloseTo(0.8922087325936989, within(1e-9));
+    }
+
+    @Test
+    void wilsonInterval_shouldRankFewPerfectReviewsBelowManyGoodOnes() {
+        RatingDistribution threeOfThree = new RatingDistribution(new long[] {0, 0, 0, 0, 0, 3});
+        RatingDistribution ninetyFiveOfHundred = new RatingDistribution(new long[] {0, 5, 0, 0, 45, 50});
+
+        assertThat(threeOfThree.wilsonInterval(RatingDistribution.Z_95).upper()).isCloseTo(1.0, within(1e-9));
+        assertThat(threeOfThree.wilsonInterval(RatingDistribution.Z_95).lower())
+                .isLessThan(ninetyFiveOfHundred.wilsonInterval(RatingDistribution.Z_95).lower());
+    }
+
+    @Test
+    void bayesianInterval_shouldShrinkTowardsMiddleOfScale() {
+        RatingDistribution.Interval interval = distribution.bayesianInterval(RatingDistribution.Z_95);
+
+        assertThat(distribution.bayesianMean()).isCloseTo(3.375, within(1e-9));
+        assertThat(interval.lower()).isCloseTo(2.625740590839588, within(1e-9));
+        assertThat(interval.upper()).isCloseTo(4.124259409160413, within(1e-9));
+        assertThat(new RatingDistribution(new long[6]).bayesianMean()).isEqualTo(2.5);
+    }
+
+    @Test
+    void constructor_whenHistogramHasWrongLength_shouldThrow() {
+        assertThatThrownBy(() -> new RatingDistribution(new long[5])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package com.team.review_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.team.review_service.model.CourseRatingStats;
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.ReviewRepository;
+import com.team.review_service.service.RatingStatsReconciler;
+import com.team.review_service.service.ReviewService;
+
+/**
+ * The rating stats must equal an aggregation over the reviews after any mix of parallel creates and deletes,
+ * and the reconciliation job must repair stats that were changed behind the service's back.
+ * Not transactional: every writer commits on its own thread, as in production.
+ */
+@SpringBootTest
+class RatingStatsConcurrencyTests {
+    private static final String[] COURSES = {"IN0001", "IN0002"};
+    private static final int THREADS = 8;
+    private static final int REVIEWS_PER_THREAD = 25;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RatingStatsReconciler reconciler;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CourseRatingStatsRepository ratingStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllInBatch();
+        ratingStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void parallelCreatesAndDeletes_shouldKeepStatsExact() throws Exception {
+        // Every course has its stats row before the parallel phase; only the counters are contended
+        List<Integer> created = Collections.synchronizedList(new ArrayList<>());
+        for (String course : COURSES) {
+            created.add(reviewService.create(review(course, 3, 0)).orElseThrow().getReviewId());
+        }
+
+        runInParallel(thread -> () -> {
+            for (int i = 0; i < REVIEWS_PER_THREAD; i++) {
+                Review review = review(COURSES[i % COURSES.length], (thread + i) % 6, thread * 100 + i);
+                created.add(reviewService.create(review).orElseThrow().getReviewId());
+            }
+            return null;
+        });
+        assertStatsMatchReviews();
+        assertThat(ratingStatsRepository.findById(COURSES[0]).orElseThrow().getReviewCount())
+                .isEqualTo(1 + THREADS * REVIEWS_PER_THREAD / 2);
+
+        // Each review is deleted by two threads at once; only one of them may uncount it
+        List<Integer> toDelete = new ArrayList<>(created.subList(0, created.size() / 2));
+        runInParallel(thread -> () -> {
+            for (int i = thread / 2; i < toDelete.size(); i += THREADS / 2) {
+                reviewService.deleteReview(toDelete.get(i));
+            }
+            return null;
+        });
+        assertStatsMatchReviews();
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcile_shouldRepairStatsChangedOutsideTheService() {
+        reviewService.create(review(COURSES[0], 5, 1));
+        reviewService.create(review(COURSES[0], 4, 2));
+        reviewService.create(review(COURSES[1], 1, 3));
+        jdbcTemplate.update("UPDATE course_rating_stats SET review_count = 7, stars_5 = 6 WHERE course_id = ?", COURSES[0]);
+        jdbcTemplate.update("DELETE FROM course_rating_stats WHERE course_id = ?", COURSES[1]);
+        jdbcTemplate.update("INSERT INTO course_rating_stats (course_id, review_count, rating_sum, stars_0, stars_1, "
+                + "stars_2, stars_3, stars_4, stars_5) VALUES ('IN9999', 1, 2, 0, 0, 1, 0, 0, 0)");
+
+        assertThat(reconciler.reconcile()).isEqualTo(3);
+
+        assertStatsMatchReviews();
+        assertThat(ratingStatsRepository.findById("IN9999")).isEmpty();
+        assertThat(reviewService.getAverageRatingByCourseId(COURSES[0])).contains(4.5);
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    private void assertStatsMatchReviews() {
+        for (String course : COURSES) {
+            long[] histogram = new long[CourseRatingStats.MAX_RATING + 1];
+            for (Review review : reviewRepository.findByCourseId(course)) {
+                histogram[review.getRating()]++;
+            }
+            CourseRatingStats expected = new CourseRatingStats(course, histogram);
+            CourseRatingStats stored = ratingStatsRepository.findById(course).orElseThrow();
+            assertThat(stored.getHistogram()).containsExactly(expected.getHistogram());
+            assertThat(stored.getReviewCount()).isEqualTo(expected.getReviewCount());
+            assertThat(stored.getRatingSum()).isEqualTo(expected.getRatingSum());
+        }
+    }
+
+    private static void runInParallel(java.util.function.IntFunction<Callable<Void>> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(task.apply(thread)));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static Review review(String courseId, int rating, int student) {
+        Review review = new Review();
+        review.setCourseId(courseId);
+        review.setStudentMatrNr(String.format("%08d", student));
+        review.setRating((byte) rating);
+        review.setReviewText("Review " + student);
+        return review;
+    }
+}
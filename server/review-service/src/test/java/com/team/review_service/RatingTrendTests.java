@@ -0,0 +1,167 @@
+package com.team.review_service;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.CourseRatingRollupRepository;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.ReviewBatchWriter;
+import com.team.review_service.repository.ReviewRepository;
+import com.team.review_service.service.ReviewService;
+
+/**
+ * Rating series and trending courses over HTTP, read from rollups maintained by the write paths. Not
+ * transactional, since the rollups are written in the transactions of the reviews.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RatingTrendTests {
+    private final LocalDate today = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewBatchWriter batchWriter;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CourseRatingStatsRepository ratingStatsRepository;
+
+    @Autowired
+    private CourseRatingRollupRepository rollupRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllInBatch();
+        ratingStatsRepository.deleteAllInBatch();
+        rollupRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void dailySeries_shouldIncludeEmptyDays() throws Exception {
+        insert("IN2000", today.minusDays(2), 4, 2);
+        insert("IN2000", today, 5);
+        insert("IN3000", today, 1);
+
+        mockMvc.perform(get("/courses/IN2000/rating-series")
+                        .param("from", today.minusDays(3).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].reviewCount").value(0))
+                .andExpect(jsonPath("$[0].averageRating").doesNotExist())
+                .andExpect(jsonPath("$[1].bucketStart").value(today.minusDays(2).toString()))
+                .andExpect(jsonPath("$[1].reviewCount").value(2))
+                .andExpect(jsonPath("$[1].averageRating").value(3.0))
+                .andExpect(jsonPath("$[3].reviewCount").value(1))
+                .andExpect(jsonPath("$[3].averageRating").value(5.0));
+    }
+
+    @Test
+    void weeklySeries_shouldBucketByMonday() throws Exception {
+        LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        insert("IN2000", monday, 3);
+        insert("IN2000", monday.plusDays(6), 5);
+        insert("IN2000", monday.plusDays(7), 1);
+
+        mockMvc.perform(get("/courses/IN2000/rating-series")
+                        .param("granularity", "week")
+                        .param("from", monday.plusDays(3).toString())
+                        .param("to", monday.plusDays(7).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].bucketStart").value(monday.toString()))
+                .andExpect(jsonPath("$[0].reviewCount").value(2))
+                .andExpect(jsonPath("$[0].averageRating").value(4.0))
+                .andExpect(jsonPath("$[1].reviewCount").value(1));
+    }
+
+    @Test
+    void deletedReview_shouldLeaveSeries() throws Exception {
+        Review created = reviewService.create(review("IN2000", null, 4)).orElseThrow();
+        reviewService.deleteReview(created.getReviewId());
+
+        mockMvc.perform(get("/courses/IN2000/rating-series").param("from", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].reviewCount").value(0));
+    }
+
+    @Test
+    void trending_shouldRankRecentReviewsFirst() throws Exception {
+        insert("IN2000", today, 3, 4, 5);
+        insert("IN3000", today.minusDays(25), 5, 5, 5, 5, 5);
+        insert("IN4000", today.minusDays(40), 5, 5, 5, 5, 5, 5, 5, 5);
+
+        mockMvc.perform(get("/courses/trending").param("days", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].courseId").value("IN2000"))
+                .andExpect(jsonPath("$[0].score").value(3.0))
+                .andExpect(jsonPath("$[0].reviewCount").value(3))
+                .andExpect(jsonPath("$[0].averageRating").value(4.0))
+                .andExpect(jsonPath("$[1].courseId").value("IN3000"))
+                // 25 days at a half-life of 7.5 days
+                .andExpect(jsonPath("$[1].score").value(closeTo(5 * Math.pow(0.5, 25 / 7.5), 1e-9)));
+
+        mockMvc.perform(get("/courses/trending").param("days", "30").param("limit", "1"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void invalidParameters_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/courses/trending").param("days", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/trending").param("limit", "101")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/IN2000/rating-series").param("granularity", "month"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/IN2000/rating-series")
+                        .param("from", today.toString()).param("to", today.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/IN2000/rating-series")
+                        .param("from", today.minusYears(2).toString()).param("to", today.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void insert(String courseId, LocalDate day, int... ratings) {
+        List<Review> reviews = new ArrayList<>();
+        for (int rating : ratings) {
+            reviews.add(review(courseId, day.atTime(12, 0), rating));
+        }
+        batchWriter.insert(reviews);
+    }
+
+    private static Review review(String courseId, LocalDateTime createdAt, int rating) {
+        Review review = new Review();
+        review.setCourseId(courseId);
+        review.setStudentMatrNr("01234567");
+        review.setRating((byte) rating);
+        review.setReviewText("Review of " + courseId);
+        review.setCreatedAt(createdAt);
+        return review;
+    }
+}
@@ -1,10 +1,18 @@
 package com.team.review_service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.team.review_service.controller.ReviewController;
 import com.team.review_service.dto.ReviewDTO;
+import com.team.review_service.dto.ReviewPage;
+import com.team.review_service.mapper.ReviewMapper;
+import com.team.review_service.model.CourseRatingStats;
 import com.team.review_service.model.Review;
+import com.team.review_service.service.ReviewExportService;
 import com.team.review_service.service.ReviewService;
+import com.team.review_service.submission.ReviewSubmission;
+import com.team.review_service.submission.ReviewWriteBehindService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -17,14 +25,16 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +48,9 @@ public class ReviewControllerTests {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private ReviewWriteBehindService writeBehindService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -52,10 +65,22 @@ public class ReviewControllerTests {
         public ReviewService reviewService() {
             return Mockito.mock(ReviewService.class);
         }
+
+        @Bean
+        public ReviewExportService reviewExportService() {
+            return Mockito.mock(ReviewExportService.class);
+        }
+
+        @Bean
+        public ReviewWriteBehindService reviewWriteBehindService() {
+            return Mockito.mock(ReviewWriteBehindService.class);
+        }
     }
 
     @BeforeEach
     void setUp() {
+        // The mocks are context beans shared by all tests
+        Mockito.reset(reviewService, writeBehindService);
         // reviewEntity is what the mocked service will work with and return.
         reviewEntity = new Review();
         reviewEntity.setReviewId(1);
@@ -98,6 +123,62 @@ public class ReviewControllerTests {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void createReview_whenAsyncPreferred_shouldAcceptAndReturnTrackingId() throws Exception {
+        ReviewDTO requestDto = new ReviewDTO(null, "IN2000", "01234567", (byte) 4, "Great course!", null);
+        ReviewSubmission submission = new ReviewSubmission(UUID.randomUUID(), reviewEntity);
+        given(writeBehindService.submit(any(Review.class))).willReturn(Optional.of(submission));
+
+        mockMvc.perform(post("/reviews")
+                        .header("Prefer", "wait=5, respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "http://localhost/reviews/submissions/" + submission.getTrackingId()))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.trackingId").value(submission.getTrackingId().toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        verify(reviewService, never()).create(any(Review.class));
+    }
+
+    @Test
+    void createReview_whenAsyncQueueFull_shouldReturnTooManyRequests() throws Exception {
+        ReviewDTO requestDto = new ReviewDTO(null, "IN2000", "01234567", (byte) 4, "Great course!", null);
+        given(writeBehindService.submit(any(Review.class))).willReturn(Optional.empty());
+
+        mockMvc.perform(post("/reviews")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void createReview_whenAsyncAndRatingOutOfRange_shouldReturnBadRequest() throws Exception {
+        ReviewDTO requestDto = new ReviewDTO(null, "IN2000", "01234567", (byte) 9, "Great course!", null);
+
+        mockMvc.perform(post("/reviews")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isBadRequest());
+        verify(writeBehindService, never()).submit(any(Review.class));
+    }
+
+    @Test
+    void getSubmission_shouldReturnStatusOrNotFound() throws Exception {
+        ReviewSubmission submission = new ReviewSubmission(UUID.randomUUID(), reviewEntity);
+        given(writeBehindService.getSubmission(any(UUID.class))).willReturn(Optional.empty());
+        given(writeBehindService.getSubmission(submission.getTrackingId())).willReturn(Optional.of(submission));
+
+        mockMvc.perform(get("/reviews/submissions/" + submission.getTrackingId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        mockMvc.perform(get("/reviews/submissions/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void getReviewById_whenReviewExists() throws Exception {
         given(reviewService.getReviewById(1)).willReturn(Optional.of(reviewEntity));
@@ -122,28 +203,47 @@ public class ReviewControllerTests {
 
     @Test
     void getReviewsByCourseId() throws Exception {
-        given(reviewService.getReviewsByCourseId("IN2000")).willReturn(List.of(reviewEntity));
+        given(reviewService.getReviewPage("IN2000", null, null, 20))
+                .willReturn(new ReviewPage(List.of(ReviewMapper.toDto(reviewEntity)), "next"));
 
         mockMvc.perform(get("/courses/IN2000/reviews"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"))
                 .andExpect(jsonPath("$[0].reviewId").value(reviewEntity.getReviewId()))
                 .andExpect(jsonPath("$[0].courseId").value(reviewEntity.getCourseId()))
                 .andExpect(jsonPath("$[0].studentMatrNr").value(reviewEntity.getStudentMatrNr()))
                 .andExpect(jsonPath("$[0].createdAt").value(fixedCreationTimeString));
     }
 
+    @Test
+    void getReviewsByCourseId_whenCborAccepted_shouldReturnCbor() throws Exception {
+        given(reviewService.getReviewPage("IN2000", null, null, 20))
+                .willReturn(new ReviewPage(List.of(ReviewMapper.toDto(reviewEntity)), null));
+
+        byte[] body = mockMvc.perform(get("/courses/IN2000/reviews").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode reviews = new CBORMapper().readTree(body);
+        assertEquals(reviewEntity.getCourseId(), reviews.get(0).get("courseId").asText());
+        assertEquals(4, reviews.get(0).get("rating").asInt());
+    }
+
     @Test
     void getReviewsByCourseId_NoReviews() throws Exception {
-        given(reviewService.getReviewsByCourseId("INXXXX")).willReturn(Collections.emptyList());
+        given(reviewService.getReviewPage("INXXXX", null, null, 20)).willReturn(new ReviewPage(List.of(), null));
 
         mockMvc.perform(get("/courses/INXXXX/reviews"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$").isEmpty());
     }
 
     @Test
     void getReviewsByStudentMatrNr() throws Exception {
-        given(reviewService.getReviewsByStudentMatrNr("01234567")).willReturn(List.of(reviewEntity));
+        given(reviewService.getReviewPage(null, "01234567", null, 20))
+                .willReturn(new ReviewPage(List.of(ReviewMapper.toDto(reviewEntity)), null));
 
         mockMvc.perform(get("/students/01234567/reviews"))
                 .andExpect(status().isOk())
@@ -169,6 +269,65 @@ public class ReviewControllerTests {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getRatingDistributionByCourseId_shouldReturnPercentilesAndIntervals() throws Exception {
+        given(reviewService.getRatingStats("IN2000"))
+                .willReturn(Optional.of(new CourseRatingStats("IN2000", new long[] {0, 1, 0, 2, 3, 4})));
+
+        mockMvc.perform(get("/courses/IN2000/rating-distribution"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reviewCount").value(10))
+                .andExpect(jsonPath("$.histogram.5").value(4))
+                .andExpect(jsonPath("$.averageRating").value(3.9))
+                .andExpect(jsonPath("$.median").value(4.0))
+                .andExpect(jsonPath("$.percentiles.10").value(1))
+                .andExpect(jsonPath("$.percentiles.90").value(5))
+                .andExpect(jsonPath("$.positiveShare").value(0.7))
+                .andExpect(jsonPath("$.positiveShareInterval.lower").isNumber())
+                .andExpect(jsonPath("$.bayesianAverage").value(3.375))
+                .andExpect(jsonPath("$.bayesianAverageInterval.upper").isNumber())
+                .andExpect(jsonPath("$.confidenceLevel").value(0.95));
+    }
+
+    @Test
+    void getRatingDistributionByCourseId_whenNoReviews_shouldReturnNotFound() throws Exception {
+        given(reviewService.getRatingStats("INXXXX")).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/courses/INXXXX/rating-distribution"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getRatingStatsByCourseIds_shouldReturnStatsOfEveryRequestedCourse() throws Exception {
+        given(reviewService.getRatingStats(List.of("IN2000", "IN3000")))
+                .willReturn(List.of(new CourseRatingStats("IN2000", new long[] {0, 0, 0, 0, 1, 1}),
+                        new CourseRatingStats("IN3000", new long[6])));
+
+        mockMvc.perform(get("/courses/rating-stats").param("ids", "IN2000,IN3000, IN2000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].courseId").value("IN2000"))
+                .andExpect(jsonPath("$[0].reviewCount").value(2))
+                .andExpect(jsonPath("$[0].averageRating").value(4.5))
+                .andExpect(jsonPath("$[0].histogram.4").value(1))
+                .andExpect(jsonPath("$[1].courseId").value("IN3000"))
+                .andExpect(jsonPath("$[1].reviewCount").value(0))
+                .andExpect(jsonPath("$[1].averageRating").doesNotExist());
+    }
+
+    @Test
+    void getRatingStatsByCourseIds_whenNoOrTooManyIds_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/courses/rating-stats").param("ids", " "))
+                .andExpect(status().isBadRequest());
+
+        String[] ids = new String[101];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "IN" + i;
+        }
+        mockMvc.perform(get("/courses/rating-stats").param("ids", ids))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteReview() throws Exception {
         doNothing().when(reviewService).deleteReview(1);
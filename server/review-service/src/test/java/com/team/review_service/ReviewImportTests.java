@@ -0,0 +1,159 @@
+package com.team.review_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.ReviewRepository;
+import com.team.review_service.service.RatingStatsReconciler;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bulk import over HTTP. Not transactional, since every import batch commits on its own.
+ */
+@SpringBootTest(properties = {"review.import.batch-size=200", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureMockMvc
+class ReviewImportTests {
+    private static final LocalDateTime LEGACY_TIME = LocalDateTime.of(2023, 10, 16, 9, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CourseRatingStatsRepository ratingStatsRepository;
+
+    @Autowired
+    private RatingStatsReconciler reconciler;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllInBatch();
+        ratingStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void importNdjson_shouldInsertInBatchesAndMaintainRatingStats() throws Exception {
+        int count = 500;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            body.append(objectMapper.writeValueAsString(review("IN" + (1000 + i % 7), "%08d".formatted(i), i % 6)))
+                    .append('\n');
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/admin/reviews/import").contentType("application/x-ndjson").content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(count))
+                .andExpect(jsonPath("$.imported").value(count))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.completed").value(true));
+
+        // JDBC batches plus one ID block per 50 reviews, instead of one statement per review
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(count);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(count / 10);
+        List<Review> reviews = reviewRepository.findAll();
+        assertThat(reviews).hasSize(count)
+                .allSatisfy(review -> assertThat(review.getCreatedAt()).isEqualTo(LEGACY_TIME));
+        assertThat(reviews.stream().map(Review::getReviewId).distinct()).hasSize(count);
+        assertThat(ratingStatsRepository.findById("IN1000").orElseThrow().getReviewCount()).isEqualTo(72);
+        assertThat(reconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void importJsonArray_shouldSkipAndReportInvalidReviews() throws Exception {
+        List<Object> items = new ArrayList<>();
+        items.add(review("IN2000", "00000001", 5));
+        items.add(review("IN2000", "00000002", 7));
+        items.add(Map.of("courseId", "IN2000", "studentMatrNr", "00000003", "rating", "five"));
+        items.add(review("", "00000004", 3));
+        items.add(review("IN2000", "123456789", 3));
+        items.add(review("IN2000", "00000006", 4));
+
+        mockMvc.perform(post("/admin/reviews/import").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(6))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.errors[*].index").value(contains(1, 2, 3, 4)))
+                .andExpect(jsonPath("$.errors[0].message").value("rating must be between 0 and 5"));
+
+        assertThat(ratingStatsRepository.findById("IN2000").orElseThrow().getRatingSum()).isEqualTo(9);
+    }
+
+    @Test
+    void importMalformedBody_shouldKeepReviewsBeforeTheBreak() throws Exception {
+        String body = objectMapper.writeValueAsString(review("IN3000", "00000001", 2)) + "\n"
+                + objectMapper.writeValueAsString(review("IN3000", "00000002", 4)) + "\n"
+                + "{\"courseId\": \"IN3000\", \"rating\": \n";
+
+        mockMvc.perform(post("/admin/reviews/import").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.completed").value(false))
+                .andExpect(jsonPath("$.errors[0].index").value(2));
+
+        assertThat(reviewRepository.findByCourseId("IN3000")).hasSize(2);
+    }
+
+    @Test
+    void importReviewWithFractionalSeconds_shouldStoreWholeSeconds() throws Exception {
+        // Sunday night: rounded up, it would land in the next day and the next week's rollup
+        Map<String, Object> review = review("IN4000", "00000001", 3);
+        review.put("createdAt", "2023-10-15T23:59:59.600");
+
+        String body = objectMapper.writeValueAsString(review) + "\n";
+
+        mockMvc.perform(post("/admin/reviews/import").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+
+        assertThat(reviewRepository.findByCourseId("IN4000")).singleElement()
+                .extracting(Review::getCreatedAt).isEqualTo(LocalDateTime.of(2023, 10, 15, 23, 59, 59));
+    }
+
+    private Map<String, Object> review(String courseId, String studentMatrNr, int rating) {
+        Map<String, Object> review = new LinkedHashMap<>();
+        review.put("reviewId", 999);
+        review.put("courseId", courseId);
+        review.put("studentMatrNr", studentMatrNr);
+        review.put("rating", rating);
+        review.put("reviewText", "Imported review");
+        review.put("createdAt", LEGACY_TIME.toString());
+        return review;
+    }
+}
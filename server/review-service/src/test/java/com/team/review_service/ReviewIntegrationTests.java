@@ -67,5 +67,72 @@ class ReviewIntegrationTests {
                 .andExpect(jsonPath("$.createdAt").exists()); 
             
     }
-                
+
+    @Test
+    void shouldAverageRatingsPerCourse() throws Exception {
+        for (byte rating : new byte[] {4, 5}) {
+            ReviewDTO review = new ReviewDTO();
+            review.setStudentMatrNr("1234567" + rating);
+            review.setCourseId("IN2000");
+            review.setRating(rating);
+            mockMvc.perform(post("/reviews")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(review)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/courses/average-ratings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.IN2000").value(4.5));
+    }
+
+    @Test
+    void shouldReturnRatingStatsOfCourse() throws Exception {
+        for (byte rating : new byte[] {5, 3, 5}) {
+            ReviewDTO review = new ReviewDTO();
+            review.setStudentMatrNr("7654321" + rating);
+            review.setCourseId("IN2001");
+            review.setRating(rating);
+            mockMvc.perform(post("/reviews")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(review)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/courses/IN2001/rating-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courseId").value("IN2001"))
+                .andExpect(jsonPath("$.reviewCount").value(3))
+                .andExpect(jsonPath("$.averageRating").value(13.0 / 3))
+                .andExpect(jsonPath("$.histogram.5").value(2))
+                .andExpect(jsonPath("$.histogram.3").value(1))
+                .andExpect(jsonPath("$.histogram.0").value(0));
+
+        mockMvc.perform(get("/courses/IN9999/rating-stats"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnRatingStatsOfManyCoursesInOneRequest() throws Exception {
+        String[] courseIds = {"IN2002", "IN2003", "IN2003"};
+        for (int i = 0; i < courseIds.length; i++) {
+            ReviewDTO review = new ReviewDTO();
+            review.setStudentMatrNr("2222222" + i);
+            review.setCourseId(courseIds[i]);
+            review.setRating((byte) 4);
+            mockMvc.perform(post("/reviews")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(review)))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/courses/rating-stats").param("ids", "IN2003,IN2002,IN9999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].courseId").value("IN2003"))
+                .andExpect(jsonPath("$[0].reviewCount").value(2))
+                .andExpect(jsonPath("$[1].courseId").value("IN2002"))
+                .andExpect(jsonPath("$[1].averageRating").value(4.0))
+                .andExpect(jsonPath("$[2].courseId").value("IN9999"))
+                .andExpect(jsonPath("$[2].reviewCount").value(0));
+    }
 }
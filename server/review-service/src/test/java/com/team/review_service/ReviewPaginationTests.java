@@ -0,0 +1,157 @@
+package com.team.review_service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.review_service.dto.ReviewDTO;
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.ReviewRepository;
+
+/**
+ * Walks the keyset pages and the NDJSON stream of reviews over HTTP. Not transactional: the stream is
+ * written on an async thread with its own connection, which must see the committed test data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReviewPaginationTests {
+    private static final int REVIEWS = 23;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        cleanUp();
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < REVIEWS; i++) {
+            Review review = new Review();
+            review.setCourseId(i % 3 == 0 ? "IN0003" : "IN0001");
+            review.setStudentMatrNr(String.format("%08d", i % 4));
+            review.setRating((byte) (i % 6));
+            review.setReviewText("Review " + i);
+            reviews.add(review);
+        }
+        reviewRepository.saveAll(reviews);
+        // Many reviews share a timestamp, as they do at MySQL's second precision; review_id breaks the ties
+        jdbcTemplate.update("UPDATE reviews SET created_at = TIMESTAMP '2025-01-01 10:00:00' WHERE MOD(review_id, 2) = 0");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        reviewRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void walkingAllPages_shouldReturnEveryReviewOnceInKeysetOrder() throws Exception {
+        assertThat(walk("/reviews", 5)).isEqualTo(expectedOrder(null, null));
+    }
+
+    @Test
+    void walkingCoursePages_shouldOnlyReturnReviewsOfTheCourse() throws Exception {
+        assertThat(walk("/courses/IN0003/reviews", 3)).isEqualTo(expectedOrder("IN0003", null));
+    }
+
+    @Test
+    void walkingStudentPages_shouldOnlyReturnReviewsOfTheStudent() throws Exception {
+        assertThat(walk("/students/00000001/reviews", 2)).isEqualTo(expectedOrder(null, "00000001"));
+    }
+
+    @Test
+    void getReviewPage_whenCursorOrLimitInvalid_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/reviews").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses/IN0001/reviews").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReviews_withoutPagingParameters_shouldReturnFirstPageOfDefaultSize() throws Exception {
+        MvcResult result = mockMvc.perform(get("/reviews"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        List<ReviewDTO> page = objectMapper.readValue(result.getResponse().getContentAsString(),
+                new TypeReference<List<ReviewDTO>>() { });
+        assertThat(page).extracting(ReviewDTO::getReviewId).isEqualTo(expectedOrder(null, null).subList(0, 20));
+        assertThat(result.getResponse().getHeader("X-Next-Cursor")).isNotNull();
+    }
+
+    @Test
+    void streamReviews_shouldWriteOneJsonLinePerReviewInKeysetOrder() throws Exception {
+        MvcResult started = mockMvc.perform(get("/courses/IN0001/reviews").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String body = started.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+        List<Integer> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            ReviewDTO review = objectMapper.readValue(line, ReviewDTO.class);
+            assertThat(review.getCourseId()).isEqualTo("IN0001");
+            assertThat(review.getCreatedAt()).isNotNull();
+            ids.add(review.getReviewId());
+        }
+        assertThat(ids).isEqualTo(expectedOrder("IN0001", null));
+    }
+
+    /** Follows the next-page cursor until the last page and returns the review IDs in order. */
+    private List<Integer> walk(String path, int limit) throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get(path).param("limit", String.valueOf(limit));
+            if (cursor != null) {
+                request.param("after", cursor);
+            }
+            MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+            List<ReviewDTO> page = objectMapper.readValue(result.getResponse().getContentAsString(),
+                    new TypeReference<List<ReviewDTO>>() { });
+            assertThat(page).hasSizeLessThanOrEqualTo(limit);
+            page.forEach(review -> ids.add(review.getReviewId()));
+            cursor = result.getResponse().getHeader("X-Next-Cursor");
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Integer> expectedOrder(String courseId, String studentMatrNr) {
+        return reviewRepository.findAll().stream()
+                .filter(review -> courseId == null || review.getCourseId().equals(courseId))
+                .filter(review -> studentMatrNr == null || review.getStudentMatrNr().equals(studentMatrNr))
+                .sorted(Comparator.comparing(Review::getCreatedAt).thenComparing(Review::getReviewId))
+                .map(Review::getReviewId)
+                .toList();
+    }
+}
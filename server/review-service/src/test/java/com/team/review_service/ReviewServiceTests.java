@@ -1,6 +1,10 @@
 package com.team.review_service;
 
+import com.team.review_service.model.CourseRatingStats;
 import com.team.review_service.model.Review;
+import com.team.review_service.repository.CourseRatingRollupWriter;
+import com.team.review_service.repository.CourseRatingStatsRepository;
+import com.team.review_service.repository.CourseRatingStatsWriter;
 import com.team.review_service.repository.ReviewRepository;
 import com.team.review_service.service.ReviewService;
 
@@ -12,7 +16,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +33,15 @@ public class ReviewServiceTests {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private CourseRatingStatsRepository ratingStatsRepository;
+
+    @Mock
+    private CourseRatingStatsWriter ratingStatsWriter;
+
+    @Mock
+    private CourseRatingRollupWriter rollupWriter;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -88,48 +100,39 @@ public class ReviewServiceTests {
     }
 
     @Test
-    void getReviewsByCourseId_shouldReturnListOfReviews() {
-        given(reviewRepository.findByCourseId("IN2000")).willReturn(List.of(review1, review2));
-
-        List<Review> reviews = reviewService.getReviewsByCourseId("IN2000");
-
-        assertThat(reviews).hasSize(2);
-        assertThat(reviews).containsExactlyInAnyOrder(review1, review2);
-    }
-
-    @Test
-    void getReviewsByCourseId_whenNoReviews_shouldReturnEmptyList() {
-        given(reviewRepository.findByCourseId(anyString())).willReturn(Collections.emptyList());
+    void createReview_shouldCountReviewInRatingStats() {
+        given(reviewRepository.save(any(Review.class))).willReturn(review1);
 
-        List<Review> reviews = reviewService.getReviewsByCourseId("NON_EXISTENT_COURSE");
+        reviewService.create(review1);
 
-        assertThat(reviews).isEmpty();
+        verify(ratingStatsWriter).addReviews("IN2000", 4, 1);
+        verify(rollupWriter).addReviews(List.of(review1), 1);
     }
 
     @Test
-    void getReviewsByStudentMatrNr_shouldReturnListOfReviews() {
-        given(reviewRepository.findByStudentMatrNr("01234567")).willReturn(List.of(review1));
-
-        List<Review> reviews = reviewService.getReviewsByStudentMatrNr("01234567");
+    void createReview_whenRatingOutOfRange_shouldReturnEmpty() {
+        review1.setRating((byte) 6);
 
-        assertThat(reviews).hasSize(1);
-        assertThat(reviews).containsExactly(review1);
+        assertThat(reviewService.create(review1)).isNotPresent();
+        verifyNoInteractions(reviewRepository, ratingStatsWriter, rollupWriter);
     }
 
     @Test
     void getAverageRatingByCourseId_whenReviewsExist_shouldReturnAverage() {
-        given(reviewRepository.findByCourseId("IN2000")).willReturn(List.of(review1, review2));
-        // review1 rating 4, review2 rating 5. Average = 4.5
+        // one review with 4 stars, one with 5. Average = 4.5
+        given(ratingStatsRepository.findById("IN2000"))
+                .willReturn(Optional.of(new CourseRatingStats("IN2000", new long[] {0, 0, 0, 0, 1, 1})));
 
         Optional<Double> averageRating = reviewService.getAverageRatingByCourseId("IN2000");
 
         assertThat(averageRating).isPresent();
         assertThat(averageRating.get()).isEqualTo(4.5);
+        verify(reviewRepository, never()).findByCourseId(anyString());
     }
 
     @Test
     void getAverageRatingByCourseId_whenNoReviews_shouldReturnEmpty() {
-        given(reviewRepository.findByCourseId("IN2000")).willReturn(Collections.emptyList());
+        given(ratingStatsRepository.findById("IN2000")).willReturn(Optional.empty());
 
         Optional<Double> averageRating = reviewService.getAverageRatingByCourseId("IN2000");
 
@@ -137,42 +140,62 @@ public class ReviewServiceTests {
     }
     
     @Test
-    void getAverageRatingByCourseId_whenReviewsHaveNullRatings_shouldHandleGracefully() {
-        Review reviewWithNullRating = new Review();
-        reviewWithNullRating.setCourseId("IN3000");
-        // rating is null
-        
-        Review reviewWithValidRating = new Review();
-        reviewWithValidRating.setCourseId("IN3000");
-        reviewWithValidRating.setRating((byte)3);
+    void getRatingStats_forManyCourses_shouldQueryOnceAndKeepRequestOrder() {
+        given(ratingStatsRepository.findAllById(List.of("IN2000", "IN3000", "IN4000")))
+                .willReturn(List.of(new CourseRatingStats("IN4000", new long[] {0, 0, 0, 1, 0, 0}),
+                        new CourseRatingStats("IN2000", new long[] {0, 0, 0, 0, 1, 1})));
+
+        List<CourseRatingStats> stats = reviewService.getRatingStats(List.of("IN2000", "IN3000", "IN4000"));
 
-        given(reviewRepository.findByCourseId("IN3000")).willReturn(List.of(reviewWithNullRating, reviewWithValidRating));
+        assertThat(stats).extracting(CourseRatingStats::getCourseId).containsExactly("IN2000", "IN3000", "IN4000");
+        assertThat(stats).extracting(CourseRatingStats::getReviewCount).containsExactly(2L, 0L, 1L);
+        verify(ratingStatsRepository).findAllById(any());
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void getAverageRatingByCourseId_whenAllReviewsDeleted_shouldReturnEmpty() {
+        given(ratingStatsRepository.findById("IN3000"))
+                .willReturn(Optional.of(new CourseRatingStats("IN3000", new long[6])));
 
         Optional<Double> averageRating = reviewService.getAverageRatingByCourseId("IN3000");
         
-        assertThat(averageRating).isPresent();
-        assertThat(averageRating.get()).isEqualTo(3.0); // Only valid ratings are considered
+        assertThat(averageRating).isNotPresent();
     }
 
 
     @Test
-    void deleteReview_shouldCallRepositoryDeleteById() {
+    void deleteReview_shouldDeleteAndUncountReview() {
         Integer reviewIdToDelete = 1;
-        doNothing().when(reviewRepository).deleteById(reviewIdToDelete);
+        given(reviewRepository.findById(reviewIdToDelete)).willReturn(Optional.of(review1));
+        given(reviewRepository.deleteReview(reviewIdToDelete)).willReturn(1);
 
         reviewService.deleteReview(reviewIdToDelete);
 
-        verify(reviewRepository).deleteById(reviewIdToDelete);
+        verify(reviewRepository).deleteReview(reviewIdToDelete);
+        verify(ratingStatsWriter).addReviews("IN2000", 4, -1);
+        verify(rollupWriter).addReviews(List.of(review1), -1);
+    }
+
+    @Test
+    void deleteReview_whenDeletedConcurrently_shouldNotUncountTwice() {
+        given(reviewRepository.findById(1)).willReturn(Optional.of(review1));
+        given(reviewRepository.deleteReview(1)).willReturn(0);
+
+        reviewService.deleteReview(1);
+
+        verifyNoInteractions(ratingStatsWriter, rollupWriter);
     }
 
     @Test
-    void deleteReview_whenDeletingNonExistentId_shouldCallRepositoryDeleteByIdAndNotThrowError() {
+    void deleteReview_whenDeletingNonExistentId_shouldNotThrowError() {
         Integer reviewIdToDelete = 999; 
-        doNothing().when(reviewRepository).deleteById(reviewIdToDelete); 
+        given(reviewRepository.findById(reviewIdToDelete)).willReturn(Optional.empty());
 
         // We expect no exception to be thrown by the service
         assertDoesNotThrow(() -> reviewService.deleteReview(reviewIdToDelete));
 
-        verify(reviewRepository).deleteById(reviewIdToDelete);
+        verify(reviewRepository, never()).deleteReview(anyInt());
+        verifyNoInteractions(ratingStatsWriter);
     }
 }
@@ -0,0 +1,145 @@
+package com.team.review_service;
+
+import com.team.review_service.model.Review;
+import com.team.review_service.repository.ReviewBatchWriter;
+import com.team.review_service.submission.ReviewSubmission;
+import com.team.review_service.submission.ReviewWriteBehindService;
+import com.team.review_service.submission.SubmissionStatus;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewWriteBehindServiceTests {
+
+    @Mock
+    private ReviewBatchWriter batchWriter;
+
+    private ReviewWriteBehindService service;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void submit_whenQueueFull_shouldRefuse() {
+        service = newService(2);
+
+        assertThat(service.submit(review("Good"))).isPresent();
+        assertThat(service.submit(review("Good"))).isPresent();
+        assertThat(service.submit(review("Good"))).isEmpty();
+    }
+
+    @Test
+    void stop_shouldDrainQueueInGroupCommits() throws InterruptedException {
+        List<Integer> groupSizes = new ArrayList<>();
+        assignIds(groupSizes);
+        service = newService(100);
+        List<ReviewSubmission> submissions = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            submissions.add(service.submit(review("Review " + i)).orElseThrow());
+        }
+
+        service.start();
+        service.stop();
+
+        assertThat(submissions).allSatisfy(submission -> {
+            assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.WRITTEN);
+            assertThat(submission.getReviewId()).isNotNull();
+        });
+        // Everything was queued before the writer started, so it is written in groups of max-batch-size
+        assertThat(groupSizes).containsExactly(10, 10, 5);
+        assertThat(service.submit(review("Too late"))).isEmpty();
+    }
+
+    @Test
+    void failedGroup_shouldBeRetriedOneByOne() throws InterruptedException {
+        List<Integer> groupSizes = new ArrayList<>();
+        assignIds(groupSizes);
+        service = newService(100);
+        ReviewSubmission first = service.submit(review("Good")).orElseThrow();
+        ReviewSubmission bad = service.submit(review("Bad")).orElseThrow();
+        ReviewSubmission last = service.submit(review("Good")).orElseThrow();
+
+        service.start();
+        service.stop();
+
+        assertThat(first.getStatus()).isEqualTo(SubmissionStatus.WRITTEN);
+        assertThat(last.getStatus()).isEqualTo(SubmissionStatus.WRITTEN);
+        assertThat(bad.getStatus()).isEqualTo(SubmissionStatus.FAILED);
+        assertThat(bad.getError()).isEqualTo("bad review");
+        assertThat(service.getSubmission(bad.getTrackingId())).containsSame(bad);
+        verify(batchWriter, times(4)).insert(anyList());
+    }
+
+    @Test
+    void writerError_shouldFailGroupAndKeepWriting() throws InterruptedException {
+        List<Integer> groupSizes = new ArrayList<>();
+        assignIds(groupSizes);
+        service = newService(100);
+        service.start();
+
+        ReviewSubmission crashed = service.submit(review("Crash")).orElseThrow();
+        while (crashed.getStatus() == SubmissionStatus.QUEUED) {
+            Thread.sleep(10);
+        }
+        ReviewSubmission next = service.submit(review("Good")).orElseThrow();
+        service.stop();
+
+        assertThat(crashed.getStatus()).isEqualTo(SubmissionStatus.FAILED);
+        assertThat(next.getStatus()).isEqualTo(SubmissionStatus.WRITTEN);
+    }
+
+    private ReviewWriteBehindService newService(int capacity) {
+        return new ReviewWriteBehindService(batchWriter, capacity, 10, Duration.ofHours(1), Duration.ofSeconds(10));
+    }
+
+    /**
+     * Lets the mocked writer assign IDs like the database, failing any group with a "Bad" review and throwing an
+     * {@link Error} for a "Crash" review.
+     */
+    private void assignIds(List<Integer> groupSizes) {
+        AtomicInteger ids = new AtomicInteger();
+        doAnswer(invocation -> {
+            List<Review> reviews = invocation.getArgument(0);
+            groupSizes.add(reviews.size());
+            if (reviews.stream().anyMatch(review -> review.getReviewText().equals("Crash"))) {
+                throw new StackOverflowError();
+            }
+            for (Review review : reviews) {
+                review.setReviewId(ids.incrementAndGet());
+            }
+            if (reviews.stream().anyMatch(review -> review.getReviewText().equals("Bad"))) {
+                throw new DataIntegrityViolationException("bad review");
+            }
+            return null;
+        }).when(batchWriter).insert(anyList());
+    }
+
+    private static Review review(String text) {
+        Review review = new Review();
+        review.setCourseId("IN2000");
+        review.setStudentMatrNr("01234567");
+        review.setRating((byte) 4);
+        review.setReviewText(text);
+        return review;
+    }
+}